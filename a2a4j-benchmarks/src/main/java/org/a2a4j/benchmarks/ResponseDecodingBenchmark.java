@@ -0,0 +1,95 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.benchmarks;
+
+import org.a2a4j.client.JsonUtils;
+import org.a2a4j.models.Artifact;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.Role;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.GetTaskResponse;
+import org.a2a4j.models.part.TextPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a response body through an intermediate String with reading it straight from the buffer.
+ * <p>
+ * The response is a task with {@code historySize} messages and as many artifacts, each carrying a paragraph
+ * of text, which makes the body several hundred kilobytes for the largest size. Both benchmarks start from
+ * the received bytes, like the client does. Allocation per response is reported by the GC profiler.
+ * </p>
+ * Run with {@code mvn -P benchmarks package} and
+ * {@code java -jar a2a4j-benchmarks/target/benchmarks.jar ResponseDecoding -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int historySize;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+        String text = "The order was shipped on Monday and is expected to arrive within three business days. ".repeat(4);
+        List<Message> history = new ArrayList<>();
+        List<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < historySize; i++) {
+            history.add(new Message(i % 2 == 0 ? Role.USER : Role.AGENT, text));
+            artifacts.add(Artifact.builder()
+                .name("artifact-" + i)
+                .parts(List.of(TextPart.builder().text(text).build()))
+                .index(i)
+                .build());
+        }
+        Task task = Task.builder()
+            .id("task")
+            .sessionId("session")
+            .status(TaskStatus.builder().state(TaskState.COMPLETED).build())
+            .history(history)
+            .artifacts(artifacts)
+            .build();
+        body = JsonUtils.toJson(GetTaskResponse.builder().id("request").result(task).build())
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public GetTaskResponse decodeViaString() throws IOException {
+        DataBuffer buffer = bufferFactory.wrap(body);
+        String json = buffer.toString(StandardCharsets.UTF_8);
+        return JsonUtils.fromJsonResponse(json, GetTaskResponse.class);
+    }
+
+    @Benchmark
+    public GetTaskResponse decodeFromBuffer() throws IOException {
+        return JsonUtils.fromJsonResponse(bufferFactory.wrap(body), GetTaskResponse.class);
+    }
+}
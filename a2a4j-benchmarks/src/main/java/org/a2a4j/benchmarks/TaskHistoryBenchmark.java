@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.Role;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.collections.AppendOnlyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying the task history on every turn with appending to an {@link AppendOnlyList}.
+ * <p>
+ * The conversation benchmarks build a history of {@code historySize} messages one turn at a time,
+ * creating a new task per turn like the task manager does. The serialize benchmarks check that the
+ * shared history costs nothing extra when written as JSON.
+ * </p>
+ * Run with {@code mvn -P benchmarks package} and {@code java -jar a2a4j-benchmarks/target/benchmarks.jar TaskHistory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskHistoryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int historySize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Message message;
+    private Task copiedTask;
+    private Task sharedTask;
+
+    @Setup
+    public void setup() {
+        message = new Message(Role.USER, "What is the status of my order?");
+        copiedTask = copyingConversation();
+        sharedTask = appendingConversation();
+    }
+
+    @Benchmark
+    public Task copyingConversation() {
+        Task task = Task.builder().id("task").history(new ArrayList<>()).build();
+        for (int i = 0; i < historySize; i++) {
+            List<Message> history = new ArrayList<>();
+            history.addAll(task.getHistory());
+            history.add(message);
+            task = Task.builder().id(task.getId()).history(history).build();
+        }
+        return task;
+    }
+
+    @Benchmark
+    public Task appendingConversation() {
+        Task task = Task.builder().id("task").history(AppendOnlyList.empty()).build();
+        for (int i = 0; i < historySize; i++) {
+            AppendOnlyList<Message> history = AppendOnlyList.copyOf(task.getHistory());
+            task = Task.builder().id(task.getId()).history(history.append(message)).build();
+        }
+        return task;
+    }
+
+    @Benchmark
+    public byte[] serializeCopiedHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(copiedTask);
+    }
+
+    @Benchmark
+    public byte[] serializeSharedHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(sharedTask);
+    }
+}
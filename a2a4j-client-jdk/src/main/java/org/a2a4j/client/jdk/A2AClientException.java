@@ -0,0 +1,32 @@
+package org.a2a4j.client.jdk;
+
+/**
+ * Exception thrown when a request of the JDK A2A client fails.
+ */
+public class A2AClientException extends RuntimeException {
+
+    private final Integer statusCode;
+
+    public A2AClientException(String message) {
+        this(message, (Integer) null);
+    }
+
+    public A2AClientException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = null;
+    }
+
+    public A2AClientException(String message, Integer statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Gets the HTTP status code the server answered with.
+     *
+     * @return The status code, or null if the error did not come from an HTTP response.
+     */
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,151 @@
+package org.a2a4j.client.jdk;
+
+import org.a2a4j.models.AgentCard;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.jsonrpc.*;
+import org.a2a4j.models.notification.PushNotificationConfig;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * AsyncA2AClient defines an Agent-to-Agent client whose calls return {@link CompletableFuture}s,
+ * for applications that do not use Reactor or Spring.
+ *
+ * It offers the same operations as the reactive {@code org.a2a4j.client.A2AClient}. Streaming calls
+ * hand every update to a listener and return a future that completes after the final status update;
+ * cancelling the future closes the stream.
+ */
+public interface AsyncA2AClient extends Closeable {
+
+    /**
+     * Retrieves the agent card from the server.
+     *
+     * @return A future of the agent card.
+     */
+    CompletableFuture<AgentCard> getAgentCard();
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param taskId The ID of the task to retrieve.
+     * @param historyLength The maximum number of history entries to include in the response.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing the task.
+     */
+    CompletableFuture<GetTaskResponse> getTask(String taskId, Integer historyLength, String requestId);
+
+    /**
+     * Retrieves a task by its ID with default parameters.
+     *
+     * @param taskId The ID of the task to retrieve.
+     * @return A future of the response containing the task.
+     */
+    CompletableFuture<GetTaskResponse> getTask(String taskId);
+
+    /**
+     * Retrieves several tasks in a single request.
+     *
+     * @param taskIds The IDs of the tasks to retrieve.
+     * @param historyLength The maximum number of history entries to include for each task.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing one result per requested ID, in request order.
+     */
+    CompletableFuture<GetTasksResponse> getTasks(Collection<String> taskIds, Integer historyLength, String requestId);
+
+    /**
+     * Creates or updates a task.
+     *
+     * @param message The message to include in the task.
+     * @param taskId The ID of the task to create or update.
+     * @param sessionId The session ID for this task.
+     * @param historyLength The maximum number of history entries to include in the response.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing the task.
+     */
+    CompletableFuture<SendTaskResponse> sendTask(Message message, String taskId, String sessionId,
+                                                 Integer historyLength, String requestId);
+
+    /**
+     * Creates a new task with a generated task ID, session ID and request ID.
+     *
+     * @param message The message to include in the task.
+     * @return A future of the response containing the task.
+     */
+    CompletableFuture<SendTaskResponse> sendTask(Message message);
+
+    /**
+     * Creates or updates a task and streams its updates.
+     *
+     * @param taskId The ID of the task to create or update.
+     * @param sessionId The session ID for this task.
+     * @param message The message to include in the task.
+     * @param historyLength The maximum number of history entries to include in the response.
+     * @param requestId A unique identifier for this request.
+     * @param listener Receives every update, on a thread of the HTTP client.
+     * @return A future that completes after the final status update or an error response, and fails if the
+     *     server ends the stream before.
+     */
+    CompletableFuture<Void> sendTaskStreaming(String taskId, String sessionId, Message message, Integer historyLength,
+                                              String requestId, Consumer<SendTaskStreamingResponse> listener);
+
+    /**
+     * Creates a new task with generated IDs and streams its updates.
+     *
+     * @param message The message to include in the task.
+     * @param listener Receives every update, on a thread of the HTTP client.
+     * @return A future that completes after the final status update or an error response, and fails if the
+     *     server ends the stream before.
+     */
+    CompletableFuture<Void> sendTaskStreaming(Message message, Consumer<SendTaskStreamingResponse> listener);
+
+    /**
+     * Cancels a task.
+     *
+     * @param taskId The ID of the task to cancel.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing the canceled task.
+     */
+    CompletableFuture<CancelTaskResponse> cancelTask(String taskId, String requestId);
+
+    /**
+     * Sets the push notification configuration of a task.
+     *
+     * @param taskId The ID of the task to configure.
+     * @param config The push notification configuration.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing the updated configuration.
+     */
+    CompletableFuture<SetTaskPushNotificationResponse> setTaskPushNotification(String taskId,
+                                                                               PushNotificationConfig config,
+                                                                               String requestId);
+
+    /**
+     * Retrieves the push notification configuration of a task.
+     *
+     * @param taskId The ID of the task.
+     * @param requestId A unique identifier for this request.
+     * @return A future of the response containing the configuration.
+     */
+    CompletableFuture<GetTaskPushNotificationResponse> getTaskPushNotification(String taskId, String requestId);
+
+    /**
+     * Resubscribes to a task to receive its updates.
+     *
+     * @param taskId The ID of the task to resubscribe to.
+     * @param requestId A unique identifier for this request.
+     * @param listener Receives every update, on a thread of the HTTP client.
+     * @return A future that completes after the final status update or an error response, and fails if the
+     *     server ends the stream before.
+     */
+    CompletableFuture<Void> resubscribeTask(String taskId, String requestId,
+                                            Consumer<SendTaskStreamingResponse> listener);
+
+    /**
+     * Closes all open streams. Futures of requests in flight are not affected.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,510 @@
+package org.a2a4j.client.jdk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.a2a4j.models.AgentCard;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.jsonrpc.*;
+import org.a2a4j.models.notification.PushNotificationConfig;
+import org.a2a4j.models.notification.TaskPushNotificationConfig;
+import org.a2a4j.models.params.TaskIdParams;
+import org.a2a4j.models.params.TaskQueryParams;
+import org.a2a4j.models.params.TaskSendParams;
+import org.a2a4j.models.params.TasksQueryParams;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the {@link AsyncA2AClient} interface using {@link java.net.http.HttpClient}.
+ * <p>
+ * The client needs nothing but the A2A models and Jackson, so it suits command line tools and batch jobs
+ * that should start fast and without Spring on the classpath. Requests use HTTP/2 by default, which
+ * multiplexes concurrent requests and streams over one connection per agent, and fall back to HTTP/1.1
+ * if the server does not support it. Streams are parsed line by line as they arrive.
+ * </p>
+ */
+public class JdkA2AClient implements AsyncA2AClient {
+
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String ACCEPT = "Accept";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String TEXT_EVENT_STREAM = "text/event-stream";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI apiUri;
+    private final URI agentCardUri;
+    private final Duration requestTimeout;
+    private final Set<CompletableFuture<Void>> openStreams = ConcurrentHashMap.newKeySet();
+
+    private JdkA2AClient(Builder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient : builder.createHttpClient();
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : createObjectMapper();
+        this.apiUri = URI.create(builder.baseUrl + builder.endpoint);
+        this.agentCardUri = URI.create(builder.baseUrl + "/.well-known/agent.json");
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    /**
+     * Creates a new builder for JdkA2AClient.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an ObjectMapper configured like the one of the reactive client.
+     *
+     * @return A new ObjectMapper.
+     */
+    private static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .findAndRegisterModules();
+    }
+
+    /**
+     * Generates a unique request ID.
+     *
+     * @return A unique string ID.
+     */
+    private String generateRequestId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public CompletableFuture<AgentCard> getAgentCard() {
+        HttpRequest request = newRequest(agentCardUri)
+                .header(ACCEPT, APPLICATION_JSON)
+                .GET()
+                .build();
+
+        return send(request, "Failed to get agent card")
+                .thenApply(body -> read(body, AgentCard.class, "Failed to parse agent card"));
+    }
+
+    @Override
+    public CompletableFuture<GetTaskResponse> getTask(String taskId, Integer historyLength, String requestId) {
+        GetTaskRequest request = GetTaskRequest.builder()
+                .id(requestId)
+                .params(TaskQueryParams.builder()
+                    .id(taskId)
+                    .historyLength(historyLength)
+                    .build())
+                .build();
+
+        return executeRequest(request, GetTaskResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GetTaskResponse> getTask(String taskId) {
+        return getTask(taskId, 10, generateRequestId());
+    }
+
+    @Override
+    public CompletableFuture<GetTasksResponse> getTasks(Collection<String> taskIds, Integer historyLength, String requestId) {
+        GetTasksRequest request = GetTasksRequest.builder()
+                .id(requestId)
+                .params(TasksQueryParams.builder()
+                    .ids(new ArrayList<>(taskIds))
+                    .historyLength(historyLength)
+                    .build())
+                .build();
+
+        return executeRequest(request, GetTasksResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SendTaskResponse> sendTask(Message message, String taskId, String sessionId,
+                                                        Integer historyLength, String requestId) {
+        SendTaskRequest request = SendTaskRequest.builder()
+                .id(requestId)
+                .params(TaskSendParams.builder()
+                    .id(taskId)
+                    .sessionId(sessionId)
+                    .message(message)
+                    .historyLength(historyLength)
+                    .metadata(new HashMap<>())
+                    .build())
+                .build();
+
+        return executeRequest(request, SendTaskResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SendTaskResponse> sendTask(Message message) {
+        String taskId = "task::" + UUID.randomUUID();
+        String sessionId = "session::" + UUID.randomUUID();
+        return sendTask(message, taskId, sessionId, 10, generateRequestId());
+    }
+
+    @Override
+    public CompletableFuture<Void> sendTaskStreaming(String taskId, String sessionId, Message message,
+                                                     Integer historyLength, String requestId,
+                                                     Consumer<SendTaskStreamingResponse> listener) {
+        SendTaskStreamingRequest request = SendTaskStreamingRequest.builder()
+                .id(requestId)
+                .params(TaskSendParams.builder()
+                    .id(taskId)
+                    .sessionId(sessionId)
+                    .message(message)
+                    .historyLength(historyLength)
+                    .metadata(new HashMap<>())
+                    .build())
+                .build();
+
+        return executeStreamingRequest(request, listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendTaskStreaming(Message message, Consumer<SendTaskStreamingResponse> listener) {
+        String taskId = "task::" + UUID.randomUUID();
+        String sessionId = "session::" + UUID.randomUUID();
+        return sendTaskStreaming(taskId, sessionId, message, 10, generateRequestId(), listener);
+    }
+
+    @Override
+    public CompletableFuture<CancelTaskResponse> cancelTask(String taskId, String requestId) {
+        CancelTaskRequest request = CancelTaskRequest.builder()
+                .id(requestId)
+                .params(TaskIdParams.builder().id(taskId).build())
+                .build();
+
+        return executeRequest(request, CancelTaskResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<SetTaskPushNotificationResponse> setTaskPushNotification(String taskId,
+                                                                                      PushNotificationConfig config,
+                                                                                      String requestId) {
+        SetTaskPushNotificationRequest request = SetTaskPushNotificationRequest.builder()
+                .id(requestId)
+                .params(TaskPushNotificationConfig.builder()
+                    .id(taskId)
+                    .pushNotificationConfig(config)
+                    .build())
+                .build();
+
+        return executeRequest(request, SetTaskPushNotificationResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<GetTaskPushNotificationResponse> getTaskPushNotification(String taskId, String requestId) {
+        GetTaskPushNotificationRequest request = GetTaskPushNotificationRequest.builder()
+                .id(requestId)
+                .params(TaskIdParams.builder().id(taskId).build())
+                .build();
+
+        return executeRequest(request, GetTaskPushNotificationResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<Void> resubscribeTask(String taskId, String requestId,
+                                                   Consumer<SendTaskStreamingResponse> listener) {
+        TaskResubscriptionRequest request = TaskResubscriptionRequest.builder()
+                .id(requestId)
+                .params(TaskQueryParams.builder().id(taskId).build())
+                .build();
+
+        return executeStreamingRequest(request, listener);
+    }
+
+    @Override
+    public void close() {
+        for (CompletableFuture<Void> stream : openStreams) {
+            stream.cancel(true);
+        }
+    }
+
+    /**
+     * Executes a JSON-RPC request and returns a future of the response.
+     *
+     * @param request The request to send.
+     * @param responseType The response class type.
+     * @param <T> The response type.
+     * @return A future of the response.
+     */
+    private <T extends JsonRpcResponse> CompletableFuture<T> executeRequest(JsonRpcRequest request, Class<T> responseType) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = newRequest(apiUri)
+                    .header(CONTENT_TYPE, APPLICATION_JSON)
+                    .header(ACCEPT, APPLICATION_JSON)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new A2AClientException("Failed to serialize request", e));
+        }
+
+        return send(httpRequest, "Failed to execute request")
+                .thenApply(body -> read(body, responseType, "Failed to parse response"));
+    }
+
+    /**
+     * Executes a streaming JSON-RPC request, handing every update to the listener until the final status update.
+     * The request is POSTed to the JSON-RPC endpoint, which streams when asked for {@code text/event-stream}.
+     * The stream fails if the server answers with another content type, or ends before the final status
+     * update or an error.
+     *
+     * @param request The request to send.
+     * @param listener Receives every update.
+     * @return A future that completes when the final status update or an error has been received.
+     */
+    private CompletableFuture<Void> executeStreamingRequest(JsonRpcRequest request,
+                                                            Consumer<SendTaskStreamingResponse> listener) {
+        HttpRequest httpRequest;
+        try {
+            // Streams stay open for the lifetime of the task, so the request timeout does not apply
+            httpRequest = HttpRequest.newBuilder(apiUri)
+                    .header(CONTENT_TYPE, APPLICATION_JSON)
+                    .header(ACCEPT, TEXT_EVENT_STREAM)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new A2AClientException("Failed to serialize request", e));
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        SseLineSubscriber events = new SseLineSubscriber((id, data) -> {
+            SendTaskStreamingResponse response = read(data, SendTaskStreamingResponse.class,
+                "Failed to parse streaming response");
+            listener.accept(response);
+            return !isFinalStatus(response) && response.getError() == null;
+        }, done);
+
+        CompletableFuture<HttpResponse<Void>> exchange = httpClient.sendAsync(httpRequest, responseInfo ->
+            responseInfo.statusCode() / 100 == 2 && isEventStream(responseInfo.headers())
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(events, subscriber -> (Void) null, StandardCharsets.UTF_8, null)
+                : HttpResponse.BodySubscribers.discarding());
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                done.completeExceptionally(new A2AClientException("Failed to execute streaming request", unwrap(error)));
+            } else if (response.statusCode() / 100 != 2) {
+                done.completeExceptionally(new A2AClientException(
+                    "Failed to execute streaming request: " + response.statusCode(), response.statusCode()));
+            } else if (!isEventStream(response.headers())) {
+                done.completeExceptionally(new A2AClientException("Failed to execute streaming request: expected "
+                    + TEXT_EVENT_STREAM + " but got " + response.headers().firstValue(CONTENT_TYPE).orElse("no content type"),
+                    response.statusCode()));
+            }
+        });
+
+        openStreams.add(done);
+        done.whenComplete((result, error) -> {
+            openStreams.remove(done);
+            // Stops the request if the stream was cancelled before the response arrived
+            exchange.cancel(true);
+        });
+        return done;
+    }
+
+    /**
+     * Sends a request and returns a future of the response body.
+     *
+     * @param request The request to send.
+     * @param errorMessage The message of the exception if the request fails.
+     * @return A future of the body of a successful response.
+     */
+    private CompletableFuture<byte[]> send(HttpRequest request, String errorMessage) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        String message = cause instanceof HttpTimeoutException
+                            ? "Request timed out after " + requestTimeout
+                            : errorMessage;
+                        throw new A2AClientException(message, cause);
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        throw new A2AClientException(errorMessage + ": " + response.statusCode(), response.statusCode());
+                    }
+                    return response.body();
+                });
+    }
+
+    private HttpRequest.Builder newRequest(URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+        if (requestTimeout != null && !requestTimeout.isZero() && !requestTimeout.isNegative()) {
+            builder.timeout(requestTimeout);
+        }
+        return builder;
+    }
+
+    private <T> T read(byte[] body, Class<T> type, String errorMessage) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new A2AClientException(errorMessage, e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type, String errorMessage) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new A2AClientException(errorMessage, e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Checks whether a response is a Server-Sent Events stream.
+     *
+     * @param headers The response headers.
+     * @return true if the content type is text/event-stream, with or without parameters.
+     */
+    private static boolean isEventStream(HttpHeaders headers) {
+        return headers.firstValue(CONTENT_TYPE)
+            .map(contentType -> contentType.regionMatches(true, 0, TEXT_EVENT_STREAM, 0, TEXT_EVENT_STREAM.length()))
+            .orElse(false);
+    }
+
+    /**
+     * Checks whether a streamed update is the final status update of its task.
+     *
+     * @param response The streamed update.
+     * @return true if the update is a status update flagged as final.
+     */
+    private static boolean isFinalStatus(SendTaskStreamingResponse response) {
+        return response.getResult() instanceof TaskStatusUpdateEvent
+            && Boolean.TRUE.equals(((TaskStatusUpdateEvent) response.getResult()).getFinalFlag());
+    }
+
+    /**
+     * A builder for creating JdkA2AClient instances.
+     */
+    public static class Builder {
+        private String baseUrl;
+        private String endpoint = "";
+        private HttpClient httpClient;
+        private ObjectMapper objectMapper;
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(15);
+        private boolean http2 = true;
+        private Executor executor;
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Uses the given HttpClient as is, for example to share it between clients. The connect timeout,
+         * HTTP version and executor of this builder are then ignored.
+         *
+         * @param httpClient The HTTP client.
+         * @return This builder.
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Sets the mapper used to write requests and read responses.
+         *
+         * @param objectMapper The mapper, which must not fail on unknown properties. A new mapper by default.
+         * @return This builder.
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Sets the time until the response of a non-streaming request must have been received.
+         *
+         * @param requestTimeout The request timeout, 30 seconds by default, or zero for none.
+         * @return This builder.
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the time until a connection must have been established.
+         *
+         * @param connectTimeout The connect timeout, 15 seconds by default.
+         * @return This builder.
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether to use HTTP/2, negotiated with ALPN for https and by upgrade for http.
+         *
+         * @param http2 Whether to use HTTP/2, true by default.
+         * @return This builder.
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs response handling and stream listeners.
+         *
+         * @param executor The executor, or null for the HttpClient's default.
+         * @return This builder.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public JdkA2AClient build() {
+            if (baseUrl == null) {
+                throw new IllegalStateException("Base URL must be provided");
+            }
+            return new JdkA2AClient(this);
+        }
+
+        private HttpClient createHttpClient() {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .followRedirects(HttpClient.Redirect.NORMAL);
+            if (connectTimeout != null) {
+                builder.connectTimeout(connectTimeout);
+            }
+            if (executor != null) {
+                builder.executor(executor);
+            }
+            return builder.build();
+        }
+    }
+}
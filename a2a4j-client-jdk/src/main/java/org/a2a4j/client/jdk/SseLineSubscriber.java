@@ -0,0 +1,120 @@
+package org.a2a4j.client.jdk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiPredicate;
+
+/**
+ * Parser of a Server-Sent Events stream that receives the response body line by line.
+ * <p>
+ * The {@code data} lines of an event are joined with newlines and handed to the listener together with
+ * the event's {@code id} when the blank line ending the event arrives. Comments, such as heartbeats,
+ * and other fields are skipped. Lines are requested one at a time, so a slow listener slows down the
+ * stream instead of buffering it. The listener returns false to stop reading, which cancels the response.
+ * </p>
+ */
+class SseLineSubscriber implements Flow.Subscriber<String> {
+
+    private final BiPredicate<String, String> listener;
+    private final CompletableFuture<Void> done;
+    private final StringBuilder data = new StringBuilder();
+    private String id;
+    private boolean hasData;
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * Creates a new SseLineSubscriber.
+     *
+     * @param listener Receives the ID, or null, and the data of every event, and returns whether to continue.
+     * @param done Completed when the listener stops the stream, and completed exceptionally if the stream
+     *     ends before that, or the stream or the listener fails. Cancelling it cancels the response.
+     */
+    SseLineSubscriber(BiPredicate<String, String> listener, CompletableFuture<Void> done) {
+        this.listener = listener;
+        this.done = done;
+        done.whenComplete((result, error) -> {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        });
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (done.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (done.isDone()) {
+            return;
+        }
+        try {
+            if (line.isEmpty()) {
+                if (!dispatch()) {
+                    done.complete(null);
+                    return;
+                }
+            } else {
+                parseField(line);
+            }
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        done.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        // An event that is not followed by a blank line is incomplete and dropped, as in the SSE specification.
+        // The listener had not stopped reading, so the stream was cut short
+        done.completeExceptionally(new A2AClientException("Stream ended before the final event"));
+    }
+
+    private void parseField(String line) {
+        if (line.charAt(0) == ':') {
+            return;
+        }
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+        switch (field) {
+            case "data":
+                if (hasData) {
+                    data.append('\n');
+                }
+                data.append(value);
+                hasData = true;
+                break;
+            case "id":
+                id = value;
+                break;
+            default:
+                // event, retry and unknown fields are not used by A2A
+                break;
+        }
+    }
+
+    private boolean dispatch() {
+        if (!hasData) {
+            return true;
+        }
+        String eventData = data.toString();
+        data.setLength(0);
+        hasData = false;
+        // The event ID stays in effect for later events that do not set one
+        return listener.test(id, eventData);
+    }
+}
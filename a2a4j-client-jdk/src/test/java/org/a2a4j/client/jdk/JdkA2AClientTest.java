@@ -0,0 +1,157 @@
+package org.a2a4j.client.jdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.GetTaskResponse;
+import org.a2a4j.models.jsonrpc.SendTaskStreamingResponse;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdkA2AClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private HttpServer server;
+    private JdkA2AClient client;
+    private volatile int status = 200;
+    private volatile String contentType = "application/json";
+    private volatile String body = "";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        client = JdkA2AClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .http2(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void getTask_shouldReturnTaskResponse() throws Exception {
+        // Given
+        body = objectMapper.writeValueAsString(GetTaskResponse.builder()
+                .id("request-1")
+                .result(Task.builder().id("task-1").build())
+                .build());
+
+        // When
+        GetTaskResponse response = client.getTask("task-1").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("task-1", response.getResult().getId());
+    }
+
+    @Test
+    void getTask_shouldFailWithStatusCode() {
+        // Given
+        status = 503;
+
+        // When
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.getTask("task-1").get(5, TimeUnit.SECONDS));
+
+        // Then
+        assertInstanceOf(A2AClientException.class, error.getCause());
+        assertEquals(503, ((A2AClientException) error.getCause()).getStatusCode());
+    }
+
+    @Test
+    void resubscribeTask_shouldParseEventsUntilFinalStatus() throws Exception {
+        // Given: a heartbeat, two updates, and an update after the final one that must not be delivered
+        contentType = "text/event-stream";
+        body = ": heartbeat\n\n"
+                + "id: 1\ndata:" + objectMapper.writeValueAsString(statusUpdate(TaskState.WORKING, false)) + "\n\n"
+                + "id: 2\r\ndata: " + objectMapper.writeValueAsString(statusUpdate(TaskState.COMPLETED, true)) + "\r\n\r\n"
+                + "id: 3\ndata: " + objectMapper.writeValueAsString(statusUpdate(TaskState.FAILED, true)) + "\n\n";
+        List<SendTaskStreamingResponse> updates = new CopyOnWriteArrayList<>();
+
+        // When
+        client.resubscribeTask("task-1", "request-1", updates::add).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(2, updates.size());
+        assertFalse(((TaskStatusUpdateEvent) updates.get(0).getResult()).getFinalFlag());
+        TaskStatusUpdateEvent last = (TaskStatusUpdateEvent) updates.get(1).getResult();
+        assertTrue(last.getFinalFlag());
+        assertEquals(TaskState.COMPLETED, last.getStatus().getState());
+    }
+
+    @Test
+    void resubscribeTask_shouldFailForResponseThatIsNotEventStream() throws Exception {
+        // Given: a server that answers the streaming request with plain JSON
+        body = objectMapper.writeValueAsString(statusUpdate(TaskState.COMPLETED, true));
+        List<SendTaskStreamingResponse> updates = new CopyOnWriteArrayList<>();
+
+        // When
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.resubscribeTask("task-1", "request-1", updates::add).get(5, TimeUnit.SECONDS));
+
+        // Then
+        assertInstanceOf(A2AClientException.class, error.getCause());
+        assertTrue(updates.isEmpty());
+    }
+
+    @Test
+    void resubscribeTask_shouldFailForStreamEndingBeforeFinalStatus() throws Exception {
+        // Given
+        contentType = "text/event-stream";
+        body = "id: 1\ndata: " + objectMapper.writeValueAsString(statusUpdate(TaskState.WORKING, false)) + "\n\n";
+        List<SendTaskStreamingResponse> updates = new CopyOnWriteArrayList<>();
+
+        // When
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.resubscribeTask("task-1", "request-1", updates::add).get(5, TimeUnit.SECONDS));
+
+        // Then: the update was delivered, but the stream is reported as cut short
+        assertInstanceOf(A2AClientException.class, error.getCause());
+        assertEquals(1, updates.size());
+    }
+
+    private static SendTaskStreamingResponse statusUpdate(TaskState state, boolean finalFlag) {
+        return SendTaskStreamingResponse.builder()
+                .id("request-1")
+                .result(TaskStatusUpdateEvent.builder()
+                    .id("task-1")
+                    .status(TaskStatus.builder().state(state).build())
+                    .finalFlag(finalFlag)
+                    .build())
+                .build();
+    }
+}
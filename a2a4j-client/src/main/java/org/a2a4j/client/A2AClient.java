@@ -8,6 +8,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Closeable;
+import java.time.Instant;
+import java.util.Collection;
 
 /**
  * A2AClient defines the interface for Agent-to-Agent communication client based on the A2A protocol.
@@ -43,6 +45,25 @@ public interface A2AClient extends Closeable {
      */
     Mono<GetTaskResponse> getTask(String taskId);
 
+    /**
+     * Retrieves several tasks by their IDs in a single request.
+     * Uses the {@code tasks/getMany} extension, which is only supported by a2a4j servers.
+     *
+     * @param taskIds The IDs of the tasks to retrieve.
+     * @param historyLength The maximum number of history entries to include for each task.
+     * @param requestId A unique identifier for this request.
+     * @return A Mono emitting the response containing one lookup result per requested ID, in request order.
+     */
+    Mono<GetTasksResponse> getTasks(Collection<String> taskIds, Integer historyLength, String requestId);
+
+    /**
+     * Retrieves several tasks by their IDs with default history length and generated request ID.
+     *
+     * @param taskIds The IDs of the tasks to retrieve.
+     * @return A Mono emitting the response containing one lookup result per requested ID, in request order.
+     */
+    Mono<GetTasksResponse> getTasks(Collection<String> taskIds);
+
     /**
      * Creates or updates a task.
      *
@@ -65,6 +86,8 @@ public interface A2AClient extends Closeable {
 
     /**
      * Subscribes to streaming updates for a task.
+     * The task is sent once over a single connection, and the stream completes after the final status update.
+     * Cancelling the subscription closes the connection.
      *
      * @param taskId The ID of the task to subscribe to.
      * @param sessionId The session ID for this task.
@@ -138,6 +161,7 @@ public interface A2AClient extends Closeable {
 
     /**
      * Resubscribes to a task to receive streaming updates.
+     * The stream completes after the final status update.
      *
      * @param taskId The ID of the task to resubscribe to.
      * @param requestId A unique identifier for this request.
@@ -152,4 +176,23 @@ public interface A2AClient extends Closeable {
      * @return A Flux of streaming responses with task updates.
      */
     Flux<SendTaskStreamingResponse> resubscribeTask(String taskId);
+
+    /**
+     * Waits until a task is final or requires input, without holding a stream open.
+     * If the agent advertises long polling, the server holds each request until the task changes;
+     * otherwise the task is polled at an interval that adapts to its state, see {@link PollingPolicy}.
+     *
+     * @param taskId The ID of the task to wait for.
+     * @param deadline When to stop waiting.
+     * @return A Mono emitting the task once it is final or requires input, an error response,
+     *     or the latest task if the deadline passes first.
+     */
+    Mono<GetTaskResponse> awaitTask(String taskId, Instant deadline);
+
+    /**
+     * Starts a JSON-RPC batch, which sends several non-streaming requests in a single HTTP request.
+     *
+     * @return A new, empty batch.
+     */
+    BatchRequest batch();
 } 
\ No newline at end of file
@@ -0,0 +1,395 @@
+package org.a2a4j.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.Closeable;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Factory of clients for many agents that share one set of network resources.
+ * <p>
+ * All clients of a factory use the same event loops, the same connection provider, which keeps a pool
+ * per remote address, and the same WebClient with its codecs and the mapper of {@link JsonUtils}.
+ * A client therefore only consists of its own settings and state, and adding an agent adds no threads.
+ * Clients are cached per base URL and endpoint, and {@link #getPoolMetrics()} sums up the connection
+ * pools of all agents.
+ * </p>
+ * <pre>{@code
+ * A2AClientFactory factory = A2AClientFactory.builder().build();
+ * A2AClient client = factory.getClient("http://agent-1:8080");
+ * }</pre>
+ * <p>
+ * Closing the factory releases the shared resources, after which none of its clients can be used.
+ * </p>
+ */
+public class A2AClientFactory implements Closeable {
+
+    private static final String DEFAULT_ENDPOINT = "/";
+
+    private final LoopResources loopResources;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final WebClient secureWebClient;
+    private final AgentCardCache agentCardCache;
+    private final Consumer<A2AClientImpl.Builder> clientCustomizer;
+    private final ConcurrentHashMap<String, A2AClient> clients = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    private A2AClientFactory(Builder builder) {
+        this.loopResources = LoopResources.create("a2a-client", builder.workerCount, true);
+        this.connectionProvider = ConnectionProvider.builder("a2a-client")
+                .maxConnections(builder.maxConnections)
+                .pendingAcquireMaxCount(builder.pendingAcquireMaxCount)
+                .pendingAcquireTimeout(builder.pendingAcquireTimeout)
+                .maxIdleTime(builder.maxIdleTime)
+                .maxLifeTime(builder.maxLifeTime)
+                .evictInBackground(builder.maxIdleTime)
+                .lifo()
+                .metrics(true, () -> new PoolRegistrar())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) builder.connectTimeout.toMillis())
+                .responseTimeout(builder.readTimeout);
+        this.webClient = createWebClient(builder.http2 ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11) : httpClient);
+        this.secureWebClient = builder.http2
+                ? createWebClient(httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11))
+                : webClient;
+        this.agentCardCache = builder.agentCardCache;
+        this.clientCustomizer = builder.clientCustomizer;
+    }
+
+    /**
+     * Creates a new builder for A2AClientFactory.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static WebClient createWebClient(HttpClient httpClient) {
+        return A2AClientImpl.withJsonCodecs(WebClient.builder())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * Gets the client of an agent whose JSON-RPC endpoint is its base URL.
+     *
+     * @param baseUrl The base URL of the agent.
+     * @return The cached client, created on first use.
+     */
+    public A2AClient getClient(String baseUrl) {
+        return getClient(baseUrl, DEFAULT_ENDPOINT);
+    }
+
+    /**
+     * Gets the client of an agent.
+     *
+     * @param baseUrl The base URL of the agent.
+     * @param endpoint The endpoint path for JSON-RPC requests.
+     * @return The cached client, created on first use.
+     */
+    public A2AClient getClient(String baseUrl, String endpoint) {
+        return clients.computeIfAbsent(baseUrl + endpoint, key -> createClient(baseUrl, endpoint));
+    }
+
+    /**
+     * Removes the client of an agent from the cache, for example after the agent was decommissioned.
+     * Its connections are closed once they have been idle for the maximum idle time.
+     *
+     * @param baseUrl The base URL of the agent.
+     * @param endpoint The endpoint path for JSON-RPC requests.
+     */
+    public void removeClient(String baseUrl, String endpoint) {
+        clients.remove(baseUrl + endpoint);
+    }
+
+    private A2AClient createClient(String baseUrl, String endpoint) {
+        A2AClientImpl.Builder builder = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .endpoint(endpoint)
+                .agentCardCache(agentCardCache);
+        if (clientCustomizer != null) {
+            clientCustomizer.accept(builder);
+        }
+        // Set last, so that a customizer cannot give one agent a pool of its own by accident
+        return builder
+                .sharedWebClient(baseUrl.startsWith("https:") ? secureWebClient : webClient)
+                .build();
+    }
+
+    /**
+     * Gets the sum of the connection pools of all agents.
+     *
+     * @return A snapshot of the pool metrics.
+     */
+    public PoolMetrics getPoolMetrics() {
+        int acquired = 0;
+        int idle = 0;
+        int allocated = 0;
+        int pendingAcquire = 0;
+        for (ConnectionPoolMetrics pool : pools.values()) {
+            acquired += pool.acquiredSize();
+            idle += pool.idleSize();
+            allocated += pool.allocatedSize();
+            pendingAcquire += pool.pendingAcquireSize();
+        }
+        return new PoolMetrics(clients.size(), pools.size(), acquired, idle, allocated, pendingAcquire);
+    }
+
+    @Override
+    public void close() {
+        clients.clear();
+        connectionProvider.dispose();
+        loopResources.dispose();
+    }
+
+    /**
+     * Keeps track of the connection pools the shared provider creates per remote address.
+     */
+    private final class PoolRegistrar implements ConnectionProvider.MeterRegistrar {
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            pools.put(id, metrics);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            pools.remove(id);
+        }
+    }
+
+    /**
+     * A snapshot of the connection pools of a factory.
+     */
+    public static final class PoolMetrics {
+        private final int clients;
+        private final int pools;
+        private final int acquiredConnections;
+        private final int idleConnections;
+        private final int allocatedConnections;
+        private final int pendingAcquires;
+
+        private PoolMetrics(int clients, int pools, int acquiredConnections, int idleConnections,
+                            int allocatedConnections, int pendingAcquires) {
+            this.clients = clients;
+            this.pools = pools;
+            this.acquiredConnections = acquiredConnections;
+            this.idleConnections = idleConnections;
+            this.allocatedConnections = allocatedConnections;
+            this.pendingAcquires = pendingAcquires;
+        }
+
+        /**
+         * @return The number of cached clients.
+         */
+        public int getClients() {
+            return clients;
+        }
+
+        /**
+         * @return The number of connection pools, one per remote address that has been connected to.
+         */
+        public int getPools() {
+            return pools;
+        }
+
+        /**
+         * @return The number of connections in use by requests.
+         */
+        public int getAcquiredConnections() {
+            return acquiredConnections;
+        }
+
+        /**
+         * @return The number of open connections waiting for a request.
+         */
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        /**
+         * @return The number of open connections, in use or idle.
+         */
+        public int getAllocatedConnections() {
+            return allocatedConnections;
+        }
+
+        /**
+         * @return The number of requests waiting for a connection.
+         */
+        public int getPendingAcquires() {
+            return pendingAcquires;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolMetrics{clients=" + clients + ", pools=" + pools + ", acquired=" + acquiredConnections
+                + ", idle=" + idleConnections + ", allocated=" + allocatedConnections
+                + ", pendingAcquires=" + pendingAcquires + "}";
+        }
+    }
+
+    /**
+     * A builder for creating A2AClientFactory instances.
+     */
+    public static class Builder {
+        private int workerCount = LoopResources.DEFAULT_IO_WORKER_COUNT;
+        private Duration connectTimeout = Duration.ofSeconds(15);
+        private Duration readTimeout = Duration.ofSeconds(60);
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private boolean http2;
+        private AgentCardCache agentCardCache = new AgentCardCache();
+        private Consumer<A2AClientImpl.Builder> clientCustomizer;
+
+        /**
+         * Sets the number of event loop threads shared by all clients.
+         *
+         * @param workerCount The number of threads, the number of processors (at least 4) by default.
+         * @return This builder.
+         */
+        public Builder workerCount(int workerCount) {
+            this.workerCount = workerCount;
+            return this;
+        }
+
+        /**
+         * Sets the time until a connection must have been established.
+         *
+         * @param connectTimeout The connect timeout, 15 seconds by default.
+         * @return This builder.
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the longest time to wait for data of a response. Streams are not limited by it.
+         *
+         * @param readTimeout The read timeout, 60 seconds by default.
+         * @return This builder.
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections to each agent. Pools are created per remote address,
+         * so idle agents cost no connections.
+         *
+         * @param maxConnections The maximum number of connections per agent, 50 by default.
+         * @return This builder.
+         */
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a connection to an agent.
+         *
+         * @param pendingAcquireMaxCount The maximum number of waiting requests per agent, 1000 by default.
+         * @return This builder.
+         */
+        public Builder pendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+            return this;
+        }
+
+        /**
+         * Sets how long a request waits for a connection.
+         *
+         * @param pendingAcquireTimeout The acquire timeout, 10 seconds by default.
+         * @return This builder.
+         */
+        public Builder pendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept open.
+         *
+         * @param maxIdleTime The maximum idle time, 30 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection is used before it is replaced.
+         *
+         * @param maxLifeTime The maximum lifetime, 5 minutes by default.
+         * @return This builder.
+         */
+        public Builder maxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+            return this;
+        }
+
+        /**
+         * Sets whether to use HTTP/2, negotiated with ALPN for https and prior knowledge for http,
+         * falling back to HTTP/1.1.
+         *
+         * @param http2 Whether to use HTTP/2, false by default.
+         * @return This builder.
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Sets the cache of agent cards shared by all clients.
+         *
+         * @param agentCardCache The cache, or null to fetch cards on every call. A new cache by default.
+         * @return This builder.
+         */
+        public Builder agentCardCache(AgentCardCache agentCardCache) {
+            this.agentCardCache = agentCardCache;
+            return this;
+        }
+
+        /**
+         * Sets a callback that configures every client, such as its request timeout or retry policy.
+         * Settings of the network resources, such as pool limits, are taken from this builder instead.
+         *
+         * @param clientCustomizer The callback, or null.
+         * @return This builder.
+         */
+        public Builder clientCustomizer(Consumer<A2AClientImpl.Builder> clientCustomizer) {
+            this.clientCustomizer = clientCustomizer;
+            return this;
+        }
+
+        public A2AClientFactory build() {
+            if (workerCount < 1) {
+                throw new IllegalStateException("Worker count must be positive");
+            }
+            if (maxConnections < 1) {
+                throw new IllegalStateException("Max connections must be positive");
+            }
+            return new A2AClientFactory(this);
+        }
+    }
+}
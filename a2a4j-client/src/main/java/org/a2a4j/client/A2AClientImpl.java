@@ -1,6 +1,8 @@
 package org.a2a4j.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.channel.ChannelOption;
 import org.a2a4j.models.AgentCard;
 import org.a2a4j.models.Message;
 
@@ -10,43 +12,96 @@ import org.a2a4j.models.notification.TaskPushNotificationConfig;
 import org.a2a4j.models.params.TaskIdParams;
 import org.a2a4j.models.params.TaskQueryParams;
 import org.a2a4j.models.params.TaskSendParams;
+import org.a2a4j.models.params.TasksQueryParams;
 import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Implementation of the A2A client interface using Spring WebClient.
+ * <p>
+ * Responses are parsed straight from the received buffers into their response type,
+ * and streamed events are decoded by a Jackson decoder sharing the mapper of {@link JsonUtils},
+ * so no intermediate String is created for a response.
+ * </p>
+ * <p>
+ * Clients created by the {@link Builder} without an explicit WebClient use their own
+ * reactor-netty connection pool with the configured limits and timeouts, which is
+ * released when the client is closed.
+ * </p>
  */
 public class A2AClientImpl implements A2AClient {
 
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final String PREFER = "Prefer";
+
     private final WebClient webClient;
     private final String apiUrl;
     private final String agentCardUrl;
     private final Duration requestTimeout;
     private final Duration connectTimeout;
     private final Duration readTimeout;
+    private final ConnectionProvider connectionProvider;
+    private final RetryPolicy retryPolicy;
+    private final HedgingPolicy hedgingPolicy;
+    private final AgentCardCache agentCardCache;
+    private final StreamResumePolicy streamResumePolicy;
+    private final PollingPolicy pollingPolicy;
+    private final RequestCoalescer requestCoalescer;
 
     /**
-     * Creates a new A2AClientImpl with the specified base URL and endpoint.
+     * Creates a new A2AClientImpl with the specified base URL and endpoint,
+     * using the default connection pool and timeouts of the {@link Builder}.
      *
      * @param baseUrl The base URL of the A2A server.
      * @param endpoint The endpoint path for JSON-RPC requests.
      */
     public A2AClientImpl(String baseUrl, String endpoint) {
-        this(baseUrl, endpoint, WebClient.builder().build(),
-             Duration.ofSeconds(30), Duration.ofSeconds(15), Duration.ofSeconds(60));
+        this(new Builder().baseUrl(baseUrl).endpoint(endpoint));
+    }
+
+    private A2AClientImpl(Builder builder) {
+        this(builder, builder.createConnectionProvider());
+    }
+
+    private A2AClientImpl(Builder builder, ConnectionProvider connectionProvider) {
+        this(builder.baseUrl, builder.endpoint, builder.createWebClient(connectionProvider),
+             builder.requestTimeout, builder.connectTimeout, builder.readTimeout, connectionProvider,
+             builder.retryPolicy, builder.hedgingPolicy, builder.agentCardCache, builder.streamResumePolicy,
+             builder.pollingPolicy, builder.createRequestCoalescer());
     }
 
     /**
@@ -61,12 +116,29 @@ public class A2AClientImpl implements A2AClient {
      */
     public A2AClientImpl(String baseUrl, String endpoint, WebClient webClient,
                          Duration requestTimeout, Duration connectTimeout, Duration readTimeout) {
+        this(baseUrl, endpoint, withJsonCodecs(webClient.mutate()).build(), requestTimeout, connectTimeout, readTimeout, null,
+             RetryPolicy.defaults(), null, new AgentCardCache(), null, PollingPolicy.defaults(),
+             new RequestCoalescer(Duration.ZERO));
+    }
+
+    private A2AClientImpl(String baseUrl, String endpoint, WebClient webClient,
+                          Duration requestTimeout, Duration connectTimeout, Duration readTimeout,
+                          ConnectionProvider connectionProvider, RetryPolicy retryPolicy, HedgingPolicy hedgingPolicy,
+                          AgentCardCache agentCardCache, StreamResumePolicy streamResumePolicy,
+                          PollingPolicy pollingPolicy, RequestCoalescer requestCoalescer) {
         this.webClient = webClient;
         this.apiUrl = baseUrl + endpoint;
         this.agentCardUrl = baseUrl + "/.well-known/agent.json";
         this.requestTimeout = requestTimeout;
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
+        this.connectionProvider = connectionProvider;
+        this.retryPolicy = retryPolicy;
+        this.hedgingPolicy = hedgingPolicy;
+        this.agentCardCache = agentCardCache;
+        this.streamResumePolicy = streamResumePolicy;
+        this.pollingPolicy = pollingPolicy;
+        this.requestCoalescer = requestCoalescer;
     }
 
     /**
@@ -80,20 +152,58 @@ public class A2AClientImpl implements A2AClient {
 
     @Override
     public Mono<AgentCard> getAgentCard() {
+        if (agentCardCache == null) {
+            Mono<AgentCard> agentCard = fetchAgentCard(null).map(AgentCardCache.Fetched::getCard);
+            return requestCoalescer != null ? requestCoalescer.apply(agentCardUrl, agentCard) : agentCard;
+        }
+        return agentCardCache.get(agentCardUrl, this::fetchAgentCard);
+    }
+
+    /**
+     * Fetches the agent card, conditionally if a cached card's ETag is given.
+     *
+     * @param etag The ETag of the cached card, or null.
+     * @return A Mono emitting the card, or no card if the server answered 304 Not Modified.
+     */
+    private Mono<AgentCardCache.Fetched> fetchAgentCard(String etag) {
         return webClient.get()
                 .uri(agentCardUrl)
                 .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, response ->
-                    Mono.error(new ServerException("Failed to get agent card: " + response.statusCode())))
-                .bodyToMono(String.class)
-                .flatMap(body -> {
+                    Mono.error(new ServerException("Failed to get agent card: " + response.statusCode(), response.statusCode().value())))
+                .toEntity(DataBuffer.class)
+                .transform(this::withRequestTimeout)
+                .transform(body -> retryPolicy.apply(null, body))
+                .<AgentCardCache.Fetched>handle((entity, sink) -> {
+                    HttpHeaders headers = entity.getHeaders();
+                    Duration maxAge = AgentCardCache.maxAge(headers.getCacheControl());
+                    if (entity.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        if (etag == null) {
+                            sink.error(new ServerException("Unexpected agent card response: " + entity.getStatusCode(),
+                                entity.getStatusCode().value()));
+                        } else {
+                            sink.next(new AgentCardCache.Fetched(null, headers.getETag(), maxAge));
+                        }
+                        return;
+                    }
+                    if (entity.getBody() == null) {
+                        sink.error(new ServerException("Failed to get agent card: empty response"));
+                        return;
+                    }
                     try {
-                        return Mono.just(JsonUtils.fromJsonAgentCard(body));
-                    } catch (JsonProcessingException e) {
-                        return Mono.error(new ServerException("Failed to parse agent card", e));
+                        AgentCard agentCard = JsonUtils.fromJson(entity.getBody(), AgentCard.class);
+                        sink.next(new AgentCardCache.Fetched(agentCard, headers.getETag(), maxAge));
+                    } catch (IOException e) {
+                        sink.error(new ServerException("Failed to parse agent card", e));
                     }
-                });
+                })
+                .transform(fetched -> hedge(agentCardUrl, fetched));
     }
 
     @Override
@@ -114,6 +224,24 @@ public class A2AClientImpl implements A2AClient {
         return getTask(taskId, 10, generateRequestId());
     }
 
+    @Override
+    public Mono<GetTasksResponse> getTasks(Collection<String> taskIds, Integer historyLength, String requestId) {
+        GetTasksRequest request = GetTasksRequest.builder()
+                .id(requestId)
+                .params(TasksQueryParams.builder()
+                    .ids(new ArrayList<>(taskIds))
+                    .historyLength(historyLength)
+                    .build())
+                .build();
+
+        return executeRequest(request, GetTasksResponse.class);
+    }
+
+    @Override
+    public Mono<GetTasksResponse> getTasks(Collection<String> taskIds) {
+        return getTasks(taskIds, 10, generateRequestId());
+    }
+
     @Override
     public Mono<SendTaskResponse> sendTask(Message message, String taskId, String sessionId, Integer historyLength, String requestId) {
         SendTaskRequest request = SendTaskRequest.builder()
@@ -152,19 +280,11 @@ public class A2AClientImpl implements A2AClient {
                     .build())
                 .build();
 
+        if (streamResumePolicy != null) {
+            return resumableStream(request, taskId);
+        }
         return executeStreamingRequest(request)
-                .takeUntilOther(
-                    Mono.never().delaySubscription(
-                        Flux.from(executeStreamingRequest(request))
-                            .filter(response -> {
-                                if (response.getResult() instanceof TaskStatusUpdateEvent) {
-                                    return ((TaskStatusUpdateEvent) response.getResult()).getFinalFlag();
-                                }
-                                return false;
-                            })
-                            .next()
-                    )
-                );
+                .takeUntil(A2AClientImpl::isFinalStatus);
     }
 
     @Override
@@ -231,7 +351,11 @@ public class A2AClientImpl implements A2AClient {
                 .params(TaskQueryParams.builder().id(taskId).build())
                 .build();
 
-        return executeStreamingRequest(request);
+        if (streamResumePolicy != null) {
+            return resumableStream(request, taskId);
+        }
+        return executeStreamingRequest(request)
+                .takeUntil(A2AClientImpl::isFinalStatus);
     }
 
     @Override
@@ -239,6 +363,82 @@ public class A2AClientImpl implements A2AClient {
         return resubscribeTask(taskId, generateRequestId());
     }
 
+    @Override
+    public Mono<GetTaskResponse> awaitTask(String taskId, Instant deadline) {
+        return getAgentCard()
+                .map(card -> card.getCapabilities() != null && card.getCapabilities().isLongPolling())
+                // Polling works with any agent, so an unknown card is no reason to fail
+                .onErrorReturn(false)
+                .flatMap(longPolling -> pollingPolicy.await(deadline, longPolling,
+                    (knownStatusTimestamp, wait) -> pollTask(taskId, knownStatusTimestamp, wait)));
+    }
+
+    /**
+     * Gets a task, letting the server wait for its status to change if a wait time is given.
+     *
+     * @param taskId The ID of the task.
+     * @param knownStatusTimestamp The timestamp of the last status seen, or null.
+     * @param wait How long the server may wait, or null to answer right away.
+     * @return A Mono containing the response.
+     */
+    private Mono<GetTaskResponse> pollTask(String taskId, String knownStatusTimestamp, Duration wait) {
+        if (wait == null) {
+            return getTask(taskId);
+        }
+        GetTaskRequest request = GetTaskRequest.builder()
+                .id(generateRequestId())
+                .params(TaskQueryParams.builder()
+                    .id(taskId)
+                    .historyLength(10)
+                    .waitMillis(wait.toMillis())
+                    .knownStatusTimestamp(knownStatusTimestamp)
+                    .build())
+                .build();
+
+        return executeRequest(request, GetTaskResponse.class, wait);
+    }
+
+    @Override
+    public BatchRequest batch() {
+        return new BatchRequest(this::executeBatch);
+    }
+
+    /**
+     * Executes a JSON-RPC batch and returns a Mono with the responses in request order.
+     * The batch is only retried on every transient failure if all of its requests are idempotent.
+     *
+     * @param requests The requests to send.
+     * @return A Mono containing the responses.
+     */
+    private Mono<List<JsonRpcResponse<?>>> executeBatch(List<JsonRpcRequest<?>> requests) {
+        try {
+            String requestBody = BatchRequest.toJson(requests);
+
+            return webClient.post()
+                    .uri(apiUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response ->
+                        Mono.error(new ServerException("Failed to execute batch: " + response.statusCode(), response.statusCode().value())))
+                    .bodyToMono(DataBuffer.class)
+                    .transform(this::withRequestTimeout)
+                    .transform(body -> retryPolicy.apply(BatchRequest.isIdempotent(requests), body))
+                    .handle((body, sink) -> {
+                        try {
+                            sink.next(BatchRequest.fromJson(requests, JsonUtils.fromJson(body, JsonNode.class)));
+                        } catch (IOException e) {
+                            sink.error(new ServerException("Failed to parse batch response", e));
+                        } catch (ServerException e) {
+                            sink.error(e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            return Mono.error(new ServerException("Failed to serialize batch", e));
+        }
+    }
+
     /**
      * Executes a JSON-RPC request and returns a Mono with the response.
      *
@@ -248,30 +448,112 @@ public class A2AClientImpl implements A2AClient {
      * @return A Mono containing the response.
      */
     private <T extends JsonRpcResponse> Mono<T> executeRequest(JsonRpcRequest request, Class<T> responseType) {
+        return executeRequest(request, responseType, null);
+    }
+
+    /**
+     * Executes a JSON-RPC request and returns a Mono with the response.
+     * A request the server may hold is sent with a {@code Prefer: wait} header, its timeout is extended
+     * by the wait, and it is not hedged, as its latency is not a sign of a slow server.
+     *
+     * @param request The request to send.
+     * @param responseType The response class type.
+     * @param wait How long the server may hold the request, or null.
+     * @param <T> The response type.
+     * @return A Mono containing the response.
+     */
+    private <T extends JsonRpcResponse> Mono<T> executeRequest(JsonRpcRequest request, Class<T> responseType,
+                                                              Duration wait) {
         try {
             String requestBody = JsonUtils.toJson(request);
+            String coalescingKey = requestCoalescer != null && wait == null
+                    && RetryPolicy.IDEMPOTENT_METHODS.contains(request.getMethod())
+                ? request.getMethod() + " " + JsonUtils.toJson(request.getParams())
+                : null;
 
             return webClient.post()
                     .uri(apiUrl)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
+                    .headers(headers -> {
+                        if (wait != null) {
+                            headers.set(PREFER, "wait=" + Math.max(1, wait.toSeconds()));
+                        }
+                    })
                     .bodyValue(requestBody)
                     .retrieve()
                     .onStatus(HttpStatusCode::isError, response ->
-                        Mono.error(new ServerException("Failed to execute request: " + response.statusCode())))
-                    .bodyToMono(String.class)
-                    .flatMap(body -> {
+                        Mono.error(new ServerException("Failed to execute request: " + response.statusCode(), response.statusCode().value())))
+                    .bodyToMono(DataBuffer.class)
+                    .transform(body -> withRequestTimeout(body, wait != null && isEnabled(requestTimeout)
+                        ? requestTimeout.plus(wait)
+                        : requestTimeout))
+                    .transform(body -> retryPolicy.apply(request.getMethod(), body))
+                    .handle((body, sink) -> {
                         try {
-                            return Mono.just(JsonUtils.fromJsonResponse(body, responseType));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new ServerException("Failed to parse response", e));
+                            sink.next(JsonUtils.fromJsonResponse(body, responseType));
+                        } catch (IOException e) {
+                            sink.error(new ServerException("Failed to parse response", e));
                         }
-                    });
+                    })
+                    .transform(response -> wait == null && RetryPolicy.IDEMPOTENT_METHODS.contains(request.getMethod())
+                        ? coalesce(coalescingKey, hedge(apiUrl + "#" + request.getMethod(), response))
+                        : response);
         } catch (JsonProcessingException e) {
             return Mono.error(new ServerException("Failed to serialize request", e));
         }
     }
 
+    /**
+     * Shares an idempotent request with concurrent callers sending the same method and parameters.
+     *
+     * @param key The method and serialized parameters, or null if the request is not coalesced.
+     * @param response The response of the request.
+     * @param <T> The response type.
+     * @return The shared response.
+     */
+    private <T> Mono<T> coalesce(String key, Mono<T> response) {
+        return key != null ? requestCoalescer.apply(key, response) : response;
+    }
+
+    /**
+     * Hedges an idempotent request if a hedging policy is configured.
+     *
+     * @param endpoint The endpoint whose latencies decide when to hedge.
+     * @param response The response of the request.
+     * @param <T> The response type.
+     * @return The response of whichever request completes first.
+     */
+    private <T> Mono<T> hedge(String endpoint, Mono<T> response) {
+        return hedgingPolicy != null ? hedgingPolicy.apply(endpoint, response) : response;
+    }
+
+    /**
+     * Limits the time until a complete response has been received.
+     * Streaming requests are not limited, as they stay open for the lifetime of the task.
+     *
+     * @param response The response.
+     * @param <T> The response type.
+     * @return The response, failing with a ServerException if the request timeout expires.
+     */
+    private <T> Mono<T> withRequestTimeout(Mono<T> response) {
+        return withRequestTimeout(response, requestTimeout);
+    }
+
+    private <T> Mono<T> withRequestTimeout(Mono<T> response, Duration timeout) {
+        if (!isEnabled(timeout)) {
+            return response;
+        }
+        return response
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class,
+                    e -> new ServerException("Request timed out after " + timeout, e));
+    }
+
+    private static boolean isEnabled(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
     /**
      * Executes a streaming JSON-RPC request and returns a Flux of events.
      *
@@ -279,6 +561,31 @@ public class A2AClientImpl implements A2AClient {
      * @return A Flux of streaming responses.
      */
     private Flux<SendTaskStreamingResponse> executeStreamingRequest(JsonRpcRequest request) {
+        return executeStreamingRequest(request, null)
+                .map(ServerSentEvent::data);
+    }
+
+    /**
+     * Removes the read timeout of the HTTP client from a streaming request.
+     * The timeout limits the time between two reads, which a stream may exceed while the task works.
+     *
+     * @param request The request about to be sent.
+     */
+    private static void disableResponseTimeout(ClientHttpRequest request) {
+        Object nativeRequest = request.getNativeRequest();
+        if (nativeRequest instanceof HttpClientRequest) {
+            ((HttpClientRequest) nativeRequest).responseTimeout(null);
+        }
+    }
+
+    /**
+     * Executes a streaming JSON-RPC request and returns a Flux of server-sent events with their IDs.
+     *
+     * @param request The request to send.
+     * @param lastEventId The ID of the last event received on a previous stream, or null.
+     * @return A Flux of server-sent events carrying streaming responses.
+     */
+    private Flux<ServerSentEvent<SendTaskStreamingResponse>> executeStreamingRequest(JsonRpcRequest request, String lastEventId) {
         try {
             String requestBody = JsonUtils.toJson(request);
 
@@ -287,31 +594,153 @@ public class A2AClientImpl implements A2AClient {
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.TEXT_EVENT_STREAM)
                     .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                    .headers(headers -> {
+                        if (lastEventId != null) {
+                            headers.set(LAST_EVENT_ID, lastEventId);
+                        }
+                    })
+                    .httpRequest(A2AClientImpl::disableResponseTimeout)
                     .bodyValue(requestBody)
                     .retrieve()
                     .onStatus(HttpStatusCode::isError, response ->
-                        Mono.error(new ServerException("Failed to execute streaming request: " + response.statusCode())))
-                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
-                    .filter(event -> event.data() != null)
-                    .handle((event, sink) -> {
-                        try {
-                            sink.next(JsonUtils.fromJsonResponse(event.data(), SendTaskStreamingResponse.class));
-                        } catch (JsonProcessingException e) {
-                            sink.error(new ServerException("Failed to parse streaming response", e));
-                        }
-                    });
+                        Mono.error(new ServerException("Failed to execute streaming request: " + response.statusCode(),
+                            response.statusCode().value())))
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<SendTaskStreamingResponse>>() {})
+                    .onErrorMap(CodecException.class,
+                        e -> new ServerException("Failed to parse streaming response", e))
+                    .filter(event -> event.data() != null);
         } catch (JsonProcessingException e) {
             return Flux.error(new ServerException("Failed to serialize request", e));
         }
     }
 
+    /**
+     * Streams a task, resuming the stream with {@code tasks/resubscribe} and the last event ID
+     * whenever it fails or ends before the final status update, as allowed by the stream resume policy.
+     * <p>
+     * The first request is only sent again if no connection could be established, so that the task
+     * is never sent twice. Events whose ID is not greater than the last event ID received are skipped,
+     * in case the server replays them. A status update without an ID marks a gap in the server's
+     * journal, for example after a restart: the sequences that follow start over, so the last event
+     * ID is forgotten and they are all accepted.
+     * </p>
+     *
+     * @param request The initial streaming request.
+     * @param taskId The ID of the task.
+     * @return A Flux of streaming responses that completes after the final status update.
+     */
+    private Flux<SendTaskStreamingResponse> resumableStream(JsonRpcRequest request, String taskId) {
+        AtomicReference<String> lastEventId = new AtomicReference<>();
+        AtomicLong lastSequence = new AtomicLong(-1);
+        AtomicBoolean received = new AtomicBoolean();
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicInteger attempts = new AtomicInteger();
+
+        return Flux.defer(() -> {
+                    JsonRpcRequest next = received.get() || request instanceof TaskResubscriptionRequest
+                        ? TaskResubscriptionRequest.builder()
+                            .id(request.getId())
+                            .params(TaskQueryParams.builder().id(taskId).build())
+                            .build()
+                        : request;
+                    return executeStreamingRequest(next, lastEventId.get())
+                        .doOnNext(event -> {
+                            received.set(true);
+                            attempts.set(0);
+                        })
+                        .filter(event -> isNewEvent(event, lastEventId, lastSequence))
+                        .map(ServerSentEvent::data)
+                        .takeUntil(response -> {
+                            // An error response, such as an unknown task, ends the stream like a final status
+                            boolean last = isFinalStatus(response) || response.getError() != null;
+                            finished.set(last);
+                            return last;
+                        })
+                        .concatWith(Mono.defer(() -> finished.get()
+                            ? Mono.empty()
+                            : Mono.error(new StreamResumePolicy.StreamEndedException(taskId))));
+                })
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    boolean resumable = received.get()
+                        ? StreamResumePolicy.isResumable(failure)
+                        : isConnectFailure(failure)
+                            || (request instanceof TaskResubscriptionRequest && StreamResumePolicy.isResumable(failure));
+                    int attempt = attempts.incrementAndGet();
+                    if (!resumable || attempt > streamResumePolicy.getMaxAttempts()) {
+                        return Flux.error(failure);
+                    }
+                    return Mono.delay(streamResumePolicy.getDelay(attempt));
+                })));
+    }
+
+    /**
+     * Checks whether an event has not been received yet, and remembers its ID if so.
+     * Event IDs are the sequence numbers of the server's event journal; other IDs are only
+     * compared for equality with the last one. A result without an ID is the current status
+     * sent after a gap in the journal, after which sequences are compared afresh.
+     */
+    private static boolean isNewEvent(ServerSentEvent<SendTaskStreamingResponse> event,
+                                      AtomicReference<String> lastEventId, AtomicLong lastSequence) {
+        String id = event.id();
+        if (id == null) {
+            if (event.data().getError() == null) {
+                lastSequence.set(-1);
+                lastEventId.set(null);
+            }
+            return true;
+        }
+        try {
+            long sequence = Long.parseLong(id);
+            if (sequence <= lastSequence.get()) {
+                return false;
+            }
+            lastSequence.set(sequence);
+        } catch (NumberFormatException e) {
+            if (id.equals(lastEventId.get())) {
+                return false;
+            }
+        }
+        lastEventId.set(id);
+        return true;
+    }
+
+    /**
+     * Checks whether a request failed before reaching the server.
+     */
+    private static boolean isConnectFailure(Throwable failure) {
+        return failure instanceof WebClientRequestException && failure.getCause() instanceof ConnectException;
+    }
+
+    /**
+     * Checks whether a streaming response carries the final status update of its task.
+     * Streams complete after this response, which cancels the request and releases its connection.
+     *
+     * @param response The streaming response.
+     * @return true if the response is a final status update.
+     */
+    private static boolean isFinalStatus(SendTaskStreamingResponse response) {
+        return response.getResult() instanceof TaskStatusUpdateEvent
+                && Boolean.TRUE.equals(((TaskStatusUpdateEvent) response.getResult()).getFinalFlag());
+    }
+
     @Override
     public void close() throws IOException {
-        // WebClient doesn't need explicit closing
+        // A WebClient passed in is owned by the caller, only the pool created by the builder is released
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
     }
 
     /**
      * A builder for creating A2AClientImpl instances.
+     * <p>
+     * Unless a WebClient is provided, the client gets a dedicated connection pool: connections
+     * are reused most-recently-used first, so that idle ones can be evicted, and callers
+     * waiting for a connection are bounded in number and time. The connect timeout applies
+     * to establishing connections, the read timeout to the time between reads of a response
+     * and the request timeout to the whole of a non-streaming request.
+     * </p>
      */
     public static class Builder {
         private String baseUrl;
@@ -320,6 +749,20 @@ public class A2AClientImpl implements A2AClient {
         private Duration requestTimeout = Duration.ofSeconds(30);
         private Duration connectTimeout = Duration.ofSeconds(15);
         private Duration readTimeout = Duration.ofSeconds(60);
+        private int maxConnections = 500;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private boolean http2;
+        private RetryPolicy retryPolicy = RetryPolicy.defaults();
+        private HedgingPolicy hedgingPolicy;
+        private AgentCardCache agentCardCache = new AgentCardCache();
+        private StreamResumePolicy streamResumePolicy;
+        private PollingPolicy pollingPolicy = PollingPolicy.defaults();
+        private boolean coalesceReads;
+        private boolean jsonCodecsConfigured;
+        private Duration readResultTtl = Duration.ZERO;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -331,8 +774,29 @@ public class A2AClientImpl implements A2AClient {
             return this;
         }
 
+        /**
+         * Uses the given WebClient as is. The pool and timeout settings of this builder
+         * are then ignored, except for the request timeout.
+         *
+         * @param webClient The WebClient to use.
+         * @return This builder.
+         */
         public Builder webClient(WebClient webClient) {
             this.webClient = webClient;
+            this.jsonCodecsConfigured = false;
+            return this;
+        }
+
+        /**
+         * Uses a WebClient whose codecs were already set up by {@link A2AClientImpl#withJsonCodecs(WebClient.Builder)},
+         * so that it is shared as is instead of being copied for this client.
+         *
+         * @param webClient The WebClient to use.
+         * @return This builder.
+         */
+        Builder sharedWebClient(WebClient webClient) {
+            this.webClient = webClient;
+            this.jsonCodecsConfigured = true;
             return this;
         }
 
@@ -346,23 +810,221 @@ public class A2AClientImpl implements A2AClient {
             return this;
         }
 
+        /**
+         * Sets the longest time to wait for data of a response. Streams are not limited by it.
+         *
+         * @param readTimeout The read timeout, 60 seconds by default.
+         * @return This builder.
+         */
         public Builder readTimeout(Duration readTimeout) {
             this.readTimeout = readTimeout;
             return this;
         }
 
+        /**
+         * Sets the maximum number of open connections to the server.
+         *
+         * @param maxConnections The maximum number of connections, 500 by default.
+         * @return This builder.
+         */
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets how many requests may wait for a connection when all connections are in use.
+         *
+         * @param pendingAcquireMaxCount The maximum number of waiting requests, 1000 by default.
+         * @return This builder.
+         */
+        public Builder pendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+            return this;
+        }
+
+        /**
+         * Sets how long a request may wait for a connection when all connections are in use.
+         *
+         * @param pendingAcquireTimeout The maximum wait, 10 seconds by default.
+         * @return This builder.
+         */
+        public Builder pendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may stay idle in the pool before it is closed.
+         *
+         * @param maxIdleTime The maximum idle time, 30 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may be used before it is closed, so that load is rebalanced
+         * when servers are added behind a load balancer.
+         *
+         * @param maxLifeTime The maximum lifetime, 5 minutes by default.
+         * @return This builder.
+         */
+        public Builder maxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+            return this;
+        }
+
+        /**
+         * Enables HTTP/2, negotiated via ALPN for https URLs and via upgrade for http URLs,
+         * falling back to HTTP/1.1 if the server does not support it.
+         *
+         * @param http2 Whether to use HTTP/2, false by default.
+         * @return This builder.
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Sets how failed requests are retried. Streaming requests are never retried.
+         *
+         * @param retryPolicy The retry policy, {@link RetryPolicy#defaults()} by default.
+         * @return This builder.
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Enables hedging of idempotent requests, such as getting a task or the agent card.
+         *
+         * @param hedgingPolicy The hedging policy, or null to disable hedging, which is the default.
+         * @return This builder.
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the cache of agent cards, which can be shared by several clients.
+         *
+         * @param agentCardCache The cache, or null to fetch the card on every call. A new cache by default.
+         * @return This builder.
+         */
+        public Builder agentCardCache(AgentCardCache agentCardCache) {
+            this.agentCardCache = agentCardCache;
+            return this;
+        }
+
+        /**
+         * Enables resuming task streams that drop before the final status update, see {@link StreamResumePolicy}.
+         *
+         * @param streamResumePolicy The resume policy, or null to fail the stream instead, which is the default.
+         * @return This builder.
+         */
+        public Builder streamResumePolicy(StreamResumePolicy streamResumePolicy) {
+            this.streamResumePolicy = streamResumePolicy;
+            return this;
+        }
+
+        /**
+         * Sets how {@link A2AClient#awaitTask(String, Instant)} polls tasks.
+         *
+         * @param pollingPolicy The polling policy, {@link PollingPolicy#defaults()} by default.
+         * @return This builder.
+         */
+        public Builder pollingPolicy(PollingPolicy pollingPolicy) {
+            this.pollingPolicy = pollingPolicy;
+            return this;
+        }
+
+        /**
+         * Sets whether concurrent identical idempotent requests, such as getting the same task, share one request.
+         * Callers then receive the same response object, which must not be modified and carries the JSON-RPC ID
+         * of the request that was sent, not necessarily their own.
+         *
+         * @param coalesceReads Whether to coalesce reads, false by default.
+         * @return This builder.
+         */
+        public Builder coalesceReads(boolean coalesceReads) {
+            this.coalesceReads = coalesceReads;
+            return this;
+        }
+
+        /**
+         * Sets how long the response of a coalesced read is reused for identical requests after it arrived.
+         * A short time, such as a few hundred milliseconds, absorbs bursts of reads that are not quite concurrent.
+         *
+         * @param readResultTtl The time to live, zero by default to only share requests in flight.
+         * @return This builder.
+         */
+        public Builder readResultTtl(Duration readResultTtl) {
+            this.readResultTtl = readResultTtl;
+            return this;
+        }
+
         public A2AClient build() {
             if (baseUrl == null) {
                 throw new IllegalStateException("Base URL must be provided");
             }
 
-            WebClient client = webClient != null ? webClient : WebClient.builder().build();
+            if (webClient != null) {
+                return new A2AClientImpl(baseUrl, endpoint,
+                                       jsonCodecsConfigured ? webClient : withJsonCodecs(webClient.mutate()).build(),
+                                       requestTimeout, connectTimeout, readTimeout, null, retryPolicy, hedgingPolicy,
+                                       agentCardCache, streamResumePolicy, pollingPolicy, createRequestCoalescer());
+            }
+            return new A2AClientImpl(this);
+        }
+
+        private RequestCoalescer createRequestCoalescer() {
+            return coalesceReads ? new RequestCoalescer(readResultTtl) : null;
+        }
+
+        private ConnectionProvider createConnectionProvider() {
+            return ConnectionProvider.builder("a2a-client")
+                    .maxConnections(maxConnections)
+                    .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                    .pendingAcquireTimeout(pendingAcquireTimeout)
+                    .maxIdleTime(maxIdleTime)
+                    .maxLifeTime(maxLifeTime)
+                    .evictInBackground(maxIdleTime)
+                    .lifo()
+                    .build();
+        }
 
-            return new A2AClientImpl(baseUrl, endpoint, client,
-                                   requestTimeout, connectTimeout, readTimeout);
+        private WebClient createWebClient(ConnectionProvider connectionProvider) {
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                    .responseTimeout(readTimeout);
+            if (http2) {
+                httpClient = baseUrl.startsWith("https:")
+                        ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                        : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+            }
+            return withJsonCodecs(WebClient.builder())
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build();
         }
     }
 
+    /**
+     * Sets up a WebClient to decode streamed events with the mapper of {@link JsonUtils}.
+     *
+     * @param builder The WebClient builder.
+     * @return The same builder.
+     */
+    static WebClient.Builder withJsonCodecs(WebClient.Builder builder) {
+        return builder.codecs(configurer -> configurer.defaultCodecs()
+            .jackson2JsonDecoder(new Jackson2JsonDecoder(JsonUtils.getObjectMapper())));
+    }
+
     /**
      * Creates a new builder for A2AClientImpl.
      *
@@ -0,0 +1,175 @@
+package org.a2a4j.client;
+
+import org.a2a4j.models.AgentCard;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache of agent cards by URL.
+ * <p>
+ * A card is kept for the max-age the server sends in its Cache-Control header, or for the default
+ * time to live if it sends none. Once most of that time has passed, the cached card is still returned
+ * while it is revalidated in the background, so callers do not wait for discovery. Revalidation sends
+ * the card's ETag, and a 304 Not Modified response renews the cached card without a body to parse.
+ * Concurrent fetches of the same URL are shared, and if a fetch fails, the previous card is returned.
+ * </p>
+ * <p>
+ * One cache can be shared by all clients of an application.
+ * </p>
+ */
+public class AgentCardCache {
+
+    /** Share of a card's time to live after which it is refreshed in the background */
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final Duration defaultTtl;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Mono<AgentCard>> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new AgentCardCache keeping cards for 5 minutes unless the server says otherwise.
+     */
+    public AgentCardCache() {
+        this(Duration.ofMinutes(5));
+    }
+
+    /**
+     * Creates a new AgentCardCache.
+     *
+     * @param defaultTtl How long cards are kept if the server sends no max-age.
+     */
+    public AgentCardCache(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Removes the card of a URL, so that the next request fetches it again.
+     *
+     * @param url The URL of the agent card.
+     */
+    public void invalidate(String url) {
+        entries.remove(url);
+    }
+
+    /**
+     * Gets the card of a URL, fetching it if it is not cached or has expired.
+     *
+     * @param url The URL of the agent card.
+     * @param fetch Fetches the card, given the ETag of the cached card or null.
+     * @return A Mono emitting the agent card.
+     */
+    Mono<AgentCard> get(String url, Function<String, Mono<Fetched>> fetch) {
+        return Mono.defer(() -> {
+            Entry entry = entries.get(url);
+            long now = System.nanoTime();
+            if (entry != null && entry.expiresAt - now > 0) {
+                if (now - entry.refreshAt >= 0) {
+                    // Errors are ignored, the card is fetched again on the next request
+                    refresh(url, entry, fetch).subscribe(card -> { }, error -> { });
+                }
+                return Mono.just(entry.card);
+            }
+            return refresh(url, entry, fetch);
+        });
+    }
+
+    /**
+     * Fetches a card, sharing the fetch with concurrent requests for the same URL.
+     */
+    private Mono<AgentCard> refresh(String url, Entry previous, Function<String, Mono<Fetched>> fetch) {
+        return fetches.computeIfAbsent(url, key -> {
+            AtomicReference<Mono<AgentCard>> self = new AtomicReference<>();
+            Mono<AgentCard> request = fetch.apply(previous != null ? previous.etag : null)
+                .map(fetched -> store(url, previous, fetched))
+                .onErrorResume(error -> previous != null ? Mono.just(previous.card) : Mono.error(error))
+                .doFinally(signal -> fetches.remove(key, self.get()))
+                .cache();
+            self.set(request);
+            return request;
+        });
+    }
+
+    private AgentCard store(String url, Entry previous, Fetched fetched) {
+        AgentCard card = fetched.card != null ? fetched.card : previous.card;
+        String etag = fetched.card != null ? fetched.etag : (fetched.etag != null ? fetched.etag : previous.etag);
+        Duration ttl = fetched.maxAge != null ? fetched.maxAge : defaultTtl;
+        long now = System.nanoTime();
+        entries.put(url, new Entry(card, etag, now + ttl.toNanos(), now + (long) (ttl.toNanos() * REFRESH_AHEAD_RATIO)));
+        return card;
+    }
+
+    /**
+     * Reads how long a response may be cached from its Cache-Control header.
+     *
+     * @param cacheControl The header value, or null.
+     * @return The max-age, zero for no-cache and no-store, or null if the header does not say.
+     */
+    static Duration maxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        Duration maxAge = null;
+        for (String directive : cacheControl.split(",")) {
+            String name = directive.trim().toLowerCase(Locale.ROOT);
+            if (name.equals("no-cache") || name.equals("no-store")) {
+                return Duration.ZERO;
+            }
+            if (name.startsWith("max-age=")) {
+                try {
+                    maxAge = Duration.ofSeconds(Long.parseLong(name.substring("max-age=".length())));
+                } catch (NumberFormatException e) {
+                    // An invalid max-age is ignored like a missing one
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * A cached card and its validity.
+     */
+    private static final class Entry {
+        private final AgentCard card;
+        private final String etag;
+        private final long expiresAt;
+        private final long refreshAt;
+
+        private Entry(AgentCard card, String etag, long expiresAt, long refreshAt) {
+            this.card = card;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    /**
+     * The outcome of fetching a card.
+     */
+    static final class Fetched {
+        private final AgentCard card;
+        private final String etag;
+        private final Duration maxAge;
+
+        /**
+         * Creates a new Fetched outcome.
+         *
+         * @param card The card, or null if the server answered that the cached card is not modified.
+         * @param etag The ETag of the card, or null if the server sent none.
+         * @param maxAge How long the card may be cached, or null if the server did not say.
+         */
+        Fetched(AgentCard card, String etag, Duration maxAge) {
+            this.card = card;
+            this.etag = etag;
+            this.maxAge = maxAge;
+        }
+
+        AgentCard getCard() {
+            return card;
+        }
+    }
+}
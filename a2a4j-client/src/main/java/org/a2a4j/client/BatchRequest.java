@@ -0,0 +1,269 @@
+package org.a2a4j.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.jsonrpc.*;
+import org.a2a4j.models.notification.PushNotificationConfig;
+import org.a2a4j.models.notification.TaskPushNotificationConfig;
+import org.a2a4j.models.params.TaskIdParams;
+import org.a2a4j.models.params.TaskQueryParams;
+import org.a2a4j.models.params.TaskSendParams;
+import org.a2a4j.models.params.TasksQueryParams;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builder of a JSON-RPC batch, which sends several requests in a single HTTP request.
+ * <p>
+ * Requests are added with the same parameters as the corresponding {@link A2AClient} methods and
+ * sent together by {@link #execute()}. The server processes them independently, so one failing
+ * request only fails its own response. Every request gets a generated ID unless one is given.
+ * </p>
+ * <pre>{@code
+ * List<JsonRpcResponse<?>> responses = client.batch()
+ *     .getTask("task-1", 10)
+ *     .getTask("task-2", 10)
+ *     .execute()
+ *     .block();
+ * }</pre>
+ */
+public class BatchRequest {
+
+    private final List<JsonRpcRequest<?>> requests = new ArrayList<>();
+    private final Function<List<JsonRpcRequest<?>>, Mono<List<JsonRpcResponse<?>>>> sender;
+
+    /**
+     * Creates a new BatchRequest.
+     *
+     * @param sender Sends the requests and returns their responses in request order.
+     */
+    BatchRequest(Function<List<JsonRpcRequest<?>>, Mono<List<JsonRpcResponse<?>>>> sender) {
+        this.sender = sender;
+    }
+
+    /**
+     * Adds a request to retrieve a task.
+     *
+     * @param taskId The ID of the task to retrieve.
+     * @param historyLength The maximum number of history entries to include in the response.
+     * @return This batch.
+     */
+    public BatchRequest getTask(String taskId, Integer historyLength) {
+        return add(GetTaskRequest.builder()
+                .id(generateRequestId())
+                .params(TaskQueryParams.builder().id(taskId).historyLength(historyLength).build())
+                .build());
+    }
+
+    /**
+     * Adds a request to retrieve several tasks.
+     *
+     * @param taskIds The IDs of the tasks to retrieve.
+     * @param historyLength The maximum number of history entries to include for each task.
+     * @return This batch.
+     */
+    public BatchRequest getTasks(Collection<String> taskIds, Integer historyLength) {
+        return add(GetTasksRequest.builder()
+                .id(generateRequestId())
+                .params(TasksQueryParams.builder().ids(new ArrayList<>(taskIds)).historyLength(historyLength).build())
+                .build());
+    }
+
+    /**
+     * Adds a request to create or update a task.
+     *
+     * @param message The message to include in the task.
+     * @param taskId The ID of the task to create or update.
+     * @param sessionId The session ID for this task.
+     * @param historyLength The maximum number of history entries to include in the response.
+     * @return This batch.
+     */
+    public BatchRequest sendTask(Message message, String taskId, String sessionId, Integer historyLength) {
+        return add(SendTaskRequest.builder()
+                .id(generateRequestId())
+                .params(TaskSendParams.builder()
+                    .id(taskId)
+                    .sessionId(sessionId)
+                    .message(message)
+                    .historyLength(historyLength)
+                    .metadata(new HashMap<>())
+                    .build())
+                .build());
+    }
+
+    /**
+     * Adds a request to cancel a task.
+     *
+     * @param taskId The ID of the task to cancel.
+     * @return This batch.
+     */
+    public BatchRequest cancelTask(String taskId) {
+        return add(CancelTaskRequest.builder()
+                .id(generateRequestId())
+                .params(TaskIdParams.builder().id(taskId).build())
+                .build());
+    }
+
+    /**
+     * Adds a request to set the push notification configuration of a task.
+     *
+     * @param taskId The ID of the task to configure.
+     * @param config The push notification configuration.
+     * @return This batch.
+     */
+    public BatchRequest setTaskPushNotification(String taskId, PushNotificationConfig config) {
+        return add(SetTaskPushNotificationRequest.builder()
+                .id(generateRequestId())
+                .params(TaskPushNotificationConfig.builder().id(taskId).pushNotificationConfig(config).build())
+                .build());
+    }
+
+    /**
+     * Adds a request to retrieve the push notification configuration of a task.
+     *
+     * @param taskId The ID of the task.
+     * @return This batch.
+     */
+    public BatchRequest getTaskPushNotification(String taskId) {
+        return add(GetTaskPushNotificationRequest.builder()
+                .id(generateRequestId())
+                .params(TaskIdParams.builder().id(taskId).build())
+                .build());
+    }
+
+    /**
+     * Adds a request. Streaming requests cannot be batched.
+     *
+     * @param request The request, whose ID must be unique within the batch.
+     * @return This batch.
+     */
+    public BatchRequest add(JsonRpcRequest<?> request) {
+        if (request instanceof SendTaskStreamingRequest || request instanceof TaskResubscriptionRequest) {
+            throw new IllegalArgumentException("Streaming requests cannot be batched: " + request.getMethod());
+        }
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * Gets the number of requests in this batch.
+     *
+     * @return The number of requests.
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Sends the batch.
+     *
+     * @return A Mono emitting one response per request, in the order the requests were added.
+     *     Each response has the type the corresponding client method returns, such as {@link GetTaskResponse}.
+     */
+    public Mono<List<JsonRpcResponse<?>>> execute() {
+        if (requests.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return sender.apply(List.copyOf(requests));
+    }
+
+    private static String generateRequestId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Checks whether all requests of a batch can be sent again without changing the outcome.
+     *
+     * @param requests The requests of the batch.
+     * @return true if every request is idempotent.
+     */
+    static boolean isIdempotent(List<JsonRpcRequest<?>> requests) {
+        for (JsonRpcRequest<?> request : requests) {
+            if (!RetryPolicy.IDEMPOTENT_METHODS.contains(request.getMethod())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serializes the requests of a batch as a JSON array.
+     *
+     * @param requests The requests.
+     * @return The JSON array.
+     * @throws JsonProcessingException If a request cannot be serialized.
+     */
+    static String toJson(List<JsonRpcRequest<?>> requests) throws JsonProcessingException {
+        StringBuilder json = new StringBuilder("[");
+        for (JsonRpcRequest<?> request : requests) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(JsonUtils.toJson(request));
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Matches the responses of a batch to its requests by ID.
+     *
+     * @param requests The requests of the batch.
+     * @param responses The JSON array of responses, in any order.
+     * @return The responses in request order, each read as the response type of its method.
+     * @throws JsonProcessingException If a response cannot be read.
+     * @throws ServerException If the server did not answer with an array, or a response is missing.
+     */
+    static List<JsonRpcResponse<?>> fromJson(List<JsonRpcRequest<?>> requests, JsonNode responses)
+            throws JsonProcessingException {
+        if (!responses.isArray()) {
+            JsonNode error = responses.path("error");
+            throw new ServerException("Batch request failed: " + error.path("message").asText(responses.toString()));
+        }
+        Map<String, JsonNode> byId = new HashMap<>();
+        for (JsonNode response : responses) {
+            JsonNode id = response.get("id");
+            if (id != null && !id.isNull()) {
+                byId.put(id.asText(), response);
+            }
+        }
+        List<JsonRpcResponse<?>> ordered = new ArrayList<>(requests.size());
+        for (JsonRpcRequest<?> request : requests) {
+            JsonNode response = byId.get(request.getId());
+            if (response == null) {
+                throw new ServerException("Batch response is missing request " + request.getId());
+            }
+            ordered.add(JsonUtils.getObjectMapper().treeToValue(response, responseType(request.getMethod())));
+        }
+        return ordered;
+    }
+
+    /**
+     * Gets the response type of a method.
+     */
+    private static Class<? extends JsonRpcResponse> responseType(String method) {
+        switch (method) {
+            case "tasks/get":
+                return GetTaskResponse.class;
+            case "tasks/getMany":
+                return GetTasksResponse.class;
+            case "tasks/send":
+                return SendTaskResponse.class;
+            case "tasks/cancel":
+                return CancelTaskResponse.class;
+            case "tasks/pushNotification/set":
+                return SetTaskPushNotificationResponse.class;
+            case "tasks/pushNotification/get":
+                return GetTaskPushNotificationResponse.class;
+            default:
+                return ErrorResponse.class;
+        }
+    }
+}
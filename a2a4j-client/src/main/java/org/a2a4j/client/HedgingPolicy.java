@@ -0,0 +1,215 @@
+package org.a2a4j.client;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hedging policy for idempotent A2A client requests.
+ * <p>
+ * If a request has not completed within the observed latency percentile of its endpoint (p95 by
+ * default), the same request is sent a second time and whichever response arrives first is used;
+ * the other request is cancelled. A request that fails before that is hedged right away. A failure
+ * only ends the hedged request once both requests have failed, or if no hedge could be sent, and
+ * the error of the first request is reported. Until enough latencies have been observed, the
+ * maximum delay is used instead; failed requests count towards the latencies as well. Hedges are
+ * limited to a fraction of the requests, so that a slow agent does not receive twice the load.
+ * </p>
+ */
+public class HedgingPolicy {
+
+    /** Fixed-point scale of the hedge budget, so that fractions of a hedge can be deposited atomically */
+    private static final long TOKEN = 1000;
+
+    private final double quantile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final int windowSize;
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+    private final ConcurrentHashMap<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+
+    private HedgingPolicy(Builder builder) {
+        this.quantile = builder.quantile;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+        this.windowSize = builder.windowSize;
+        this.deposit = Math.round(builder.maxHedgeRatio * TOKEN);
+        this.maxBalance = builder.maxBurst * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Creates a new builder for HedgingPolicy.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the delay after which a request to an endpoint is hedged.
+     *
+     * @param endpoint The endpoint, such as the JSON-RPC method.
+     * @return The observed latency percentile, bounded by the minimum and maximum delay.
+     */
+    public Duration getHedgeDelay(String endpoint) {
+        LatencyTracker tracker = trackers.get(endpoint);
+        long percentile = tracker != null ? tracker.getPercentileNanos() : -1;
+        if (percentile < 0) {
+            return maxDelay;
+        }
+        long nanos = Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), percentile));
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Applies this policy to an idempotent request.
+     *
+     * @param endpoint The endpoint whose latencies decide the hedge delay, such as the JSON-RPC method.
+     * @param request The request, which is sent again on every subscription.
+     * @param <T> The response type.
+     * @return The hedged request.
+     */
+    public <T> Mono<T> apply(String endpoint, Mono<T> request) {
+        LatencyTracker tracker = trackers.computeIfAbsent(endpoint, k -> new LatencyTracker(windowSize, quantile));
+        Mono<T> timed = Mono.defer(() -> {
+            long start = System.nanoTime();
+            // Cancelled requests are left out, their latency is unknown
+            return request.doOnEach(signal -> {
+                if (signal.isOnNext() || signal.isOnError()) {
+                    tracker.record(System.nanoTime() - start);
+                }
+            });
+        });
+
+        return Mono.defer(() -> {
+            deposit();
+            AtomicReference<Throwable> firstError = new AtomicReference<>();
+            Sinks.Empty<Void> firstFailed = Sinks.empty();
+            Mono<T> first = timed.doOnError(error -> {
+                firstError.set(error);
+                firstFailed.tryEmitEmpty();
+            });
+            Mono<T> hedge = Mono.firstWithSignal(Mono.delay(getHedgeDelay(endpoint)).then(), firstFailed.asMono())
+                .then(Mono.defer(() -> withdraw() ? timed : Mono.<T>empty()));
+            // The first value wins; if neither request has one, the error of the first request is reported
+            return Mono.firstWithValue(first, hedge)
+                .onErrorMap(NoSuchElementException.class, e -> firstError.get() != null ? firstError.get() : e);
+        });
+    }
+
+    private void deposit() {
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + deposit));
+    }
+
+    private boolean withdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A builder for creating HedgingPolicy instances.
+     */
+    public static class Builder {
+        private double quantile = 0.95;
+        private Duration minDelay = Duration.ofMillis(5);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private int windowSize = 256;
+        private double maxHedgeRatio = 0.05;
+        private int maxBurst = 10;
+
+        /**
+         * Sets the latency quantile after which a request is hedged.
+         *
+         * @param quantile The quantile between 0 and 1, 0.95 by default.
+         * @return This builder.
+         */
+        public Builder quantile(double quantile) {
+            this.quantile = quantile;
+            return this;
+        }
+
+        /**
+         * Sets the smallest delay before a hedge is sent.
+         *
+         * @param minDelay The minimum delay, 5 ms by default.
+         * @return This builder.
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Sets the largest delay before a hedge is sent, also used until enough latencies are known.
+         *
+         * @param maxDelay The maximum delay, 1 second by default.
+         * @return This builder.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the number of recent latencies the percentile is estimated from.
+         *
+         * @param windowSize The number of latencies per endpoint, 256 by default.
+         * @return This builder.
+         */
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of requests that may be hedged.
+         *
+         * @param maxHedgeRatio The hedge rate, 0.05 by default.
+         * @return This builder.
+         */
+        public Builder maxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * Sets the number of hedges that can be saved up for a burst of slow requests. The budget starts full.
+         *
+         * @param maxBurst The maximum number of saved hedges, 10 by default.
+         * @return This builder.
+         */
+        public Builder maxBurst(int maxBurst) {
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            if (quantile <= 0 || quantile > 1) {
+                throw new IllegalStateException("Quantile must be between 0 and 1");
+            }
+            if (windowSize < 1) {
+                throw new IllegalStateException("Window size must be positive");
+            }
+            if (minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+                throw new IllegalStateException("Max delay must not be smaller than the min delay");
+            }
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -7,6 +7,10 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import org.a2a4j.models.AgentCard;
 import org.a2a4j.models.jsonrpc.JsonRpcRequest;
 import org.a2a4j.models.jsonrpc.JsonRpcResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Utility class for JSON serialization and deserialization.
@@ -76,6 +80,36 @@ public class JsonUtils {
         return objectMapper.readValue(json, responseType);
     }
     
+    /**
+     * Reads a JsonRpcResponse directly from a response body buffer, without creating an intermediate String.
+     * The buffer is released once it has been read.
+     *
+     * @param buffer The buffer holding the JSON response body
+     * @param responseType The class of the target response type
+     * @param <T> The target response type
+     * @return The deserialized response
+     * @throws IOException If deserialization fails
+     */
+    public static <T extends JsonRpcResponse> T fromJsonResponse(DataBuffer buffer, Class<T> responseType) throws IOException {
+        return fromJson(buffer, responseType);
+    }
+
+    /**
+     * Reads an object directly from a response body buffer, without creating an intermediate String.
+     * The buffer is released once it has been read.
+     *
+     * @param buffer The buffer holding the JSON
+     * @param valueType The class of the target type
+     * @param <T> The target type
+     * @return The deserialized object
+     * @throws IOException If deserialization fails
+     */
+    public static <T> T fromJson(DataBuffer buffer, Class<T> valueType) throws IOException {
+        try (InputStream input = buffer.asInputStream(true)) {
+            return objectMapper.readValue(input, valueType);
+        }
+    }
+
     /**
      * Converts a JSON string to an AgentCard.
      *
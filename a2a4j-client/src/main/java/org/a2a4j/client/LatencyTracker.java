@@ -0,0 +1,57 @@
+package org.a2a4j.client;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the latencies of the most recent requests to one endpoint and estimates a percentile of them.
+ * The percentile is recomputed every few samples, so recording stays cheap.
+ */
+class LatencyTracker {
+
+    /** Number of samples between two recomputations of the percentile */
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples;
+    private final double quantile;
+    private int next;
+    private int count;
+    private long sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * Creates a new LatencyTracker.
+     *
+     * @param windowSize The number of most recent samples to keep.
+     * @param quantile The quantile to estimate, between 0 and 1.
+     */
+    LatencyTracker(int windowSize, double quantile) {
+        this.samples = new long[windowSize];
+        this.quantile = quantile;
+    }
+
+    /**
+     * Records the latency of a completed request.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(quantile * count) - 1)];
+        }
+    }
+
+    /**
+     * Gets the estimated percentile.
+     *
+     * @return The latency in nanoseconds, or -1 if not enough samples have been recorded yet.
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,565 @@
+package org.a2a4j.client;
+
+import org.a2a4j.models.AgentCard;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.jsonrpc.*;
+import org.a2a4j.models.notification.PushNotificationConfig;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A2A client that spreads requests over several replicas of the same agent.
+ * <p>
+ * Each request picks two random endpoints and is sent to the one with the lower cost, the number
+ * of requests in flight to it multiplied by the moving average of its latency, so slow or busy
+ * replicas receive fewer requests without the herding of always picking the least loaded one.
+ * </p>
+ * <p>
+ * Connection errors, timeouts and 5xx responses count as failures of an endpoint. After a number
+ * of consecutive failures, the endpoint is ejected for a time that grows with every ejection.
+ * When it comes back, a single failure ejects it again, while a success closes the circuit. At
+ * most a share of the endpoints is ejected at once, and if no endpoint is available all are used.
+ * </p>
+ * <p>
+ * Calls for a task created through this client, including streaming and resubscribing, are sent to
+ * the endpoint that created it, which holds its live state, as long as that endpoint is available.
+ * Calls for unknown tasks, new tasks, batches and the agent card are balanced.
+ * </p>
+ */
+public class LoadBalancedA2AClient implements A2AClient {
+
+    /** Latency assumed for endpoints without samples, so that their cost still grows with the requests in flight */
+    private static final double MIN_LATENCY_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final List<Endpoint> endpoints;
+    private final int failureThreshold;
+    private final Duration baseEjectionTime;
+    private final Duration maxEjectionTime;
+    private final int maxEjected;
+    private final double latencyWeight;
+    private final Map<String, Endpoint> taskOwners;
+
+    private LoadBalancedA2AClient(Builder builder) {
+        List<Endpoint> endpoints = new ArrayList<>(builder.baseUrls.size());
+        for (String baseUrl : builder.baseUrls) {
+            A2AClient client = builder.clientFactory != null
+                ? builder.clientFactory.apply(baseUrl)
+                : A2AClientImpl.builder().baseUrl(baseUrl).endpoint(builder.endpoint).build();
+            endpoints.add(new Endpoint(baseUrl, client));
+        }
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.failureThreshold = builder.failureThreshold;
+        this.baseEjectionTime = builder.baseEjectionTime;
+        this.maxEjectionTime = builder.maxEjectionTime;
+        this.maxEjected = endpoints.size() * builder.maxEjectionPercent / 100;
+        this.latencyWeight = builder.latencyWeight;
+        int maxTrackedTasks = builder.maxTrackedTasks;
+        this.taskOwners = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Endpoint> eldest) {
+                return size() > maxTrackedTasks;
+            }
+        });
+    }
+
+    /**
+     * Creates a new builder for LoadBalancedA2AClient.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks whether an endpoint is currently ejected.
+     *
+     * @param baseUrl The base URL of the endpoint.
+     * @return true if requests are currently not sent to the endpoint.
+     */
+    public boolean isEjected(String baseUrl) {
+        long now = System.nanoTime();
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.baseUrl.equals(baseUrl)) {
+                return endpoint.isEjected(now);
+            }
+        }
+        return false;
+    }
+
+    private String generateRequestId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public Mono<AgentCard> getAgentCard() {
+        return Mono.defer(() -> call(choose(), A2AClient::getAgentCard));
+    }
+
+    @Override
+    public Mono<GetTaskResponse> getTask(String taskId, Integer historyLength, String requestId) {
+        return Mono.defer(() -> call(ownerOf(taskId), client -> client.getTask(taskId, historyLength, requestId)));
+    }
+
+    @Override
+    public Mono<GetTaskResponse> getTask(String taskId) {
+        return getTask(taskId, 10, generateRequestId());
+    }
+
+    @Override
+    public Mono<GetTasksResponse> getTasks(Collection<String> taskIds, Integer historyLength, String requestId) {
+        return Mono.defer(() -> call(choose(), client -> client.getTasks(taskIds, historyLength, requestId)));
+    }
+
+    @Override
+    public Mono<GetTasksResponse> getTasks(Collection<String> taskIds) {
+        return getTasks(taskIds, 10, generateRequestId());
+    }
+
+    @Override
+    public Mono<SendTaskResponse> sendTask(Message message, String taskId, String sessionId, Integer historyLength, String requestId) {
+        return Mono.defer(() -> {
+            Endpoint endpoint = ownerOf(taskId);
+            taskOwners.put(taskId, endpoint);
+            return call(endpoint, client -> client.sendTask(message, taskId, sessionId, historyLength, requestId));
+        });
+    }
+
+    @Override
+    public Mono<SendTaskResponse> sendTask(Message message) {
+        String taskId = "task::" + UUID.randomUUID();
+        String sessionId = "session::" + UUID.randomUUID();
+        return sendTask(message, taskId, sessionId, 10, generateRequestId());
+    }
+
+    @Override
+    public Flux<SendTaskStreamingResponse> sendTaskStreaming(String taskId, String sessionId, Message message, Integer historyLength, String requestId) {
+        return Flux.defer(() -> {
+            Endpoint endpoint = ownerOf(taskId);
+            taskOwners.put(taskId, endpoint);
+            return stream(endpoint, client -> client.sendTaskStreaming(taskId, sessionId, message, historyLength, requestId));
+        });
+    }
+
+    @Override
+    public Flux<SendTaskStreamingResponse> sendTaskStreaming(Message message) {
+        String taskId = "task::" + UUID.randomUUID();
+        String sessionId = "session::" + UUID.randomUUID();
+        return sendTaskStreaming(taskId, sessionId, message, 10, generateRequestId());
+    }
+
+    @Override
+    public Mono<CancelTaskResponse> cancelTask(String taskId, String requestId) {
+        return Mono.defer(() -> call(ownerOf(taskId), client -> client.cancelTask(taskId, requestId)));
+    }
+
+    @Override
+    public Mono<CancelTaskResponse> cancelTask(String taskId) {
+        return cancelTask(taskId, generateRequestId());
+    }
+
+    @Override
+    public Mono<SetTaskPushNotificationResponse> setTaskPushNotification(String taskId, PushNotificationConfig config, String requestId) {
+        return Mono.defer(() -> call(ownerOf(taskId), client -> client.setTaskPushNotification(taskId, config, requestId)));
+    }
+
+    @Override
+    public Mono<SetTaskPushNotificationResponse> setTaskPushNotification(String taskId, PushNotificationConfig config) {
+        return setTaskPushNotification(taskId, config, generateRequestId());
+    }
+
+    @Override
+    public Mono<GetTaskPushNotificationResponse> getTaskPushNotification(String taskId, String requestId) {
+        return Mono.defer(() -> call(ownerOf(taskId), client -> client.getTaskPushNotification(taskId, requestId)));
+    }
+
+    @Override
+    public Mono<GetTaskPushNotificationResponse> getTaskPushNotification(String taskId) {
+        return getTaskPushNotification(taskId, generateRequestId());
+    }
+
+    @Override
+    public Flux<SendTaskStreamingResponse> resubscribeTask(String taskId, String requestId) {
+        return Flux.defer(() -> stream(ownerOf(taskId), client -> client.resubscribeTask(taskId, requestId)));
+    }
+
+    @Override
+    public Flux<SendTaskStreamingResponse> resubscribeTask(String taskId) {
+        return resubscribeTask(taskId, generateRequestId());
+    }
+
+    @Override
+    public Mono<GetTaskResponse> awaitTask(String taskId, Instant deadline) {
+        return Flux.defer(() -> stream(ownerOf(taskId), client -> client.awaitTask(taskId, deadline).flux())).next();
+    }
+
+    @Override
+    public BatchRequest batch() {
+        return new BatchRequest(requests -> Mono.defer(() -> call(choose(), client -> {
+            BatchRequest batch = client.batch();
+            requests.forEach(batch::add);
+            return batch.execute();
+        })));
+    }
+
+    /**
+     * Gets the endpoint for a call about a task.
+     *
+     * @param taskId The ID of the task.
+     * @return The endpoint that created the task if it is known and available, otherwise a balanced choice.
+     */
+    private Endpoint ownerOf(String taskId) {
+        Endpoint owner = taskId != null ? taskOwners.get(taskId) : null;
+        if (owner != null && owner.isAvailable(System.nanoTime())) {
+            return owner;
+        }
+        return choose();
+    }
+
+    /**
+     * Chooses an endpoint by the power of two choices.
+     *
+     * @return The cheaper of two random available endpoints.
+     */
+    private Endpoint choose() {
+        long now = System.nanoTime();
+        List<Endpoint> available = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now)) {
+                available.add(endpoint);
+            }
+        }
+        if (available.isEmpty()) {
+            // Trying an ejected endpoint beats failing every request
+            available = endpoints;
+        }
+        int size = available.size();
+        if (size == 1) {
+            return available.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = available.get(first);
+        Endpoint b = available.get(second);
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    /**
+     * Sends a request to an endpoint, tracking it as in flight and recording its outcome.
+     */
+    private <T> Mono<T> call(Endpoint endpoint, Function<A2AClient, Mono<T>> request) {
+        endpoint.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        return request.apply(endpoint.client)
+            .doOnSuccess(response -> endpoint.onSuccess(System.nanoTime() - start, latencyWeight))
+            .doOnError(error -> {
+                if (isEndpointFailure(error)) {
+                    onFailure(endpoint, System.nanoTime() - start);
+                }
+            })
+            .doFinally(signal -> endpoint.inFlight.decrementAndGet());
+    }
+
+    /**
+     * Opens a stream, or waits for a task, at an endpoint. Streams count as in flight while open, and the
+     * first event counts as a success, but their duration is not a latency sample.
+     */
+    private <T> Flux<T> stream(Endpoint endpoint, Function<A2AClient, Flux<T>> request) {
+        endpoint.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        return request.apply(endpoint.client)
+            .switchOnFirst((first, events) -> {
+                if (first.hasValue()) {
+                    endpoint.onSuccess(-1, latencyWeight);
+                }
+                return events;
+            })
+            .doOnError(error -> {
+                if (isEndpointFailure(error)) {
+                    onFailure(endpoint, System.nanoTime() - start);
+                }
+            })
+            .doFinally(signal -> endpoint.inFlight.decrementAndGet());
+    }
+
+    /**
+     * Records a failure and ejects the endpoint once it has failed too often in a row,
+     * unless too many endpoints are ejected already.
+     */
+    private void onFailure(Endpoint endpoint, long nanos) {
+        long now = System.nanoTime();
+        if (!endpoint.onFailure(nanos, latencyWeight, failureThreshold)) {
+            return;
+        }
+        synchronized (this) {
+            int ejected = 0;
+            for (Endpoint other : endpoints) {
+                if (other.isEjected(now)) {
+                    ejected++;
+                }
+            }
+            if (ejected < maxEjected) {
+                endpoint.eject(now, baseEjectionTime, maxEjectionTime, failureThreshold);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an error indicates a problem with the endpoint rather than with the request.
+     *
+     * @param error The error of a request.
+     * @return true for connection errors, timeouts and 5xx responses.
+     */
+    static boolean isEndpointFailure(Throwable error) {
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof ServerException) {
+            Integer status = ((ServerException) error).getStatusCode();
+            return status != null ? status >= 500 : error.getCause() instanceof TimeoutException;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.client.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The state of one replica: its load, its latency and its circuit breaker.
+     */
+    private static final class Endpoint {
+        private final String baseUrl;
+        private final A2AClient client;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double latencyNanos;
+        private volatile long ejectedUntil;
+        private volatile boolean halfOpen;
+        private int consecutiveFailures;
+        private int ejections;
+
+        private Endpoint(String baseUrl, A2AClient client) {
+            this.baseUrl = baseUrl;
+            this.client = client;
+        }
+
+        private double cost() {
+            return (inFlight.get() + 1) * Math.max(latencyNanos, MIN_LATENCY_NANOS);
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntil - now > 0;
+        }
+
+        /**
+         * Checks whether requests may be sent. After an ejection, only one request at a time
+         * probes the endpoint until one succeeds.
+         */
+        private boolean isAvailable(long now) {
+            return !isEjected(now) && (!halfOpen || inFlight.get() == 0);
+        }
+
+        /**
+         * Records a success.
+         *
+         * @param nanos The latency of the request, or a negative value if it is not a latency sample.
+         */
+        private synchronized void onSuccess(long nanos, double weight) {
+            consecutiveFailures = 0;
+            ejections = 0;
+            halfOpen = false;
+            if (nanos >= 0) {
+                latencyNanos = latencyNanos == 0 ? nanos : latencyNanos + weight * (nanos - latencyNanos);
+            }
+        }
+
+        /**
+         * Records a failure. Failures count as at least twice the average latency, so that an
+         * endpoint failing fast does not attract more requests before it is ejected.
+         *
+         * @return true if the endpoint has failed often enough to be ejected.
+         */
+        private synchronized boolean onFailure(long nanos, double weight, int threshold) {
+            double penalty = Math.max(nanos, 2 * latencyNanos);
+            latencyNanos = latencyNanos == 0 ? penalty : latencyNanos + weight * (penalty - latencyNanos);
+            return ++consecutiveFailures >= threshold;
+        }
+
+        private synchronized void eject(long now, Duration baseTime, Duration maxTime, int threshold) {
+            ejections++;
+            long nanos = Math.min(maxTime.toNanos(), baseTime.toNanos() * ejections);
+            ejectedUntil = now + nanos;
+            halfOpen = true;
+            // A single failure of the probe after the ejection ejects the endpoint again
+            consecutiveFailures = threshold - 1;
+        }
+    }
+
+    /**
+     * A builder for creating LoadBalancedA2AClient instances.
+     */
+    public static class Builder {
+        private final List<String> baseUrls = new ArrayList<>();
+        private String endpoint = "/";
+        private Function<String, A2AClient> clientFactory;
+        private int failureThreshold = 5;
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+        private Duration maxEjectionTime = Duration.ofMinutes(5);
+        private int maxEjectionPercent = 50;
+        private double latencyWeight = 0.2;
+        private int maxTrackedTasks = 10_000;
+
+        /**
+         * Adds the base URLs of the replicas.
+         *
+         * @param baseUrls The base URLs.
+         * @return This builder.
+         */
+        public Builder baseUrls(Collection<String> baseUrls) {
+            this.baseUrls.addAll(baseUrls);
+            return this;
+        }
+
+        /**
+         * Adds the base URL of a replica.
+         *
+         * @param baseUrl The base URL.
+         * @return This builder.
+         */
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrls.add(baseUrl);
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        /**
+         * Sets how the client of each replica is created, for example to configure its pool and
+         * retry policy. By default, {@link A2AClientImpl} is used with its default settings.
+         *
+         * @param clientFactory Creates the client for a base URL.
+         * @return This builder.
+         */
+        public Builder clientFactory(Function<String, A2AClient> clientFactory) {
+            this.clientFactory = clientFactory;
+            return this;
+        }
+
+        /**
+         * Sets how many consecutive failures eject an endpoint.
+         *
+         * @param failureThreshold The number of failures, 5 by default.
+         * @return This builder.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how long an endpoint is ejected the first time; every further ejection in a row adds this time again.
+         *
+         * @param baseEjectionTime The ejection time, 30 seconds by default.
+         * @return This builder.
+         */
+        public Builder baseEjectionTime(Duration baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+            return this;
+        }
+
+        /**
+         * Sets the longest time an endpoint is ejected.
+         *
+         * @param maxEjectionTime The maximum ejection time, 5 minutes by default.
+         * @return This builder.
+         */
+        public Builder maxEjectionTime(Duration maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+            return this;
+        }
+
+        /**
+         * Sets the share of endpoints that may be ejected at once.
+         *
+         * @param maxEjectionPercent The percentage of endpoints, 50 by default.
+         * @return This builder.
+         */
+        public Builder maxEjectionPercent(int maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+            return this;
+        }
+
+        /**
+         * Sets the weight of a new sample in the moving average of an endpoint's latency.
+         *
+         * @param latencyWeight The weight between 0 and 1, 0.2 by default.
+         * @return This builder.
+         */
+        public Builder latencyWeight(double latencyWeight) {
+            this.latencyWeight = latencyWeight;
+            return this;
+        }
+
+        /**
+         * Sets how many tasks are remembered with the endpoint that created them.
+         *
+         * @param maxTrackedTasks The number of tasks, the least recently used are forgotten first, 10000 by default.
+         * @return This builder.
+         */
+        public Builder maxTrackedTasks(int maxTrackedTasks) {
+            this.maxTrackedTasks = maxTrackedTasks;
+            return this;
+        }
+
+        public LoadBalancedA2AClient build() {
+            if (baseUrls.isEmpty()) {
+                throw new IllegalStateException("At least one base URL must be provided");
+            }
+            if (failureThreshold < 1) {
+                throw new IllegalStateException("Failure threshold must be at least 1");
+            }
+            if (latencyWeight <= 0 || latencyWeight > 1) {
+                throw new IllegalStateException("Latency weight must be between 0 and 1");
+            }
+            return new LoadBalancedA2AClient(this);
+        }
+    }
+}
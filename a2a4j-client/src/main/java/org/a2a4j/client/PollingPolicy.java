@@ -0,0 +1,226 @@
+package org.a2a4j.client;
+
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.GetTaskResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Policy for waiting until a task finishes by getting it repeatedly.
+ * <p>
+ * A submitted task is polled at the initial interval, since the agent is about to pick it up, and a
+ * working task starts one step later. Every poll that finds the status unchanged stretches the interval
+ * by the multiplier up to the maximum interval, and a status change starts over. Intervals are jittered
+ * so that many clients waiting for tasks do not poll in step.
+ * </p>
+ * <p>
+ * If the agent supports long polling, every request after the first one waits on the server, up to the
+ * maximum wait, for the status to change; a request that returns before the interval is up is followed
+ * by the remaining delay, so that a server that does not wait is still polled at the adaptive interval.
+ * </p>
+ */
+public class PollingPolicy {
+
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final double multiplier;
+    private final Duration maxWait;
+
+    private PollingPolicy(Builder builder) {
+        this.initialInterval = builder.initialInterval;
+        this.maxInterval = builder.maxInterval;
+        this.multiplier = builder.multiplier;
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a policy with the default settings: 250 ms initial interval growing by 1.5 up to 5 s,
+     * and long polls of up to 25 s.
+     *
+     * @return The default policy.
+     */
+    public static PollingPolicy defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new builder for PollingPolicy.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the longest time a single long poll waits on the server.
+     *
+     * @return The maximum wait.
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Gets the interval between two polls of a task.
+     *
+     * @param state The state of the task at the last poll.
+     * @param unchangedPolls The number of polls in a row that found the same status.
+     * @return A delay between 80 % and all of the interval.
+     */
+    public Duration getInterval(TaskState state, int unchangedPolls) {
+        long interval;
+        if (state == TaskState.SUBMITTED || state == TaskState.WORKING) {
+            int steps = unchangedPolls + (state == TaskState.WORKING ? 1 : 0);
+            double backoff = initialInterval.toMillis() * Math.pow(multiplier, Math.min(steps, 64));
+            interval = (long) Math.min(maxInterval.toMillis(), backoff);
+        } else {
+            interval = maxInterval.toMillis();
+        }
+        return Duration.ofMillis(interval - ThreadLocalRandom.current().nextLong(interval / 5 + 1));
+    }
+
+    /**
+     * Polls a task until it is settled or the deadline passes.
+     *
+     * @param deadline When to stop waiting.
+     * @param longPolling Whether the server can wait for the task to change.
+     * @param poll Gets the task, given the timestamp of the last status seen and how long the server
+     *     may wait for a different status, or null for the wait if it must answer right away.
+     * @return A Mono emitting the last response.
+     */
+    Mono<GetTaskResponse> await(Instant deadline, boolean longPolling,
+                                BiFunction<String, Duration, Mono<GetTaskResponse>> poll) {
+        return Mono.defer(() -> {
+            long deadlineNanos = System.nanoTime() + Math.max(0, Duration.between(Instant.now(), deadline).toNanos());
+            AtomicReference<String> knownTimestamp = new AtomicReference<>();
+            AtomicInteger unchangedPolls = new AtomicInteger();
+            AtomicLong pollStart = new AtomicLong();
+
+            Mono<GetTaskResponse> next = Mono.defer(() -> {
+                long now = System.nanoTime();
+                pollStart.set(now);
+                // The first request only learns the current status, which a long poll could sit on
+                Duration wait = longPolling && knownTimestamp.get() != null
+                    ? Duration.ofNanos(Math.min(maxWait.toNanos(), Math.max(0, deadlineNanos - now)))
+                    : null;
+                return poll.apply(knownTimestamp.get(), wait);
+            });
+
+            return next.expand(response -> {
+                if (isSettled(response)) {
+                    return Mono.empty();
+                }
+                TaskStatus status = response.getResult().getStatus();
+                String timestamp = status.getTimestamp();
+                if (Objects.equals(timestamp, knownTimestamp.getAndSet(timestamp))) {
+                    unchangedPolls.incrementAndGet();
+                } else {
+                    unchangedPolls.set(0);
+                }
+
+                long now = System.nanoTime();
+                long remaining = deadlineNanos - now;
+                if (remaining <= 0) {
+                    return Mono.empty();
+                }
+                long delay = Math.min(remaining,
+                    getInterval(status.getState(), unchangedPolls.get()).toNanos() - (now - pollStart.get()));
+                return delay > 0 ? Mono.delay(Duration.ofNanos(delay)).then(next) : next;
+            }).last();
+        });
+    }
+
+    /**
+     * Checks whether waiting for a task is over.
+     *
+     * @param response The last response.
+     * @return true if the response is an error, or the task is final or requires input.
+     */
+    static boolean isSettled(GetTaskResponse response) {
+        Task task = response.getResult();
+        if (response.getError() != null || task == null || task.getStatus() == null) {
+            return true;
+        }
+        TaskState state = task.getStatus().getState();
+        return state == null || state.isTerminal() || state == TaskState.INPUT_REQUIRED;
+    }
+
+    /**
+     * A builder for creating PollingPolicy instances.
+     */
+    public static class Builder {
+        private Duration initialInterval = Duration.ofMillis(250);
+        private Duration maxInterval = Duration.ofSeconds(5);
+        private double multiplier = 1.5;
+        private Duration maxWait = Duration.ofSeconds(25);
+
+        /**
+         * Sets the interval between polls of a task that was just submitted.
+         *
+         * @param initialInterval The initial interval, 250 ms by default.
+         * @return This builder.
+         */
+        public Builder initialInterval(Duration initialInterval) {
+            this.initialInterval = initialInterval;
+            return this;
+        }
+
+        /**
+         * Sets the largest interval between polls, also used for tasks in an unknown state.
+         *
+         * @param maxInterval The maximum interval, 5 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxInterval(Duration maxInterval) {
+            this.maxInterval = maxInterval;
+            return this;
+        }
+
+        /**
+         * Sets the factor the interval grows by with every poll that finds the status unchanged.
+         *
+         * @param multiplier The multiplier, 1.5 by default.
+         * @return This builder.
+         */
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the longest time a long poll waits on the server. It should stay below the server's
+         * maximum wait and the read timeout of the client.
+         *
+         * @param maxWait The maximum wait, 25 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public PollingPolicy build() {
+            if (initialInterval.isNegative() || initialInterval.isZero() || maxInterval.compareTo(initialInterval) < 0) {
+                throw new IllegalStateException("Max interval must not be smaller than the positive initial interval");
+            }
+            if (multiplier < 1) {
+                throw new IllegalStateException("Multiplier must be at least 1");
+            }
+            if (maxWait.isNegative()) {
+                throw new IllegalStateException("Max wait must not be negative");
+            }
+            return new PollingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.a2a4j.client;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares identical idempotent requests between concurrent callers.
+ * <p>
+ * While a request is in flight, callers asking for the same key subscribe to it instead of sending
+ * their own. The callers are counted, and the request is only cancelled once all of them have
+ * cancelled; a caller that joins after the response arrived still receives it. With a result time to
+ * live, a successful response is also handed to callers for that long after it arrived. Callers
+ * receive the same response object, which must therefore not be modified, and its JSON-RPC ID is the
+ * one of the request that was sent.
+ * </p>
+ */
+final class RequestCoalescer {
+
+    private final long resultTtlNanos;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new RequestCoalescer.
+     *
+     * @param resultTtl How long a response is reused after it arrived, zero to only share requests in flight.
+     */
+    RequestCoalescer(Duration resultTtl) {
+        this.resultTtlNanos = resultTtl != null && !resultTtl.isNegative() ? resultTtl.toNanos() : 0;
+    }
+
+    /**
+     * Sends a request unless an identical one is in flight or has a fresh response.
+     *
+     * @param key Identifies identical requests, such as the method and serialized parameters.
+     * @param request The request, subscribed to at most once per coalesced call.
+     * @param <T> The response type.
+     * @return The shared response.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> apply(String key, Mono<T> request) {
+        return Mono.defer(() -> {
+            while (true) {
+                long now = System.nanoTime();
+                Entry entry = entries.compute(key, (k, current) ->
+                    current != null && !current.isExpired(now) && !current.isCancelled() ? current : new Entry(k, request));
+                Object value = entry.value;
+                if (value != null) {
+                    return Mono.just((T) value);
+                }
+                if (entry.retain()) {
+                    return (Mono<T>) entry.result.asMono().doOnCancel(entry::release);
+                }
+                // The last caller cancelled the request in the meantime
+            }
+        });
+    }
+
+    /**
+     * A request in flight, or its fresh response.
+     * The request is sent when the first caller subscribes, and its result is kept for callers subscribing later.
+     */
+    private final class Entry {
+        private final String key;
+        private final Mono<?> request;
+        private final Sinks.One<Object> result = Sinks.one();
+        private final Disposable.Swap upstream = Disposables.swap();
+        private final AtomicBoolean sent = new AtomicBoolean();
+        /** Number of subscribed callers, -1 once the request was cancelled */
+        private final AtomicInteger callers = new AtomicInteger();
+        private volatile boolean done;
+        private volatile Object value;
+        private volatile long expiresAt;
+
+        private Entry(String key, Mono<?> request) {
+            this.key = key;
+            this.request = request;
+        }
+
+        /**
+         * Registers a caller, sending the request for the first one.
+         *
+         * @return false if the request was already cancelled
+         */
+        private boolean retain() {
+            while (true) {
+                int count = callers.get();
+                if (count < 0) {
+                    return false;
+                }
+                if (callers.compareAndSet(count, count + 1)) {
+                    break;
+                }
+            }
+            if (sent.compareAndSet(false, true)) {
+                upstream.update(request.subscribe(this::succeed, this::fail, this::complete));
+            }
+            return true;
+        }
+
+        /**
+         * Unregisters a caller that cancelled, cancelling the request if it was the last one.
+         */
+        private void release() {
+            if (callers.decrementAndGet() == 0 && !done && callers.compareAndSet(0, -1)) {
+                upstream.dispose();
+                entries.remove(key, this);
+            }
+        }
+
+        private void succeed(Object response) {
+            done = true;
+            if (resultTtlNanos > 0) {
+                expiresAt = System.nanoTime() + resultTtlNanos;
+                value = response;
+                Schedulers.parallel().schedule(() -> entries.remove(key, this), resultTtlNanos, TimeUnit.NANOSECONDS);
+            } else {
+                entries.remove(key, this);
+            }
+            result.tryEmitValue(response);
+        }
+
+        private void fail(Throwable error) {
+            done = true;
+            entries.remove(key, this);
+            result.tryEmitError(error);
+        }
+
+        private void complete() {
+            if (!done) {
+                // Completed without a response
+                done = true;
+                entries.remove(key, this);
+                result.tryEmitEmpty();
+            }
+        }
+
+        private boolean isCancelled() {
+            return callers.get() < 0;
+        }
+
+        private boolean isExpired(long now) {
+            return value != null && expiresAt - now <= 0;
+        }
+    }
+}
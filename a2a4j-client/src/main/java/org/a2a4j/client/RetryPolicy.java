@@ -0,0 +1,307 @@
+package org.a2a4j.client;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retry policy for A2A client requests.
+ * <p>
+ * Only idempotent methods are retried on every transient failure: connection errors, timeouts and
+ * the HTTP statuses 408, 429, 502, 503 and 504. Other methods, such as {@code tasks/send}, are only
+ * retried when the server cannot have seen the request: when the connection could not be established
+ * or the server answered 429.
+ * </p>
+ * <p>
+ * Delays follow decorrelated jitter: each delay is drawn between the base delay and three times the
+ * previous delay, capped at the maximum delay, so clients recovering from the same outage spread out.
+ * Retries are also limited by a budget shared by all requests of the client: every request deposits
+ * {@code budgetRatio} of a retry and every retry withdraws a whole one, so retries cannot add more
+ * than that fraction of load on top of the regular requests. Beyond the budget, a few retries per
+ * second are always allowed, so that clients sending few requests can still retry.
+ * </p>
+ */
+public class RetryPolicy {
+
+    /** Methods that can be sent repeatedly without changing the outcome */
+    public static final Set<String> IDEMPOTENT_METHODS = Set.of(
+        "tasks/get", "tasks/getMany", "tasks/pushNotification/get");
+
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 429, 502, 503, 504);
+
+    /** Fixed-point scale of the retry budget, so that fractions of a retry can be deposited atomically */
+    private static final long TOKEN = 1000;
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final long deposit;
+    private final long maxBalance;
+    private final int minRetriesPerSecond;
+    private final AtomicLong balance = new AtomicLong();
+    private long reserveSecond;
+    private int reserveUsed;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.deposit = Math.round(builder.budgetRatio * TOKEN);
+        this.maxBalance = builder.maxRetries * TOKEN;
+        this.minRetriesPerSecond = builder.minRetriesPerSecond;
+    }
+
+    /**
+     * Creates a policy that never retries.
+     *
+     * @return A policy allowing a single attempt.
+     */
+    public static RetryPolicy none() {
+        return builder().maxAttempts(1).build();
+    }
+
+    /**
+     * Creates a policy with the default settings: 3 attempts, 100 ms base delay, 5 s maximum delay
+     * and a retry budget of 10% of the requests.
+     *
+     * @return The default policy.
+     */
+    public static RetryPolicy defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new builder for RetryPolicy.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of attempts per request, including the first one.
+     *
+     * @return The maximum number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the number of retries the budget has saved up, not counting the retries allowed per second.
+     *
+     * @return The saved retries.
+     */
+    public double getAvailableRetries() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    /**
+     * Applies this policy to a request.
+     *
+     * @param method The JSON-RPC method of the request, or null for plain HTTP GETs like the agent card.
+     * @param request The request, which is sent again on every subscription.
+     * @param <T> The response type.
+     * @return The request with retries.
+     */
+    public <T> Mono<T> apply(String method, Mono<T> request) {
+        return apply(method == null || IDEMPOTENT_METHODS.contains(method), request);
+    }
+
+    /**
+     * Applies this policy to a request, such as a batch, whose idempotency is known.
+     *
+     * @param idempotent Whether the request can be sent again without changing the outcome.
+     * @param request The request, which is sent again on every subscription.
+     * @param <T> The response type.
+     * @return The request with retries.
+     */
+    public <T> Mono<T> apply(boolean idempotent, Mono<T> request) {
+        if (maxAttempts <= 1) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            // Only the first attempt pays into the budget, retries withdraw from it
+            deposit();
+            return request.retryWhen(retry(idempotent));
+        });
+    }
+
+    /**
+     * Creates the retry strategy for one request; the jitter state is kept per subscription.
+     */
+    private Retry retry(boolean idempotent) {
+        return Retry.from(signals -> {
+            AtomicLong previousDelay = new AtomicLong(baseDelay.toMillis());
+            return signals.concatMap(signal -> {
+                Throwable failure = signal.failure();
+                if (signal.totalRetries() + 1 >= maxAttempts || !isRetryable(failure, idempotent) || !withdraw()) {
+                    return Flux.error(failure);
+                }
+                return Mono.delay(nextDelay(previousDelay));
+            });
+        });
+    }
+
+    private Duration nextDelay(AtomicLong previousDelay) {
+        long base = baseDelay.toMillis();
+        long upper = Math.max(base, previousDelay.get() * 3);
+        long delay = Math.min(maxDelay.toMillis(), ThreadLocalRandom.current().nextLong(base, upper + 1));
+        previousDelay.set(delay);
+        return Duration.ofMillis(delay);
+    }
+
+    /**
+     * Checks whether a failed request may be sent again.
+     *
+     * @param failure The failure of the last attempt.
+     * @param idempotent Whether the method is idempotent.
+     * @return true if the failure is transient and retrying is safe for the method.
+     */
+    static boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (failure instanceof WebClientRequestException) {
+            return idempotent || failure.getCause() instanceof ConnectException;
+        }
+        if (failure instanceof ServerException) {
+            Integer status = ((ServerException) failure).getStatusCode();
+            if (status != null) {
+                return status == 429 || (idempotent && TRANSIENT_STATUSES.contains(status));
+            }
+            return idempotent && failure.getCause() instanceof TimeoutException;
+        }
+        return false;
+    }
+
+    private void deposit() {
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + deposit));
+    }
+
+    private boolean withdraw() {
+        return withdrawFromBalance() || withdrawFromReserve();
+    }
+
+    private boolean withdrawFromBalance() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized boolean withdrawFromReserve() {
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (second != reserveSecond) {
+            reserveSecond = second;
+            reserveUsed = 0;
+        }
+        if (reserveUsed < minRetriesPerSecond) {
+            reserveUsed++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A builder for creating RetryPolicy instances.
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private double budgetRatio = 0.1;
+        private int minRetriesPerSecond = 10;
+        private int maxRetries = 100;
+
+        /**
+         * Sets the maximum number of attempts per request, including the first one.
+         *
+         * @param maxAttempts The maximum number of attempts, 3 by default.
+         * @return This builder.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the smallest delay before a retry.
+         *
+         * @param baseDelay The base delay, 100 ms by default.
+         * @return This builder.
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        /**
+         * Sets the largest delay before a retry.
+         *
+         * @param maxDelay The maximum delay, 5 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of requests that may be retried.
+         *
+         * @param budgetRatio The retry budget, 0.1 by default.
+         * @return This builder.
+         */
+        public Builder budgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        /**
+         * Sets how many retries per second are allowed beyond the budget.
+         *
+         * @param minRetriesPerSecond The retries allowed per second, 10 by default.
+         * @return This builder.
+         */
+        public Builder minRetriesPerSecond(int minRetriesPerSecond) {
+            this.minRetriesPerSecond = minRetriesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the number of retries the budget can save up at most.
+         *
+         * @param maxRetries The maximum balance of retries, 100 by default.
+         * @return This builder.
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (maxAttempts < 1) {
+                throw new IllegalStateException("Max attempts must be at least 1");
+            }
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalStateException("Max delay must not be smaller than the base delay");
+            }
+            if (budgetRatio < 0) {
+                throw new IllegalStateException("Budget ratio must not be negative");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
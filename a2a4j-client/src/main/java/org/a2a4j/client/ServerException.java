@@ -4,12 +4,29 @@ package org.a2a4j.client;
  * Exception thrown when there's a server-related error in the A2A client.
  */
 public class ServerException extends A2AException {
+
+    private final Integer statusCode;
     
     public ServerException(String message) {
-        super(message);
+        this(message, (Integer) null);
     }
     
     public ServerException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = null;
+    }
+
+    public ServerException(String message, Integer statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Gets the HTTP status code the server answered with.
+     *
+     * @return The status code, or null if the error did not come from an HTTP response.
+     */
+    public Integer getStatusCode() {
+        return statusCode;
     }
 } 
\ No newline at end of file
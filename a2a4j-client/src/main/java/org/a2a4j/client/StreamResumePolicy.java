@@ -0,0 +1,163 @@
+package org.a2a4j.client;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Policy for resuming task streams that drop before the final status update.
+ * <p>
+ * When a stream fails with a transport error, or the server closes it before the task has finished,
+ * the client resubscribes to the task with the ID of the last event it received, so the server only
+ * sends the events that were missed, and the events continue on the same Flux. Events that were
+ * already received are skipped. Attempts are spaced by an exponential backoff with jitter, and the
+ * number of attempts is counted since the last event received, so a long task can survive any number
+ * of separate interruptions.
+ * </p>
+ */
+public class StreamResumePolicy {
+
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 429, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+
+    private StreamResumePolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+    }
+
+    /**
+     * Creates a policy with the default settings: 10 attempts per interruption, 250 ms base delay
+     * and 10 s maximum delay.
+     *
+     * @return The default policy.
+     */
+    public static StreamResumePolicy defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new builder for StreamResumePolicy.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of attempts to resume a stream without receiving an event in between.
+     *
+     * @return The maximum number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the delay before an attempt to resume a stream.
+     *
+     * @param attempt The attempt since the last event received, starting at 1.
+     * @return A delay between half and all of the exponential backoff, capped at the maximum delay.
+     */
+    public Duration getDelay(int attempt) {
+        long base = baseDelay.toMillis();
+        long backoff = attempt >= 31 ? maxDelay.toMillis() : Math.min(maxDelay.toMillis(), base << (attempt - 1));
+        return Duration.ofMillis(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+    }
+
+    /**
+     * Checks whether a failed stream may be resumed.
+     *
+     * @param failure The failure of the stream.
+     * @return true for transport errors, timeouts, transient HTTP statuses and streams closed early.
+     */
+    static boolean isResumable(Throwable failure) {
+        if (failure instanceof StreamEndedException || failure instanceof WebClientRequestException) {
+            return true;
+        }
+        if (failure instanceof ServerException) {
+            Integer status = ((ServerException) failure).getStatusCode();
+            if (status != null) {
+                return TRANSIENT_STATUSES.contains(status);
+            }
+            return failure.getCause() instanceof TimeoutException;
+        }
+        // Connections closed while the response is read surface as IOExceptions, possibly wrapped
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Signals that the server completed a stream before sending the final status update of the task,
+     * for example because its idle timeout or maximum stream lifetime expired.
+     */
+    static final class StreamEndedException extends A2AException {
+        StreamEndedException(String taskId) {
+            super("Stream of task " + taskId + " ended before the final status update");
+        }
+    }
+
+    /**
+     * A builder for creating StreamResumePolicy instances.
+     */
+    public static class Builder {
+        private int maxAttempts = 10;
+        private Duration baseDelay = Duration.ofMillis(250);
+        private Duration maxDelay = Duration.ofSeconds(10);
+
+        /**
+         * Sets how many times a stream is resumed without receiving an event in between.
+         *
+         * @param maxAttempts The maximum number of attempts, 10 by default.
+         * @return This builder.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the first attempt, which doubles with every further attempt.
+         *
+         * @param baseDelay The base delay, 250 ms by default.
+         * @return This builder.
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        /**
+         * Sets the largest delay before an attempt.
+         *
+         * @param maxDelay The maximum delay, 10 seconds by default.
+         * @return This builder.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public StreamResumePolicy build() {
+            if (maxAttempts < 1) {
+                throw new IllegalStateException("Max attempts must be at least 1");
+            }
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalStateException("Max delay must not be smaller than the base delay");
+            }
+            return new StreamResumePolicy(this);
+        }
+    }
+}
@@ -5,26 +5,50 @@ import org.a2a4j.models.Capabilities;
 import org.a2a4j.models.Message;
 import org.a2a4j.models.Role;
 import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskLookupResult;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.GetTaskRequest;
 import org.a2a4j.models.jsonrpc.GetTaskResponse;
+import org.a2a4j.models.jsonrpc.GetTasksResponse;
 import org.a2a4j.models.jsonrpc.SendTaskResponse;
+import org.a2a4j.models.jsonrpc.SendTaskStreamingResponse;
+import org.a2a4j.models.params.TaskQueryParams;
 import org.a2a4j.models.part.TextPart;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +107,43 @@ public class A2AClientTest {
                 .verifyComplete();
     }
     
+    @Test
+    void getAgentCard_shouldRevalidateCachedCardWithETag() throws Exception {
+        // Given
+        AgentCard agentCard = AgentCard.builder()
+                .name("Test Agent")
+                .url(baseUrl)
+                .version("1.0.0")
+                .capabilities(new Capabilities(true, true, true))
+                .skills(Collections.emptyList())
+                .build();
+
+        // Setup mock: the card must be revalidated on every call, and has not changed the second time
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.ETAG, "\"v1\"")
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(JsonUtils.toJson(agentCard))
+                        .build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                        .header(HttpHeaders.ETAG, "\"v1\"")
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .build()));
+
+        // When & Then
+        StepVerifier.create(client.getAgentCard())
+                .expectNextMatches(card -> card.getName().equals("Test Agent"))
+                .verifyComplete();
+        StepVerifier.create(client.getAgentCard())
+                .expectNextMatches(card -> card.getName().equals("Test Agent"))
+                .verifyComplete();
+
+        ArgumentCaptor<ClientRequest> requests = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction, times(2)).exchange(requests.capture());
+        assertEquals("\"v1\"", requests.getAllValues().get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
     @Test
     void sendTask_shouldReturnTaskResponse() throws Exception {
         // Given
@@ -167,6 +228,487 @@ public class A2AClientTest {
                 .verifyComplete();
     }
     
+    @Test
+    void getTasks_shouldReturnResultPerTaskId() throws Exception {
+        // Given
+        Task task = Task.builder()
+                .id("task-1")
+                .sessionId("session-123")
+                .build();
+
+        GetTasksResponse response = GetTasksResponse.builder()
+                .result(List.of(
+                    TaskLookupResult.builder().id("task-1").task(task).build(),
+                    TaskLookupResult.builder().id("task-2").build()))
+                .build();
+
+        String responseJson = JsonUtils.toJson(response);
+
+        // Setup mock
+        ClientResponse mockResponse = ClientResponse.create(HttpStatus.OK)
+                .body(responseJson)
+                .build();
+
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(mockResponse));
+
+        // When & Then
+        StepVerifier.create(client.getTasks(List.of("task-1", "task-2")))
+                .expectNextMatches(resp ->
+                    resp.getResult().size() == 2 &&
+                    resp.getResult().get(0).getTask().getId().equals("task-1") &&
+                    resp.getResult().get(1).getId().equals("task-2") &&
+                    resp.getResult().get(1).getTask() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void batch_shouldReturnResponsesInRequestOrder() throws Exception {
+        // Given
+        GetTaskResponse first = GetTaskResponse.builder()
+                .id("request-1")
+                .result(Task.builder().id("task-1").build())
+                .build();
+        GetTaskResponse second = GetTaskResponse.builder()
+                .id("request-2")
+                .result(Task.builder().id("task-2").build())
+                .build();
+
+        // Setup mock: the server may answer in any order
+        ClientResponse mockResponse = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("[" + JsonUtils.toJson(second) + "," + JsonUtils.toJson(first) + "]")
+                .build();
+
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(mockResponse));
+
+        // When & Then
+        StepVerifier.create(client.batch()
+                        .add(GetTaskRequest.builder().id("request-1").params(TaskQueryParams.builder().id("task-1").build()).build())
+                        .add(GetTaskRequest.builder().id("request-2").params(TaskQueryParams.builder().id("task-2").build()).build())
+                        .execute())
+                .expectNextMatches(responses -> responses.size() == 2
+                    && ((GetTaskResponse) responses.get(0)).getResult().getId().equals("task-1")
+                    && ((GetTaskResponse) responses.get(1)).getResult().getId().equals("task-2"))
+                .verifyComplete();
+
+        verify(exchangeFunction, times(1)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void sendTaskStreaming_shouldUseOneRequestAndCompleteOnFinalStatus() throws Exception {
+        // Given
+        Message message = new Message(
+                Role.USER,
+                List.of(TextPart.builder().text("Hello").build()),
+                Collections.emptyMap()
+        );
+
+        String events = sseEvent(statusUpdate("task-1", TaskState.WORKING, false))
+                + sseEvent(statusUpdate("task-1", TaskState.COMPLETED, true))
+                + sseEvent(statusUpdate("task-1", TaskState.WORKING, false));
+
+        // Setup mock
+        ClientResponse mockResponse = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .body(events)
+                .build();
+
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(mockResponse));
+
+        // When & Then
+        StepVerifier.create(client.sendTaskStreaming("task-1", "session-123", message, 10, "request-id-123"))
+                .expectNextMatches(resp -> !((TaskStatusUpdateEvent) resp.getResult()).getFinalFlag())
+                .expectNextMatches(resp -> ((TaskStatusUpdateEvent) resp.getResult()).getFinalFlag())
+                .verifyComplete();
+
+        verify(exchangeFunction, times(1)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void sendTaskStreaming_shouldResumeDroppedStreamFromLastEvent() throws Exception {
+        // Given
+        Message message = new Message(
+                Role.USER,
+                List.of(TextPart.builder().text("Hello").build()),
+                Collections.emptyMap()
+        );
+
+        // Setup mock: the first stream ends early, the resumed one replays the last event
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(sseEvent("1", statusUpdate("task-1", TaskState.WORKING, false)))
+                        .build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(sseEvent("1", statusUpdate("task-1", TaskState.WORKING, false))
+                            + sseEvent("2", statusUpdate("task-1", TaskState.COMPLETED, true)))
+                        .build()));
+
+        A2AClient resumingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .streamResumePolicy(StreamResumePolicy.builder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5)).build())
+                .build();
+
+        // When & Then
+        StepVerifier.create(resumingClient.sendTaskStreaming("task-1", "session-123", message, 10, "request-id-123"))
+                .expectNextMatches(resp -> !((TaskStatusUpdateEvent) resp.getResult()).getFinalFlag())
+                .expectNextMatches(resp -> ((TaskStatusUpdateEvent) resp.getResult()).getFinalFlag())
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        ArgumentCaptor<ClientRequest> requests = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction, times(2)).exchange(requests.capture());
+        assertEquals("1", requests.getAllValues().get(1).headers().getFirst("Last-Event-ID"));
+    }
+
+    @Test
+    void sendTaskStreaming_shouldAcceptRestartedSequencesAfterStatusWithoutId() throws Exception {
+        // Given
+        Message message = new Message(
+                Role.USER,
+                List.of(TextPart.builder().text("Hello").build()),
+                Collections.emptyMap()
+        );
+
+        // Setup mock: the server restarts, sends the current status without ID and numbers its events from 1 again
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(sseEvent("1", statusUpdate("task-1", TaskState.WORKING, false))
+                            + sseEvent("2", statusUpdate("task-1", TaskState.WORKING, false)))
+                        .build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(sseEvent(statusUpdate("task-1", TaskState.WORKING, false))
+                            + sseEvent("1", statusUpdate("task-1", TaskState.COMPLETED, true)))
+                        .build()));
+
+        A2AClient resumingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .streamResumePolicy(StreamResumePolicy.builder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5)).build())
+                .build();
+
+        // When & Then
+        StepVerifier.create(resumingClient.sendTaskStreaming("task-1", "session-123", message, 10, "request-id-123"))
+                .expectNextCount(3)
+                .expectNextMatches(resp -> ((TaskStatusUpdateEvent) resp.getResult()).getFinalFlag())
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldRetryTransientErrors() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+
+        // Setup mock
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(response)).build()));
+
+        A2AClient retryingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .retryPolicy(RetryPolicy.builder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5)).build())
+                .build();
+
+        // When & Then
+        StepVerifier.create(retryingClient.getTask("task-1"))
+                .expectNextMatches(resp -> resp.getResult().getId().equals("task-1"))
+                .verifyComplete();
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldHedgeSlowRequest() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+
+        // Setup mock: the first request never answers, the hedge does
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.never())
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(response)).build()));
+
+        A2AClient hedgingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .hedgingPolicy(HedgingPolicy.builder().minDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(20)).build())
+                .build();
+
+        // When & Then
+        StepVerifier.create(hedgingClient.getTask("task-1"))
+                .expectNextMatches(resp -> resp.getResult().getId().equals("task-1"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldUseHedgeWhenFirstRequestFails() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+
+        // Setup mock: the first request fails, the hedge answers
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("connection reset")))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(response)).build()));
+
+        A2AClient hedgingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .hedgingPolicy(HedgingPolicy.builder().minDelay(Duration.ofMillis(1)).maxDelay(Duration.ofSeconds(10)).build())
+                .build();
+
+        // When & Then: the failure does not win, and the hedge is sent without waiting for the delay
+        StepVerifier.create(hedgingClient.getTask("task-1"))
+                .expectNextMatches(resp -> resp.getResult().getId().equals("task-1"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldFailWhenFirstRequestAndHedgeFail() {
+        // Given
+        IllegalStateException firstError = new IllegalStateException("connection reset");
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.error(firstError))
+                .thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        A2AClient hedgingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .hedgingPolicy(HedgingPolicy.builder().minDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(20)).build())
+                .build();
+
+        // When & Then: the error of the first request is reported
+        StepVerifier.create(hedgingClient.getTask("task-1"))
+                .expectErrorMatches(error -> error == firstError || error.getCause() == firstError)
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void awaitTask_shouldLongPollWhenAgentSupportsIt() throws Exception {
+        // Given
+        AgentCard agentCard = AgentCard.builder()
+                .name("Test Agent")
+                .url(baseUrl)
+                .version("1.0.0")
+                .capabilities(Capabilities.builder().longPolling(true).build())
+                .skills(Collections.emptyList())
+                .build();
+        GetTaskResponse working = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1")
+                    .status(TaskStatus.builder().state(TaskState.WORKING).timestamp("t1").build()).build())
+                .build();
+        GetTaskResponse completed = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1")
+                    .status(TaskStatus.builder().state(TaskState.COMPLETED).timestamp("t2").build()).build())
+                .build();
+
+        // Setup mock: the agent card, a plain poll and a long poll that returns once the task completed
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(agentCard)).build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(working)).build()))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(completed)).build()));
+
+        // When & Then
+        StepVerifier.create(client.awaitTask("task-1", Instant.now().plusSeconds(30)))
+                .expectNextMatches(resp -> resp.getResult().getStatus().getState() == TaskState.COMPLETED)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        ArgumentCaptor<ClientRequest> requests = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction, times(3)).exchange(requests.capture());
+        assertNull(requests.getAllValues().get(1).headers().getFirst("Prefer"));
+        assertTrue(requests.getAllValues().get(2).headers().getFirst("Prefer").startsWith("wait="));
+    }
+
+    @Test
+    void getTask_shouldCoalesceConcurrentIdenticalRequests() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+        String responseJson = JsonUtils.toJson(response);
+
+        // Setup mock: the response takes long enough for both calls to be in flight together
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.delay(Duration.ofMillis(100))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK).body(responseJson).build()));
+
+        A2AClient coalescingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .coalesceReads(true)
+                .build();
+
+        // When & Then
+        StepVerifier.create(Mono.zip(coalescingClient.getTask("task-1"), coalescingClient.getTask("task-1")))
+                .expectNextMatches(both -> both.getT1() == both.getT2()
+                    && both.getT1().getResult().getId().equals("task-1"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(1)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldSendEachRequestByDefault() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+        String responseJson = JsonUtils.toJson(response);
+
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.delay(Duration.ofMillis(100))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK).body(responseJson).build()));
+
+        // When & Then: each caller gets its own response
+        StepVerifier.create(Mono.zip(client.getTask("task-1"), client.getTask("task-1")))
+                .expectNextMatches(both -> both.getT1() != both.getT2())
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(exchangeFunction, times(2)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void getTask_shouldCancelCoalescedRequestOnlyAfterAllCallersCancelled() {
+        // Given: a response that never arrives
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.<ClientResponse>never().doOnCancel(() -> cancelled.set(true)));
+
+        A2AClient coalescingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .coalesceReads(true)
+                .build();
+
+        // When
+        Disposable first = coalescingClient.getTask("task-1").subscribe();
+        Disposable second = coalescingClient.getTask("task-1").subscribe();
+        first.dispose();
+
+        // Then: the request is still needed by the second caller
+        assertFalse(cancelled.get());
+        second.dispose();
+        assertTrue(cancelled.get());
+        verify(exchangeFunction, times(1)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void sendTask_shouldNotRetryAfterServerError() throws Exception {
+        // Given
+        Message message = new Message(
+                Role.USER,
+                List.of(TextPart.builder().text("Hello").build()),
+                Collections.emptyMap()
+        );
+
+        // Setup mock
+        when(exchangeFunction.exchange(any(ClientRequest.class)))
+                .thenReturn(Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()));
+
+        A2AClient retryingClient = A2AClientImpl.builder()
+                .baseUrl(baseUrl)
+                .webClient(webClient)
+                .retryPolicy(RetryPolicy.builder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5)).build())
+                .build();
+
+        // When & Then
+        StepVerifier.create(retryingClient.sendTask(message, "task-1", "session-123", 10, "request-id-123"))
+                .expectErrorMatches(error -> error instanceof ServerException
+                    && Integer.valueOf(503).equals(((ServerException) error).getStatusCode()))
+                .verify();
+
+        verify(exchangeFunction, times(1)).exchange(any(ClientRequest.class));
+    }
+
+    @Test
+    void loadBalancedClient_shouldEjectFailingEndpoint() throws Exception {
+        // Given
+        GetTaskResponse response = GetTaskResponse.builder()
+                .result(Task.builder().id("task-1").build())
+                .build();
+
+        // Setup mock: the replica on port 8081 is unavailable
+        when(exchangeFunction.exchange(any(ClientRequest.class))).thenAnswer(invocation -> {
+            ClientRequest request = invocation.getArgument(0);
+            return request.url().getPort() == 8081
+                    ? Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())
+                    : Mono.just(ClientResponse.create(HttpStatus.OK).body(JsonUtils.toJson(response)).build());
+        });
+
+        LoadBalancedA2AClient balancedClient = loadBalancedClient();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            balancedClient.getTask("task-1").onErrorResume(e -> Mono.empty()).block();
+        }
+
+        // Then
+        assertTrue(balancedClient.isEjected("http://localhost:8081"));
+        ArgumentCaptor<ClientRequest> requests = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction, atLeastOnce()).exchange(requests.capture());
+        assertEquals(2, requests.getAllValues().stream().filter(request -> request.url().getPort() == 8081).count());
+    }
+
+    @Test
+    void loadBalancedClient_shouldResubscribeAtTaskOwner() throws Exception {
+        // Given
+        Message message = new Message(
+                Role.USER,
+                List.of(TextPart.builder().text("Hello").build()),
+                Collections.emptyMap()
+        );
+
+        // Setup mock
+        when(exchangeFunction.exchange(any(ClientRequest.class))).thenAnswer(invocation -> Mono.just(
+                ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(sseEvent(statusUpdate("task-1", TaskState.COMPLETED, true)))
+                        .build()));
+
+        LoadBalancedA2AClient balancedClient = loadBalancedClient();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            String taskId = "task-" + i;
+            balancedClient.sendTaskStreaming(taskId, "session-123", message, 10, "request-id-123").blockLast();
+            balancedClient.resubscribeTask(taskId).blockLast();
+        }
+
+        // Then: every resubscription went to the replica that received the task
+        ArgumentCaptor<ClientRequest> requests = ArgumentCaptor.forClass(ClientRequest.class);
+        verify(exchangeFunction, times(10)).exchange(requests.capture());
+        List<ClientRequest> sent = requests.getAllValues();
+        for (int i = 0; i < sent.size(); i += 2) {
+            assertEquals(sent.get(i).url().getPort(), sent.get(i + 1).url().getPort());
+        }
+    }
+
     @Test
     void getTask_shouldHandleError() throws Exception {
         // Given
@@ -184,4 +726,53 @@ public class A2AClientTest {
                 .expectError(ServerException.class)
                 .verify();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void clientFactory_shouldCacheOneClientPerAgent() {
+        // Given
+        try (A2AClientFactory factory = A2AClientFactory.builder().workerCount(1).build()) {
+            // When
+            A2AClient first = factory.getClient("http://localhost:8080");
+            A2AClient second = factory.getClient("http://localhost:8081");
+
+            // Then
+            assertSame(first, factory.getClient("http://localhost:8080"));
+            assertNotSame(first, second);
+            A2AClientFactory.PoolMetrics metrics = factory.getPoolMetrics();
+            assertEquals(2, metrics.getClients());
+            assertEquals(0, metrics.getAllocatedConnections());
+        }
+    }
+
+    private LoadBalancedA2AClient loadBalancedClient() {
+        return LoadBalancedA2AClient.builder()
+                .baseUrl("http://localhost:8080")
+                .baseUrl("http://localhost:8081")
+                .clientFactory(url -> A2AClientImpl.builder()
+                    .baseUrl(url)
+                    .webClient(webClient)
+                    .retryPolicy(RetryPolicy.none())
+                    .build())
+                .failureThreshold(2)
+                .build();
+    }
+
+    private static SendTaskStreamingResponse statusUpdate(String taskId, TaskState state, boolean finalFlag) {
+        return SendTaskStreamingResponse.builder()
+                .id("request-id-123")
+                .result(TaskStatusUpdateEvent.builder()
+                    .id(taskId)
+                    .status(TaskStatus.builder().state(state).build())
+                    .finalFlag(finalFlag)
+                    .build())
+                .build();
+    }
+
+    private static String sseEvent(SendTaskStreamingResponse response) throws Exception {
+        return "data:" + JsonUtils.toJson(response) + "\n\n";
+    }
+
+    private static String sseEvent(String id, SendTaskStreamingResponse response) throws Exception {
+        return "id:" + id + "\n" + sseEvent(response);
+    }
+}
@@ -21,4 +21,13 @@ public class Capabilities {
     private boolean pushNotifications = false;
     @Builder.Default
     private boolean stateTransitionHistory = false;
+    /**
+     * Whether tasks/get can wait for a task to change, see {@link org.a2a4j.models.params.TaskQueryParams#getWaitMillis()}.
+     */
+    @Builder.Default
+    private boolean longPolling = false;
+
+    public Capabilities(boolean streaming, boolean pushNotifications, boolean stateTransitionHistory) {
+        this(streaming, pushNotifications, stateTransitionHistory, false);
+    }
 } 
\ No newline at end of file
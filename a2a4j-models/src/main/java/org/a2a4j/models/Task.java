@@ -35,6 +35,10 @@ public class Task {
     private String id;
     private String sessionId;
     private TaskStatus status;
+    /**
+     * Conversation history. Task managers may use an immutable
+     * {@link org.a2a4j.models.collections.AppendOnlyList} so tasks can share it.
+     */
     private List<Message> history;
     private List<Artifact> artifacts;
     
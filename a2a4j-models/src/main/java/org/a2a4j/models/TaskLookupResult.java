@@ -0,0 +1,28 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the result of looking up a single task in a {@code tasks/getMany} request.
+ * <p>
+ * Results are returned in the order of the requested IDs. The task is absent
+ * if no task with the requested ID exists.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskLookupResult {
+
+    private String id;
+    private Task task;
+}
@@ -28,5 +28,14 @@ public enum TaskState {
     FAILED,
 
     @JsonProperty("unknown")
-    UNKNOWN
+    UNKNOWN;
+
+    /**
+     * Checks whether a task in this state has finished and will not change anymore.
+     *
+     * @return true for completed, canceled and failed tasks
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELED || this == FAILED;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,136 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.models.collections;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable list that supports appending in constant time by sharing its prefix.
+ * <p>
+ * Elements live in fixed-size chunks of a shared buffer. Every instance is a snapshot that
+ * sees the first {@code size} elements of the buffer. Appending to the newest snapshot claims
+ * the next slot of the buffer and returns a new snapshot without copying anything. Appending to
+ * an older snapshot, whose next slot has already been claimed, copies its elements into a new buffer.
+ * </p>
+ * Snapshots never change once created and are safe to share between threads. The list serializes
+ * as a plain JSON array; deserialized lists are ordinary mutable lists that can be turned back
+ * into an AppendOnlyList with {@link #copyOf(Collection)}.
+ *
+ * @param <E> The type of elements in the list
+ */
+public final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Buffer(), 0);
+
+    private final Buffer buffer;
+    private final int size;
+
+    private AppendOnlyList(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty list.
+     *
+     * @param <E> The type of elements in the list
+     * @return The empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> AppendOnlyList<E> empty() {
+        return (AppendOnlyList<E>) EMPTY;
+    }
+
+    /**
+     * Returns an AppendOnlyList with the elements of a collection.
+     * An AppendOnlyList is returned as is, any other collection is copied.
+     *
+     * @param elements The elements of the list, or null for an empty list
+     * @param <E> The type of elements in the list
+     * @return An AppendOnlyList with the given elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> AppendOnlyList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof AppendOnlyList) {
+            return (AppendOnlyList<E>) elements;
+        }
+        if (elements == null || elements.isEmpty()) {
+            return empty();
+        }
+        Buffer buffer = new Buffer();
+        int size = 0;
+        for (E element : elements) {
+            buffer.set(size++, element);
+        }
+        buffer.claimed.set(size);
+        return new AppendOnlyList<>(buffer, size);
+    }
+
+    /**
+     * Returns a list with the elements of this list followed by the given element.
+     * This list is not modified.
+     *
+     * @param element The element to append
+     * @return The new list
+     */
+    public AppendOnlyList<E> append(E element) {
+        if (this != EMPTY && buffer.claimed.compareAndSet(size, size + 1)) {
+            buffer.set(size, element);
+            return new AppendOnlyList<>(buffer, size + 1);
+        }
+
+        Buffer copy = new Buffer();
+        for (int i = 0; i < size; i++) {
+            copy.set(i, get(i));
+        }
+        copy.set(size, element);
+        copy.claimed.set(size + 1);
+        return new AppendOnlyList<>(copy, size + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) buffer.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Storage shared by all snapshots that were appended from each other.
+     * Only the thread that claimed a slot writes to it, before publishing the snapshot that contains it.
+     */
+    private static final class Buffer {
+        private final AtomicInteger claimed = new AtomicInteger();
+        private volatile Object[][] chunks = new Object[1][];
+
+        private void set(int index, Object element) {
+            int chunkIndex = index >>> CHUNK_SHIFT;
+            Object[][] current = chunks;
+            if (chunkIndex >= current.length) {
+                Object[][] grown = new Object[current.length * 2][];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                current = grown;
+            }
+            if (current[chunkIndex] == null) {
+                current[chunkIndex] = new Object[CHUNK_SIZE];
+            }
+            current[chunkIndex][index & CHUNK_MASK] = element;
+            chunks = current;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.a2a4j.models.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+import org.a2a4j.models.params.TasksQueryParams;
+
+/**
+ * JSON-RPC request for retrieving several tasks at once.
+ * This is an a2a4j extension of the A2A protocol.
+ */
+@Data
+@Jacksonized
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GetTasksRequest extends JsonRpcRequest<TasksQueryParams<?>> {
+    private static final String METHOD_NAME = "tasks/getMany";
+
+    @Override
+    public String getMethod() {
+        return METHOD_NAME;
+    }
+}
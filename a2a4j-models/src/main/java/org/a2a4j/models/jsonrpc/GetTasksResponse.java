@@ -0,0 +1,23 @@
+package org.a2a4j.models.jsonrpc;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.jackson.Jacksonized;
+import lombok.experimental.SuperBuilder;
+
+import org.a2a4j.models.TaskLookupResult;
+
+import java.util.List;
+
+/**
+ * JSON-RPC response for a bulk task retrieval request.
+ * The result holds one entry per requested task ID, in request order.
+ */
+@Data
+@Jacksonized
+@SuperBuilder
+@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GetTasksResponse extends JsonRpcResponse<List<TaskLookupResult>> {
+}
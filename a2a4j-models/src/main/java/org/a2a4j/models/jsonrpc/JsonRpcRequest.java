@@ -24,6 +24,7 @@ import lombok.experimental.SuperBuilder;
 @JsonSubTypes({
     @JsonSubTypes.Type(value = SendTaskRequest.class, name = "tasks/send"),
     @JsonSubTypes.Type(value = GetTaskRequest.class, name = "tasks/get"),
+    @JsonSubTypes.Type(value = GetTasksRequest.class, name = "tasks/getMany"),
     @JsonSubTypes.Type(value = CancelTaskRequest.class, name = "tasks/cancel"),
     @JsonSubTypes.Type(value = SetTaskPushNotificationRequest.class, name = "tasks/pushNotification/set"),
     @JsonSubTypes.Type(value = GetTaskPushNotificationRequest.class, name = "tasks/pushNotification/get"),
@@ -30,6 +30,19 @@ public class TaskQueryParams<T> {
     
     private String id;
     private Integer historyLength;
+
+    /**
+     * How long the server may hold the request, in milliseconds, until the status of the task differs
+     * from {@link #knownStatusTimestamp}. Only honored by agents that advertise long polling; others
+     * answer immediately.
+     */
+    private Long waitMillis;
+
+    /**
+     * The timestamp of the task status the client already knows. When waiting, the server answers as soon
+     * as the task has a different status. Without it, the server waits for the next status update.
+     */
+    private String knownStatusTimestamp;
     
     @Builder.Default
     private Map<String, T> metadata = Collections.emptyMap();
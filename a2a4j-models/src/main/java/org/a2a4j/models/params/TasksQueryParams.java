@@ -0,0 +1,39 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.models.params;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameters for querying several tasks at once in the A2A protocol.
+ * <p>
+ * These parameters are used by the {@code tasks/getMany} extension, which behaves like
+ * {@code tasks/get} applied to every ID in a single round trip.
+ * </p>
+ *
+ * @param <T> the type of metadata values
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TasksQueryParams<T> {
+
+    @Builder.Default
+    private List<String> ids = new ArrayList<>();
+    private Integer historyLength;
+
+    @Builder.Default
+    private Map<String, T> metadata = Collections.emptyMap();
+}
@@ -4,22 +4,38 @@
 package org.a2a4j.server;
 
 import org.a2a4j.models.*;
+import org.a2a4j.models.collections.AppendOnlyList;
 import org.a2a4j.models.jsonrpc.*;
 import org.a2a4j.models.jsonrpc.errors.*;
 import org.a2a4j.models.notification.*;
 import org.a2a4j.models.params.*;
 import org.a2a4j.models.streaming.*;
+import org.a2a4j.server.events.ArtifactChunkCoalescer;
+import org.a2a4j.server.events.InMemoryTaskEventJournal;
+import org.a2a4j.server.events.InProcessTaskEventBus;
+import org.a2a4j.server.events.SubscriberBufferSettings;
+import org.a2a4j.server.events.SubscriberBuffers;
+import org.a2a4j.server.events.TaskEventBus;
+import org.a2a4j.server.events.TaskEventBusLoader;
+import org.a2a4j.server.events.TaskEventJournal;
+import org.a2a4j.server.events.TaskEventJournalLoader;
+import org.a2a4j.server.events.TaskEventRecord;
+import org.a2a4j.server.events.TaskStreamEvent;
 import org.a2a4j.server.notifications.BasicNotificationPublisher;
 import org.a2a4j.server.notifications.NotificationPublisher;
 import org.a2a4j.server.storage.TaskStorage;
 import org.a2a4j.server.storage.TaskStorageLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * In-memory implementation of the TaskManager interface.
@@ -33,12 +49,16 @@ public class BasicTaskManager implements TaskManager {
 
     private static final Logger log = LoggerFactory.getLogger(BasicTaskManager.class);
 
+    /** Maximum number of task IDs accepted by a single bulk task retrieval */
+    private static final int MAX_TASKS_PER_GET_MANY = 1000;
+
     private final TaskHandler taskHandler;
     private final TaskStorage taskStorage;
     private final NotificationPublisher notificationPublisher;
-
-    /** Map of task IDs to lists of Sinks for server-sent events */
-    private final Map<String, List<Sinks.Many<Object>>> taskSseSubscribers = new ConcurrentHashMap<>();
+    private final TaskEventJournal taskEventJournal;
+    private final TaskEventBus taskEventBus;
+    private final SubscriberBuffers subscriberBuffers;
+    private final ArtifactChunkCoalescer artifactChunkCoalescer;
 
     /**
      * Constructs a new BasicTaskManager with the specified dependencies.
@@ -46,15 +66,84 @@ public class BasicTaskManager implements TaskManager {
      * @param taskHandler The task handler to process tasks
      * @param taskStorage The storage implementation to use (defaults to loaded via TaskStorageLoader)
      * @param notificationPublisher The notification publisher (defaults to BasicNotificationPublisher)
+     * @param taskEventJournal The journal recording streamed events (defaults to loaded via TaskEventJournalLoader)
+     * @param taskEventBus The bus delivering streamed events to subscribers (defaults to loaded via TaskEventBusLoader)
+     * @param subscriberBuffers The bounded buffers between the bus and each streaming subscriber
      */
     public BasicTaskManager(
             TaskHandler taskHandler,
             TaskStorage taskStorage,
-            NotificationPublisher notificationPublisher
+            NotificationPublisher notificationPublisher,
+            TaskEventJournal taskEventJournal,
+            TaskEventBus taskEventBus,
+            SubscriberBuffers subscriberBuffers
     ) {
         this.taskHandler = taskHandler;
         this.taskStorage = taskStorage;
         this.notificationPublisher = notificationPublisher;
+        this.taskEventJournal = taskEventJournal;
+        this.taskEventBus = taskEventBus;
+        this.subscriberBuffers = subscriberBuffers;
+
+        // Artifact chunks are merged once per task, before they are journaled and fanned out
+        SubscriberBufferSettings settings = subscriberBuffers.getSettings();
+        this.artifactChunkCoalescer = settings.getCoalesceWindow() != null
+            ? new ArtifactChunkCoalescer(settings.getCoalesceWindow(), settings.getCoalesceMaxSize(), this::journalAndPublish)
+            : null;
+    }
+
+    /**
+     * Constructs a new BasicTaskManager with the specified dependencies
+     * and default subscriber buffers.
+     *
+     * @param taskHandler The task handler to process tasks
+     * @param taskStorage The storage implementation to use
+     * @param notificationPublisher The notification publisher
+     * @param taskEventJournal The journal recording streamed events
+     * @param taskEventBus The bus delivering streamed events to subscribers
+     */
+    public BasicTaskManager(
+            TaskHandler taskHandler,
+            TaskStorage taskStorage,
+            NotificationPublisher notificationPublisher,
+            TaskEventJournal taskEventJournal,
+            TaskEventBus taskEventBus
+    ) {
+        this(taskHandler, taskStorage, notificationPublisher, taskEventJournal, taskEventBus, new SubscriberBuffers());
+    }
+
+    /**
+     * Constructs a new BasicTaskManager with the specified dependencies
+     * and an in-process event bus.
+     *
+     * @param taskHandler The task handler to process tasks
+     * @param taskStorage The storage implementation to use
+     * @param notificationPublisher The notification publisher
+     * @param taskEventJournal The journal recording streamed events
+     */
+    public BasicTaskManager(
+            TaskHandler taskHandler,
+            TaskStorage taskStorage,
+            NotificationPublisher notificationPublisher,
+            TaskEventJournal taskEventJournal
+    ) {
+        this(taskHandler, taskStorage, notificationPublisher, taskEventJournal, new InProcessTaskEventBus());
+    }
+
+    /**
+     * Constructs a new BasicTaskManager with the specified dependencies,
+     * an in-memory event journal and an in-process event bus.
+     *
+     * @param taskHandler The task handler to process tasks
+     * @param taskStorage The storage implementation to use
+     * @param notificationPublisher The notification publisher
+     */
+    public BasicTaskManager(
+            TaskHandler taskHandler,
+            TaskStorage taskStorage,
+            NotificationPublisher notificationPublisher
+    ) {
+        this(taskHandler, taskStorage, notificationPublisher, new InMemoryTaskEventJournal());
     }
 
     /**
@@ -67,7 +156,9 @@ public class BasicTaskManager implements TaskManager {
         this(
             taskHandler,
             TaskStorageLoader.loadTaskStorage(),
-            new BasicNotificationPublisher()
+            new BasicNotificationPublisher(),
+            TaskEventJournalLoader.loadTaskEventJournal(),
+            TaskEventBusLoader.loadTaskEventBus()
         );
     }
 
@@ -97,6 +188,105 @@ public class BasicTaskManager implements TaskManager {
             .build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation subscribes to the events of the task before reading it, so that no update
+     * between the read and the wait is missed, and reads the task again after the first event or the timeout.
+     * A finished task is returned right away.
+     */
+    @Override
+    public Mono<GetTaskResponse> onGetTaskAwait(GetTaskRequest request) {
+        TaskQueryParams<?> taskQueryParams = request.getParams();
+        Long waitMillis = taskQueryParams.getWaitMillis();
+        if (waitMillis == null || waitMillis <= 0) {
+            return Mono.fromCallable(() -> onGetTask(request));
+        }
+
+        return Mono.defer(() -> {
+            Flux<TaskEventRecord> liveEvents = connectToTaskEvents(taskQueryParams.getId());
+            GetTaskResponse current;
+            try {
+                current = onGetTask(request);
+            } catch (RuntimeException e) {
+                disconnect(liveEvents);
+                throw e;
+            }
+            if (!isUnchanged(current, taskQueryParams.getKnownStatusTimestamp())) {
+                disconnect(liveEvents);
+                return Mono.just(current);
+            }
+
+            log.debug("Waiting up to {} ms for task {} to change", waitMillis, taskQueryParams.getId());
+            return liveEvents.next()
+                .timeout(Duration.ofMillis(waitMillis), Mono.empty())
+                // Events arrive on the publisher's thread, which must not wait for the storage
+                .publishOn(Schedulers.boundedElastic())
+                .then(Mono.fromCallable(() -> onGetTask(request)));
+        });
+    }
+
+    /**
+     * Checks whether a task still has the status the client knows and may change further.
+     *
+     * @param response The current task
+     * @param knownStatusTimestamp The timestamp of the status the client knows, or null to wait for the next update
+     * @return true if the request should wait for the task to change
+     */
+    private static boolean isUnchanged(GetTaskResponse response, String knownStatusTimestamp) {
+        Task task = response.getResult();
+        if (task == null || task.getStatus() == null) {
+            return false;
+        }
+        TaskState state = task.getStatus().getState();
+        if (state != null && state.isTerminal()) {
+            return false;
+        }
+        return knownStatusTimestamp == null || knownStatusTimestamp.equals(task.getStatus().getTimestamp());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation retrieves all tasks with a single bulk storage lookup.
+     * Requests for more than {@value #MAX_TASKS_PER_GET_MANY} tasks are rejected with an InvalidParamsError.
+     */
+    @Override
+    public GetTasksResponse onGetTasks(GetTasksRequest request) {
+        TasksQueryParams<?> tasksQueryParams = request.getParams();
+        List<String> taskIds = tasksQueryParams != null ? tasksQueryParams.getIds() : null;
+        if (taskIds == null || taskIds.size() > MAX_TASKS_PER_GET_MANY) {
+            return GetTasksResponse.builder()
+                .id(request.getId())
+                .error(new InvalidParamsError())
+                .build();
+        }
+        log.info("Getting {} tasks", taskIds.size());
+
+        try {
+            Map<String, Task> tasks = taskStorage.fetchAll(taskIds);
+
+            List<TaskLookupResult> results = new ArrayList<>(taskIds.size());
+            for (String taskId : taskIds) {
+                Task task = taskId != null ? tasks.get(taskId) : null;
+                results.add(TaskLookupResult.builder()
+                    .id(taskId)
+                    .task(task != null ? appendTaskHistory(task, tasksQueryParams.getHistoryLength()) : null)
+                    .build());
+            }
+            return GetTasksResponse.builder()
+                .id(request.getId())
+                .result(results)
+                .build();
+        } catch (Exception e) {
+            log.error("Error while getting tasks: {}", e.getMessage(), e);
+            return GetTasksResponse.builder()
+                .id(request.getId())
+                .error(new org.a2a4j.models.jsonrpc.errors.InternalError())
+                .build();
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -109,7 +299,7 @@ public class BasicTaskManager implements TaskManager {
         log.info("Cancelling task {}", request.getParams().getId());
         TaskIdParams<?> taskIdParams = request.getParams();
 
-        if (taskStorage.fetch(taskIdParams.getId()) == null) {
+        if (taskStorage.fetchForUpdate(taskIdParams.getId()) == null) {
             return CancelTaskResponse.builder()
                 .id(request.getId())
                 .error(new TaskNotFoundError())
@@ -148,6 +338,16 @@ public class BasicTaskManager implements TaskManager {
             Task handledTask = taskHandler.handle(task);
             taskStorage.store(handledTask);
 
+            // Wake up requests waiting for the task to change, and resubscribed streams.
+            // The status is journaled even without a listener, so that a stream resumed later stays contiguous
+            boolean terminal = handledTask.getStatus() != null && handledTask.getStatus().getState() != null
+                && handledTask.getStatus().getState().isTerminal();
+            sendSseEvent(task.getId(), TaskStatusUpdateEvent.builder()
+                .id(task.getId())
+                .status(handledTask.getStatus())
+                .finalFlag(terminal)
+                .build());
+
             // Send push notification if configured
             PushNotificationConfig notificationConfig = taskStorage.fetchNotificationConfig(task.getId());
             if (notificationConfig != null && notificationPublisher != null) {
@@ -178,8 +378,19 @@ public class BasicTaskManager implements TaskManager {
      */
     @Override
     public Flux<SendTaskStreamingResponse> onSendTaskSubscribe(SendTaskStreamingRequest request) {
+        return onSendTaskSubscribeEvents(request).map(TaskStreamEvent::getResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation uses the sequence of each event in the task event journal as its ID.
+     */
+    @Override
+    public Flux<TaskStreamEvent> onSendTaskSubscribeEvents(SendTaskStreamingRequest request) {
         log.info("Sending task with subscription {}", request.getParams().getId());
         TaskSendParams<?> taskSendParams = request.getParams();
+        Flux<TaskEventRecord> liveEvents = null;
 
         try {
             // Create or update the task
@@ -190,8 +401,9 @@ public class BasicTaskManager implements TaskManager {
                 setPushNotificationInfo(taskSendParams.getId(), taskSendParams.getPushNotification());
             }
 
-            // Set up SSE consumer
-            Sinks.Many<Object> sseEventSink = setupSseConsumer(taskSendParams.getId());
+            // Connect to the task's events before sending any, so that the subscriber receives all of them
+            long startSequence = taskEventJournal.lastSequence(task.getId());
+            liveEvents = connectToTaskEvents(task.getId());
 
             // Send initial task status update
             TaskStatusUpdateEvent initialStatusEvent = TaskStatusUpdateEvent.builder()
@@ -231,39 +443,18 @@ public class BasicTaskManager implements TaskManager {
 
             // Return the flux of events
             String requestId = request.getId();
-            String taskId = task.getId();
-
-            return sseEventSink.asFlux()
-                .map(event -> {
-                    if (event instanceof TaskStatusUpdateEvent statusEvent) {
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .result(statusEvent)
-                            .build();
-                    } else if (event instanceof TaskArtifactUpdateEvent artifactEvent) {
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .result(artifactEvent)
-                            .build();
-                    } else {
-                        log.warn("Unknown event type: {}", event.getClass().getName());
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .error(new org.a2a4j.models.jsonrpc.errors.InternalError())
-                            .build();
-                    }
-                })
-                .doFinally(signalType -> {
-                    // Remove the subscriber when the flux completes or errors
-                    removeTaskSubscriber(taskId, sseEventSink);
-                });
+
+            Flux<TaskStreamEvent> events = followTaskEvents(task.getId(), Collections.emptyList(), startSequence, liveEvents)
+                .map(record -> TaskStreamEvent.of(requestId, record));
+            return subscriberBuffers.bound(task.getId(), requestId, events);
 
         } catch (Exception e) {
             log.error("Error while setting up task subscription: {}", e.getMessage(), e);
-            return Flux.just(SendTaskStreamingResponse.builder()
+            disconnect(liveEvents);
+            return Flux.just(TaskStreamEvent.of(SendTaskStreamingResponse.builder()
                 .id(request.getId())
                 .error(new org.a2a4j.models.jsonrpc.errors.InternalError())
-                .build());
+                .build()));
         }
     }
 
@@ -361,66 +552,133 @@ public class BasicTaskManager implements TaskManager {
      */
     @Override
     public Flux<SendTaskStreamingResponse> onResubscribeToTask(TaskResubscriptionRequest request) {
-        log.info("Resubscribing to task {}", request.getParams().getId());
+        return onResubscribeToTask(request, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation replays the events recorded in the task event journal after
+     * the given sequence and then continues with live updates. If no sequence is given,
+     * or the journal no longer retains all events after it, the subscriber receives the
+     * current task status first instead. The stream completes after the final status update,
+     * which for a task that has already finished is sent right after the replay.
+     */
+    @Override
+    public Flux<SendTaskStreamingResponse> onResubscribeToTask(TaskResubscriptionRequest request, Long lastSequence) {
+        return resubscribeToTask(request, lastSequence).map(TaskStreamEvent::getResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation uses the sequence of each event in the task event journal as its ID,
+     * and replays the events recorded after the last event ID. If the ID is missing or unknown,
+     * the subscriber receives the current task status first instead. After an unknown ID, such as
+     * one issued before the journal lost its events, that status carries no ID, which tells the
+     * client that the sequences that follow do not continue the ones it has seen.
+     */
+    @Override
+    public Flux<TaskStreamEvent> onResubscribeToTaskEvents(TaskResubscriptionRequest request, String lastEventId) {
+        return resubscribeToTask(request, TaskStreamEvent.sequenceOf(lastEventId));
+    }
+
+    /**
+     * Resubscribes to a task, replaying the events recorded after the given sequence.
+     *
+     * @param request The request to resubscribe to a task
+     * @param lastSequence The sequence of the last event the subscriber has seen, or null if unknown
+     * @return A flux of streaming responses with their event IDs
+     */
+    private Flux<TaskStreamEvent> resubscribeToTask(TaskResubscriptionRequest request, Long lastSequence) {
+        log.info("Resubscribing to task {} after sequence {}", request.getParams().getId(), lastSequence);
         TaskQueryParams<?> taskQueryParams = request.getParams();
         String taskId = taskQueryParams.getId();
+        Flux<TaskEventRecord> liveEvents = null;
 
         try {
-            Task task = taskStorage.fetch(taskId);
+            // The task may just have been created, and must not be reported missing
+            Task task = taskStorage.fetchForUpdate(taskId);
             if (task == null) {
-                return Flux.just(SendTaskStreamingResponse.builder()
+                return Flux.just(TaskStreamEvent.of(SendTaskStreamingResponse.builder()
                     .id(request.getId())
                     .error(new TaskNotFoundError())
-                    .build());
+                    .build()));
             }
 
-            // Set up SSE consumer with resubscribe flag
-            Sinks.Many<Object> sseEventSink = setupSseConsumer(taskId, true);
+            // A finished task publishes no more events, so only its missed events and final status are sent
+            boolean terminal = task.getStatus() != null && task.getStatus().getState() != null
+                && task.getStatus().getState().isTerminal();
 
-            // Send current task status update
-            TaskStatusUpdateEvent statusEvent = TaskStatusUpdateEvent.builder()
-                .id(task.getId())
-                .status(task.getStatus())
-                .finalFlag(false) // Initial status is not final
-                .build();
-            sendSseEvent(task.getId(), statusEvent);
+            // Connect to the task's events before reading the journal,
+            // so that no event published in between is lost
+            if (!terminal) {
+                liveEvents = connectToTaskEvents(taskId);
+            }
+
+            List<TaskEventRecord> missedEvents = lastSequence != null
+                ? taskEventJournal.readAfter(taskId, lastSequence)
+                : Collections.emptyList();
+            boolean complete = lastSequence != null && isContiguous(taskId, lastSequence, missedEvents);
+
+            List<TaskEventRecord> replay;
+            long replayedUpTo;
+            if (complete) {
+                replay = missedEvents;
+                replayedUpTo = missedEvents.isEmpty()
+                    ? lastSequence
+                    : missedEvents.get(missedEvents.size() - 1).getSequence();
+            } else {
+                // Send current task status update to this subscriber only
+                replayedUpTo = taskEventJournal.lastSequence(taskId);
+                TaskStatusUpdateEvent statusEvent = TaskStatusUpdateEvent.builder()
+                    .id(task.getId())
+                    .status(task.getStatus())
+                    .finalFlag(terminal) // Initial status is only final for a finished task
+                    .build();
+                // A status sent for an unknown ID is not positioned in the journal, so it goes without an ID
+                replay = List.of(new TaskEventRecord(taskId, lastSequence != null ? 0 : replayedUpTo, statusEvent));
+            }
 
             // Return the flux of events
             String requestId = request.getId();
 
-            return sseEventSink.asFlux()
-                .map(event -> {
-                    if (event instanceof TaskStatusUpdateEvent statusUpdate) {
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .result(statusUpdate)
-                            .build();
-                    } else if (event instanceof TaskArtifactUpdateEvent artifactEvent) {
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .result(artifactEvent)
-                            .build();
-                    } else {
-                        log.warn("Unknown event type: {}", event.getClass().getName());
-                        return SendTaskStreamingResponse.builder()
-                            .id(requestId)
-                            .error(new org.a2a4j.models.jsonrpc.errors.InternalError())
-                            .build();
-                    }
-                })
-                .doFinally(signalType -> {
-                    // Remove the subscriber when the flux completes or errors
-                    removeTaskSubscriber(taskId, sseEventSink);
-                });
+            Flux<TaskEventRecord> records;
+            if (terminal) {
+                records = Flux.fromIterable(completeReplay(task, replay, replayedUpTo))
+                    .takeUntil(BasicTaskManager::isFinalStatus);
+            } else {
+                records = followTaskEvents(taskId, replay, replayedUpTo, liveEvents);
+            }
+            Flux<TaskStreamEvent> events = records.map(record -> TaskStreamEvent.of(requestId, record));
+            return subscriberBuffers.bound(taskId, requestId, events);
         } catch (Exception e) {
             log.error("Error while resubscribing to task: {}", e.getMessage(), e);
-            return Flux.just(SendTaskStreamingResponse.builder()
+            disconnect(liveEvents);
+            return Flux.just(TaskStreamEvent.of(SendTaskStreamingResponse.builder()
                 .id(request.getId())
                 .error(new org.a2a4j.models.jsonrpc.errors.InternalError())
-                .build());
+                .build()));
         }
     }
 
+    /**
+     * Checks whether the journal still retains every event of a task after the given sequence.
+     * A sequence beyond the last one of the journal is unknown to it, for example because the
+     * subscriber saw it before a restart that lost an in-memory journal, and is not contiguous.
+     *
+     * @param taskId The ID of the task
+     * @param lastSequence The last sequence seen by the subscriber
+     * @param missedEvents The events read from the journal after that sequence
+     * @return true if no event after the sequence was dropped from the journal
+     */
+    private boolean isContiguous(String taskId, long lastSequence, List<TaskEventRecord> missedEvents) {
+        if (missedEvents.isEmpty()) {
+            return taskEventJournal.lastSequence(taskId) == lastSequence;
+        }
+        return missedEvents.get(0).getSequence() == lastSequence + 1;
+    }
+
     /**
      * Creates or updates a task based on the provided parameters.
      *
@@ -428,15 +686,15 @@ public class BasicTaskManager implements TaskManager {
      * @return The created or updated task
      */
     private Task upsertTask(TaskSendParams<?> params) {
-        Task existingTask = taskStorage.fetch(params.getId());
+        // The new turn must be appended to the latest version of the task
+        Task existingTask = taskStorage.fetchForUpdate(params.getId());
 
-        List<Message> history = new ArrayList<>();
-        if (existingTask != null && existingTask.getHistory() != null) {
-            history.addAll(existingTask.getHistory());
-        }
+        // Appending shares the existing history instead of copying it
+        AppendOnlyList<Message> history = AppendOnlyList.copyOf(
+            existingTask != null ? existingTask.getHistory() : null);
 
         if (params.getMessage() != null) {
-            history.add(params.getMessage());
+            history = history.append(params.getMessage());
         }
 
         // Determine the status. If new task, set to submitted/working? Schema doesn't specify initial status.
@@ -482,15 +740,8 @@ public class BasicTaskManager implements TaskManager {
             task.getHistory().size()
         );
 
-        // Use Task builder to create a copy with limited history
-        return Task.builder()
-            .id(task.getId())
-            .sessionId(task.getSessionId())
-            .status(task.getStatus())
-            .history(limitedHistory)
-            .artifacts(task.getArtifacts())
-            .metadata(task.getMetadata())
-            .build();
+        // The sub list is a view, so the copy shares the history instead of duplicating it
+        return task.withHistory(limitedHistory);
     }
 
     /**
@@ -506,96 +757,139 @@ public class BasicTaskManager implements TaskManager {
     }
 
     /**
-     * Sets up a new subscriber for task events.
+     * Subscribes to the live events of a task on the event bus right away.
+     * Events are buffered until the returned flux is subscribed to.
      *
      * @param taskId The ID of the task to subscribe to
-     * @param isResubscribe Whether this is a resubscription to an existing task
-     * @return A sink for receiving task update events
-     * @throws IllegalArgumentException if resubscribing to a non-existent task
+     * @return A flux of the events published from now on
      */
-    private Sinks.Many<Object> setupSseConsumer(String taskId, boolean isResubscribe) {
-        Task existingTask = taskStorage.fetch(taskId); // Check if task exists
-        if (existingTask == null && isResubscribe) {
-             log.warn("Attempted to resubscribe to non-existent task: {}", taskId);
-             throw new TaskNotFoundException(taskId); // Use a more specific exception
-        }
-        // If not resubscribing, the task might be created later, so don't check here.
+    private Flux<TaskEventRecord> connectToTaskEvents(String taskId) {
+        Sinks.Many<TaskEventRecord> buffer = Sinks.many().unicast().onBackpressureBuffer();
+        Disposable subscription = taskEventBus.subscribe(taskId)
+            .subscribe(buffer::tryEmitNext, buffer::tryEmitError, buffer::tryEmitComplete);
+        return buffer.asFlux()
+            .doFinally(signalType -> {
+                // Unsubscribe from the bus when the flux is cancelled, completes or errors
+                subscription.dispose();
+            });
+    }
 
-        Sinks.Many<Object> sink = Sinks.many().multicast().onBackpressureBuffer();
+    /**
+     * Unsubscribes from live events that will not be returned to a subscriber.
+     *
+     * @param liveEvents The live events from {@link #connectToTaskEvents(String)}, or null if not connected
+     */
+    private void disconnect(Flux<TaskEventRecord> liveEvents) {
+        if (liveEvents != null) {
+            liveEvents.subscribe().dispose();
+        }
+    }
 
-        List<Sinks.Many<Object>> subscribers = taskSseSubscribers.computeIfAbsent(
-            taskId,
-            k -> Collections.synchronizedList(new ArrayList<>())
-        );
+    /**
+     * Continues a replay with live events. Live events that were already delivered are skipped,
+     * and events the bus reordered or lost are filled in from the journal, so that the subscriber
+     * receives every event once and in sequence order.
+     *
+     * @param taskId The ID of the task
+     * @param replay The events to send first
+     * @param replayedUpTo The sequence of the last event covered by the replay
+     * @param liveEvents The live events of the task
+     * @return A flux of the replay followed by the live events
+     */
+    private Flux<TaskEventRecord> followTaskEvents(String taskId, List<TaskEventRecord> replay, long replayedUpTo,
+                                                   Flux<TaskEventRecord> liveEvents) {
+        AtomicLong delivered = new AtomicLong(replayedUpTo);
+        return Flux.concat(
+                Flux.fromIterable(replay),
+                liveEvents.concatMapIterable(record -> catchUp(taskId, delivered, record)))
+            // Nothing follows the final status, and completing releases the bus subscription
+            .takeUntil(BasicTaskManager::isFinalStatus);
+    }
 
-        subscribers.add(sink);
-        log.info("Added subscriber for task {}", taskId);
-        return sink;
+    /**
+     * Makes sure the replay for a finished task ends with a final status update.
+     *
+     * @param task The finished task
+     * @param replay The events to replay
+     * @param replayedUpTo The sequence of the last replayed event
+     * @return The replay, followed by the final status of the task if it did not contain one
+     */
+    private List<TaskEventRecord> completeReplay(Task task, List<TaskEventRecord> replay, long replayedUpTo) {
+        if (replay.stream().anyMatch(BasicTaskManager::isFinalStatus)) {
+            return replay;
+        }
+        List<TaskEventRecord> completed = new ArrayList<>(replay);
+        completed.add(new TaskEventRecord(task.getId(), replayedUpTo, TaskStatusUpdateEvent.builder()
+            .id(task.getId())
+            .status(task.getStatus())
+            .finalFlag(true)
+            .build()));
+        return completed;
     }
 
     /**
-     * Sets up a new subscriber for task events.
+     * Checks whether an event is the final status update of its task.
      *
-     * @param taskId The ID of the task to subscribe to
-     * @return A sink for receiving task update events
+     * @param record The journaled event
+     * @return true if the event is a status update flagged as final
      */
-    private Sinks.Many<Object> setupSseConsumer(String taskId) {
-        return setupSseConsumer(taskId, false);
+    private static boolean isFinalStatus(TaskEventRecord record) {
+        return record.getEvent() instanceof TaskStatusUpdateEvent
+            && Boolean.TRUE.equals(((TaskStatusUpdateEvent) record.getEvent()).getFinalFlag());
     }
 
     /**
-     * Removes a subscriber from the list of subscribers for a task.
+     * Determines the events to deliver when a live event arrives.
      *
      * @param taskId The ID of the task
-     * @param sink The sink to remove
+     * @param delivered The sequence of the last delivered event, updated by this method
+     * @param record The live event
+     * @return The missed events followed by the live event, or nothing if it was already delivered
      */
-    private void removeTaskSubscriber(String taskId, Sinks.Many<Object> sink) {
-        List<Sinks.Many<Object>> subscribers = taskSseSubscribers.get(taskId);
-        if (subscribers != null) {
-            boolean removed = subscribers.remove(sink);
-            if(removed) {
-                log.info("Removed subscriber for task {}", taskId);
-            } else {
-                log.warn("Attempted to remove non-existent subscriber for task {}", taskId);
-            }
-            if (subscribers.isEmpty()) {
-                boolean listRemoved = taskSseSubscribers.remove(taskId, subscribers);
-                if(listRemoved) {
-                    log.info("Removed subscriber list for task {} as it became empty", taskId);
-                }
+    private List<TaskEventRecord> catchUp(String taskId, AtomicLong delivered, TaskEventRecord record) {
+        long last = delivered.get();
+        if (record.getSequence() <= last) {
+            return Collections.emptyList();
+        }
+        delivered.set(record.getSequence());
+        if (record.getSequence() == last + 1) {
+            return List.of(record);
+        }
+
+        log.debug("Filling events {} to {} of task {} from the journal", last + 1, record.getSequence() - 1, taskId);
+        List<TaskEventRecord> records = new ArrayList<>();
+        for (TaskEventRecord missed : taskEventJournal.readAfter(taskId, last)) {
+            if (missed.getSequence() < record.getSequence()) {
+                records.add(missed);
             }
         }
+        records.add(record);
+        return records;
     }
 
     /**
-     * Sends an event to all subscribers of a task.
+     * Sends an event to the subscribers of a task, merging consecutive artifact chunks first if configured.
      *
      * @param taskId The ID of the task
      * @param event The event to send
      */
-    private void sendSseEvent(String taskId, Object event) {
-        List<Sinks.Many<Object>> subscribers = taskSseSubscribers.get(taskId);
-        if (subscribers != null && !subscribers.isEmpty()) {
-            log.debug("Sending event {} to {} subscribers for task {}", event.getClass().getSimpleName(), subscribers.size(), taskId);
-            // Create a copy to avoid ConcurrentModificationException if list is modified during iteration
-            List<Sinks.Many<Object>> subscribersCopy = new ArrayList<>(subscribers);
-            for (Sinks.Many<Object> sink : subscribersCopy) {
-                Sinks.EmitResult result = sink.tryEmitNext(event);
-                if (result.isFailure()) {
-                    log.warn("Failed to send event to subscriber for task {}: {}", taskId, result);
-                    // Optionally remove failed sink
-                    // removeTaskSubscriber(taskId, sink);
-                }
-            }
+    private void sendSseEvent(String taskId, TaskStreamingResult event) {
+        if (artifactChunkCoalescer != null) {
+            artifactChunkCoalescer.publish(taskId, event);
         } else {
-             log.debug("No subscribers found for task {} when trying to send event {}", taskId, event.getClass().getSimpleName());
+            journalAndPublish(taskId, event);
         }
     }
-}
 
-// Custom exception for TaskNotFound during resubscribe
-class TaskNotFoundException extends IllegalArgumentException {
-    public TaskNotFoundException(String taskId) {
-        super("Task not found for resubscription: " + taskId);
+    /**
+     * Records an event in the task event journal and publishes it to the subscribers of a task.
+     *
+     * @param taskId The ID of the task
+     * @param event The event to send
+     */
+    private void journalAndPublish(String taskId, TaskStreamingResult event) {
+        TaskEventRecord record = taskEventJournal.append(taskId, event);
+        log.debug("Publishing event {} #{} for task {}", event.getClass().getSimpleName(), record.getSequence(), taskId);
+        taskEventBus.publish(record);
     }
 }
@@ -7,6 +7,9 @@ import org.a2a4j.models.Task;
 import org.a2a4j.models.notification.PushNotificationConfig;
 import org.a2a4j.server.storage.TaskStorage;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -44,6 +47,24 @@ public class InMemoryTaskStorage implements TaskStorage {
         return tasks.get(taskId);
     }
 
+    /**
+     * Retrieves several tasks by their IDs from the in-memory storage.
+     *
+     * @param taskIds The IDs of the tasks to retrieve
+     * @return A map of task IDs to the tasks that were found
+     */
+    @Override
+    public Map<String, Task> fetchAll(Collection<String> taskIds) {
+        Map<String, Task> result = new HashMap<>();
+        for (String taskId : taskIds) {
+            Task task = taskId != null ? tasks.get(taskId) : null;
+            if (task != null) {
+                result.put(taskId, task);
+            }
+        }
+        return result;
+    }
+
     /**
      * Stores a push notification configuration for a task.
      * If a configuration for the same task ID already exists, it will be overwritten.
@@ -0,0 +1,567 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.notification.PushNotificationConfig;
+import org.a2a4j.server.storage.TaskStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory implementation of the TaskStorage interface that keeps tasks outside the Java heap.
+ * <p>
+ * Tasks are serialized to JSON and appended to large direct {@link ByteBuffer} slabs. The index from
+ * task ID to the slab and offset of the latest version of each task is an open addressing hash table
+ * in direct memory as well, which compares task IDs against the keys stored in the records, so the
+ * heap holds no object per task. Tasks are deserialized on every fetch, so callers always receive a
+ * private copy. Overwritten and removed tasks leave garbage behind in their slab; once the live data
+ * of a full slab drops below the compaction threshold, its remaining records are moved to the active
+ * slab and the slab is released.
+ * </p>
+ * This keeps heap usage and GC pauses small and stable for very large numbers of live tasks, at the
+ * cost of a serialization round trip per access. Fetches share a read lock, while stores and removals
+ * are serialized by a single write lock. This implementation is thread-safe but does not persist data
+ * across application restarts.
+ */
+public class OffHeapTaskStorage implements TaskStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapTaskStorage.class);
+
+    /** Default size of a slab in bytes */
+    public static final int DEFAULT_SLAB_SIZE = 64 * 1024 * 1024;
+
+    /** Default ratio of live bytes below which a full slab is compacted */
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    /** Record layout: int record length, int key length, key bytes, task bytes */
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final int slabSize;
+    private final double compactionThreshold;
+
+    /** Guards the slabs and the index; fetches share the read lock */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Slabs by ID; released slabs leave a null entry that is reused */
+    private final List<Slab> slabs = new ArrayList<>();
+
+    /** Index of task IDs to the packed slab ID and offset of their latest record */
+    private final Index index = new Index();
+
+    private Slab activeSlab;
+
+    /** Map of task IDs to their push notification configurations, small enough to stay on the heap */
+    private final ConcurrentHashMap<String, PushNotificationConfig> pushNotificationInfos = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new OffHeapTaskStorage with the default slab size and compaction threshold.
+     * Derived properties that the models serialize, such as the text content of a message,
+     * are ignored when tasks are read back.
+     */
+    public OffHeapTaskStorage() {
+        this(new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false),
+            DEFAULT_SLAB_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new OffHeapTaskStorage.
+     *
+     * @param objectMapper The object mapper for JSON serialization, which must be able to read back the tasks it writes
+     * @param slabSize The size of a slab in bytes; larger tasks get a dedicated slab
+     * @param compactionThreshold The ratio of live bytes, between 0 and 1, below which a full slab is compacted
+     * @throws IllegalArgumentException if the slab size or compaction threshold is out of range
+     */
+    public OffHeapTaskStorage(ObjectMapper objectMapper, int slabSize, double compactionThreshold) {
+        if (slabSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Slab size too small: " + slabSize);
+        }
+        if (compactionThreshold < 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("Compaction threshold must be between 0 and 1: " + compactionThreshold);
+        }
+        this.objectMapper = objectMapper;
+        this.slabSize = slabSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Stores a task in off-heap memory.
+     * If a task with the same ID already exists, it will be overwritten.
+     *
+     * @param task The task to store
+     */
+    @Override
+    public void store(Task task) {
+        byte[] keyBytes = task.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] taskBytes;
+        try {
+            taskBytes = objectMapper.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize task: {}", task.getId(), e);
+            throw new RuntimeException("Failed to serialize task", e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            long location = writeRecord(keyBytes, taskBytes);
+            long previous = index.put(keyBytes, location);
+            if (previous != Index.NOT_FOUND) {
+                release(previous);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves a task by its ID from off-heap memory.
+     *
+     * @param taskId The ID of the task to retrieve
+     * @return A freshly deserialized copy of the task if found, null otherwise
+     */
+    @Override
+    public Task fetch(String taskId) {
+        byte[] keyBytes = taskId.getBytes(StandardCharsets.UTF_8);
+        byte[] taskBytes;
+        lock.readLock().lock();
+        try {
+            long location = index.get(keyBytes);
+            if (location == Index.NOT_FOUND) {
+                return null;
+            }
+            ByteBuffer buffer = slabs.get(slabIdOf(location)).buffer;
+            int offset = offsetOf(location);
+            int recordLength = buffer.getInt(offset);
+            int keyLength = buffer.getInt(offset + Integer.BYTES);
+            taskBytes = new byte[recordLength - RECORD_HEADER_SIZE - keyLength];
+            buffer.get(offset + RECORD_HEADER_SIZE + keyLength, taskBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            return objectMapper.readValue(taskBytes, Task.class);
+        } catch (IOException e) {
+            log.error("Failed to deserialize task: {}", taskId, e);
+            throw new UncheckedIOException("Failed to deserialize task", e);
+        }
+    }
+
+    /**
+     * Removes a task and its push notification configuration.
+     * The space of the task is reclaimed when its slab is compacted or released.
+     *
+     * @param taskId The ID of the task to remove
+     * @return true if the task was stored
+     */
+    public boolean remove(String taskId) {
+        byte[] keyBytes = taskId.getBytes(StandardCharsets.UTF_8);
+        lock.writeLock().lock();
+        try {
+            long location = index.remove(keyBytes);
+            if (location == Index.NOT_FOUND) {
+                return false;
+            }
+            release(location);
+            pushNotificationInfos.remove(taskId);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a push notification configuration for a task.
+     * If a configuration for the same task ID already exists, it will be overwritten.
+     *
+     * @param taskId The ID of the task to associate with the configuration
+     * @param config The push notification configuration to store
+     * @throws IllegalArgumentException if the task ID does not exist
+     */
+    @Override
+    public void storeNotificationConfig(String taskId, PushNotificationConfig config) {
+        lock.readLock().lock();
+        try {
+            if (index.get(taskId.getBytes(StandardCharsets.UTF_8)) == Index.NOT_FOUND) {
+                throw new IllegalArgumentException("Task not found for " + taskId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        pushNotificationInfos.put(taskId, config);
+    }
+
+    /**
+     * Retrieves a push notification configuration for a task by its ID.
+     *
+     * @param taskId The ID of the task whose configuration to retrieve
+     * @return The push notification configuration if found, null otherwise
+     */
+    @Override
+    public PushNotificationConfig fetchNotificationConfig(String taskId) {
+        return pushNotificationInfos.get(taskId);
+    }
+
+    /**
+     * Compacts every full slab whose ratio of live bytes is below the compaction threshold.
+     * Compaction also runs automatically after stores; calling it explicitly is only needed
+     * to reclaim memory eagerly, e.g. after a burst of updates.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            for (Slab slab : new ArrayList<>(slabs)) {
+                if (slab != null && slabs.get(slab.id) == slab && slab != activeSlab
+                        && slab.liveRatio() < compactionThreshold) {
+                    compact(slab);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of stored tasks.
+     *
+     * @return The number of tasks
+     */
+    public int getTaskCount() {
+        lock.readLock().lock();
+        try {
+            return index.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of off-heap bytes currently allocated for slabs and the index.
+     *
+     * @return The allocated bytes
+     */
+    public long getAllocatedBytes() {
+        lock.readLock().lock();
+        try {
+            long allocated = index.table.capacity();
+            for (Slab slab : slabs) {
+                if (slab != null) {
+                    allocated += slab.buffer.capacity();
+                }
+            }
+            return allocated;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the active slab, switching to a new slab if it does not fit.
+     * Must be called with the write lock held.
+     *
+     * @return The packed location of the record
+     */
+    private long writeRecord(byte[] keyBytes, byte[] taskBytes) {
+        int recordLength = RECORD_HEADER_SIZE + keyBytes.length + taskBytes.length;
+        Slab slab = slabFor(recordLength);
+        int offset = slab.writePosition;
+        slab.buffer.putInt(offset, recordLength);
+        slab.buffer.putInt(offset + Integer.BYTES, keyBytes.length);
+        slab.buffer.put(offset + RECORD_HEADER_SIZE, keyBytes);
+        slab.buffer.put(offset + RECORD_HEADER_SIZE + keyBytes.length, taskBytes);
+        slab.writePosition += recordLength;
+        slab.liveBytes += recordLength;
+        return locationOf(slab.id, offset);
+    }
+
+    /**
+     * Copies a record that is already stored in a slab to the active slab.
+     * Must be called with the write lock held.
+     *
+     * @return The packed location of the copy
+     */
+    private long moveRecord(Slab source, int offset, int recordLength) {
+        Slab target = slabFor(recordLength);
+        int targetOffset = target.writePosition;
+        target.buffer.put(targetOffset, source.buffer, offset, recordLength);
+        target.writePosition += recordLength;
+        target.liveBytes += recordLength;
+        return locationOf(target.id, targetOffset);
+    }
+
+    /**
+     * Gets a slab with room for a record, allocating a new active slab if needed.
+     * Must be called with the write lock held.
+     */
+    private Slab slabFor(int recordLength) {
+        if (activeSlab != null && activeSlab.remaining() >= recordLength) {
+            return activeSlab;
+        }
+        if (activeSlab != null && activeSlab.liveBytes == 0) {
+            freeSlab(activeSlab);
+        }
+
+        int id = slabs.indexOf(null);
+        if (id < 0) {
+            id = slabs.size();
+            slabs.add(null);
+        }
+        activeSlab = new Slab(id, ByteBuffer.allocateDirect(Math.max(slabSize, recordLength)));
+        slabs.set(id, activeSlab);
+        log.debug("Allocated slab {} with {} bytes", id, activeSlab.buffer.capacity());
+        return activeSlab;
+    }
+
+    /**
+     * Marks the record at a location as garbage and frees its slab once nothing in it is live.
+     * Must be called with the write lock held.
+     */
+    private void release(long location) {
+        Slab slab = slabs.get(slabIdOf(location));
+        slab.liveBytes -= slab.buffer.getInt(offsetOf(location));
+        if (slab.liveBytes == 0 && slab != activeSlab) {
+            freeSlab(slab);
+        }
+    }
+
+    /**
+     * Compacts the sparsest full slab if it fell below the compaction threshold.
+     * Must be called with the write lock held.
+     */
+    private void compactIfNeeded() {
+        Slab sparsest = null;
+        for (Slab slab : slabs) {
+            if (slab != null && slab != activeSlab && (sparsest == null || slab.liveRatio() < sparsest.liveRatio())) {
+                sparsest = slab;
+            }
+        }
+        if (sparsest != null && sparsest.liveRatio() < compactionThreshold) {
+            compact(sparsest);
+        }
+    }
+
+    /**
+     * Moves the live records of a slab to the active slab and frees it.
+     * A record is live if the index still points at it.
+     * Must be called with the write lock held.
+     */
+    private void compact(Slab slab) {
+        log.debug("Compacting slab {} with {} of {} bytes live", slab.id, slab.liveBytes, slab.writePosition);
+        int offset = 0;
+        while (offset < slab.writePosition) {
+            int recordLength = slab.buffer.getInt(offset);
+            int keyLength = slab.buffer.getInt(offset + Integer.BYTES);
+            byte[] keyBytes = new byte[keyLength];
+            slab.buffer.get(offset + RECORD_HEADER_SIZE, keyBytes);
+
+            if (index.get(keyBytes) == locationOf(slab.id, offset)) {
+                index.put(keyBytes, moveRecord(slab, offset, recordLength));
+            }
+            offset += recordLength;
+        }
+        freeSlab(slab);
+    }
+
+    /**
+     * Drops a slab; its direct memory is returned once the buffer is garbage collected.
+     * Must be called with the write lock held.
+     */
+    private void freeSlab(Slab slab) {
+        slabs.set(slab.id, null);
+        if (slab == activeSlab) {
+            activeSlab = null;
+        }
+        log.debug("Released slab {}", slab.id);
+    }
+
+    private static long locationOf(int slabId, int offset) {
+        return ((long) slabId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int slabIdOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * Checks whether the record at a location has the given key.
+     * Must be called with a lock held.
+     */
+    private boolean hasKey(long location, byte[] keyBytes) {
+        ByteBuffer buffer = slabs.get(slabIdOf(location)).buffer;
+        int offset = offsetOf(location);
+        if (buffer.getInt(offset + Integer.BYTES) != keyBytes.length) {
+            return false;
+        }
+        int keyOffset = offset + RECORD_HEADER_SIZE;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (buffer.get(keyOffset + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hash table with linear probing from task IDs to record locations, kept in a direct buffer.
+     * A slot holds the location plus one, so that zeroed slots are empty, and the hash of the key,
+     * so that keys only need to be compared on a hash match and the table can grow without reading
+     * the records. Removals shift the following entries back instead of leaving tombstones.
+     * Lookups must be called with a lock held, modifications with the write lock held.
+     */
+    private final class Index {
+        private static final long NOT_FOUND = -1;
+        private static final int SLOT_SIZE = Long.BYTES + Integer.BYTES;
+        private static final int INITIAL_SLOTS = 1024;
+
+        private ByteBuffer table = ByteBuffer.allocateDirect(INITIAL_SLOTS * SLOT_SIZE);
+        private int mask = INITIAL_SLOTS - 1;
+        private int size;
+
+        private long get(byte[] keyBytes) {
+            int slot = find(keyBytes, hashOf(keyBytes));
+            return slot < 0 ? NOT_FOUND : locationAt(slot);
+        }
+
+        /**
+         * @return the previous location of the key, or {@link #NOT_FOUND}
+         */
+        private long put(byte[] keyBytes, long location) {
+            int hash = hashOf(keyBytes);
+            int slot = find(keyBytes, hash);
+            if (slot >= 0) {
+                long previous = locationAt(slot);
+                table.putLong(slot * SLOT_SIZE, location + 1);
+                return previous;
+            }
+            if ((size + 1) * 4L > (mask + 1) * 3L) {
+                grow();
+            }
+            insert(hash, location);
+            size++;
+            return NOT_FOUND;
+        }
+
+        /**
+         * @return the removed location of the key, or {@link #NOT_FOUND}
+         */
+        private long remove(byte[] keyBytes) {
+            int slot = find(keyBytes, hashOf(keyBytes));
+            if (slot < 0) {
+                return NOT_FOUND;
+            }
+            long location = locationAt(slot);
+            // Shift back every following entry of the probe run that may not stay behind the gap
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (table.getLong(next * SLOT_SIZE) != 0) {
+                int home = table.getInt(next * SLOT_SIZE + Long.BYTES) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    copySlot(next, gap);
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            table.putLong(gap * SLOT_SIZE, 0);
+            table.putInt(gap * SLOT_SIZE + Long.BYTES, 0);
+            size--;
+            return location;
+        }
+
+        private int find(byte[] keyBytes, int hash) {
+            int slot = hash & mask;
+            long entry;
+            while ((entry = table.getLong(slot * SLOT_SIZE)) != 0) {
+                if (table.getInt(slot * SLOT_SIZE + Long.BYTES) == hash && hasKey(entry - 1, keyBytes)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(int hash, long location) {
+            int slot = hash & mask;
+            while (table.getLong(slot * SLOT_SIZE) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table.putLong(slot * SLOT_SIZE, location + 1);
+            table.putInt(slot * SLOT_SIZE + Long.BYTES, hash);
+        }
+
+        private void grow() {
+            ByteBuffer old = table;
+            int oldSlots = mask + 1;
+            table = ByteBuffer.allocateDirect(oldSlots * 2 * SLOT_SIZE);
+            mask = oldSlots * 2 - 1;
+            for (int slot = 0; slot < oldSlots; slot++) {
+                long entry = old.getLong(slot * SLOT_SIZE);
+                if (entry != 0) {
+                    insert(old.getInt(slot * SLOT_SIZE + Long.BYTES), entry - 1);
+                }
+            }
+            log.debug("Grew index to {} slots", mask + 1);
+        }
+
+        private void copySlot(int from, int to) {
+            table.putLong(to * SLOT_SIZE, table.getLong(from * SLOT_SIZE));
+            table.putInt(to * SLOT_SIZE + Long.BYTES, table.getInt(from * SLOT_SIZE + Long.BYTES));
+        }
+
+        private long locationAt(int slot) {
+            return table.getLong(slot * SLOT_SIZE) - 1;
+        }
+
+        private int hashOf(byte[] keyBytes) {
+            int hash = 1;
+            for (byte b : keyBytes) {
+                hash = 31 * hash + b;
+            }
+            // Spread the bits, since the table is indexed by the low bits
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * A direct buffer that records are appended to.
+     */
+    private static final class Slab {
+        private final int id;
+        private final ByteBuffer buffer;
+        private int writePosition;
+        private long liveBytes;
+
+        private Slab(int id, ByteBuffer buffer) {
+            this.id = id;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        private double liveRatio() {
+            return (double) liveBytes / buffer.capacity();
+        }
+    }
+}
@@ -3,8 +3,16 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.a2a4j.server;
 
+import org.a2a4j.models.TaskLookupResult;
 import org.a2a4j.models.jsonrpc.*;
+import org.a2a4j.models.params.TaskQueryParams;
+import org.a2a4j.models.params.TasksQueryParams;
+import org.a2a4j.server.events.TaskStreamEvent;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface for managing tasks in the A2A system.
@@ -22,6 +30,42 @@ public interface TaskManager {
      */
     GetTaskResponse onGetTask(GetTaskRequest request);
 
+    /**
+     * Retrieves a task, waiting for its status to change if the request sets {@link TaskQueryParams#getWaitMillis()}.
+     * The response is sent as soon as the status of the task differs from {@link TaskQueryParams#getKnownStatusTimestamp()},
+     * or when the wait time is up. Implementations must not block a thread while waiting.
+     * The default implementation does not wait and calls {@link #onGetTask(GetTaskRequest)}.
+     *
+     * @param request The request containing the task ID, query parameters and wait time
+     * @return A Mono emitting the requested task or an error if the task is not found
+     */
+    default Mono<GetTaskResponse> onGetTaskAwait(GetTaskRequest request) {
+        return Mono.fromCallable(() -> onGetTask(request));
+    }
+
+    /**
+     * Retrieves several tasks by their IDs.
+     * The default implementation calls {@link #onGetTask(GetTaskRequest)} for every ID.
+     *
+     * @param request The request containing the task IDs and query parameters
+     * @return A response containing one lookup result per requested ID, in request order
+     */
+    default GetTasksResponse onGetTasks(GetTasksRequest request) {
+        TasksQueryParams<?> params = request.getParams();
+        List<TaskLookupResult> results = new ArrayList<>(params.getIds().size());
+        for (String taskId : params.getIds()) {
+            GetTaskResponse response = onGetTask(GetTaskRequest.builder()
+                .id(request.getId())
+                .params(TaskQueryParams.builder().id(taskId).historyLength(params.getHistoryLength()).build())
+                .build());
+            results.add(TaskLookupResult.builder().id(taskId).task(response.getResult()).build());
+        }
+        return GetTasksResponse.builder()
+            .id(request.getId())
+            .result(results)
+            .build();
+    }
+
     /**
      * Attempts to cancel a task.
      *
@@ -46,6 +90,18 @@ public interface TaskManager {
      */
     Flux<SendTaskStreamingResponse> onSendTaskSubscribe(SendTaskStreamingRequest request);
 
+    /**
+     * Subscribes to streaming updates for a task, pairing every update with its SSE event ID.
+     * The default implementation calls {@link #onSendTaskSubscribe(SendTaskStreamingRequest)}
+     * and sends the updates without IDs.
+     *
+     * @param request The request containing the task data and subscription parameters
+     * @return A flux of streaming responses with their event IDs
+     */
+    default Flux<TaskStreamEvent> onSendTaskSubscribeEvents(SendTaskStreamingRequest request) {
+        return onSendTaskSubscribe(request).map(TaskStreamEvent::of);
+    }
+
     /**
      * Sets push notification configuration for a task.
      *
@@ -69,4 +125,31 @@ public interface TaskManager {
      * @return A flux of streaming responses with task updates
      */
     Flux<SendTaskStreamingResponse> onResubscribeToTask(TaskResubscriptionRequest request);
+
+    /**
+     * Handles a request to resubscribe to a task, resuming after the last event the subscriber has seen.
+     * Implementations that keep a task event journal replay the events recorded after the given
+     * sequence before continuing with live updates.
+     * The default implementation ignores the sequence and behaves like {@link #onResubscribeToTask(TaskResubscriptionRequest)}.
+     *
+     * @param request The request to resubscribe to a task
+     * @param lastSequence The sequence of the last event the subscriber has seen, or null if unknown
+     * @return A flux of streaming responses with task updates
+     */
+    default Flux<SendTaskStreamingResponse> onResubscribeToTask(TaskResubscriptionRequest request, Long lastSequence) {
+        return onResubscribeToTask(request);
+    }
+
+    /**
+     * Handles a request to resubscribe to a task after an SSE reconnect, pairing every update with its SSE event ID.
+     * The default implementation calls {@link #onResubscribeToTask(TaskResubscriptionRequest, Long)}
+     * with the sequence parsed from the last event ID and sends the updates without IDs.
+     *
+     * @param request The request to resubscribe to a task
+     * @param lastEventId The value of the {@code Last-Event-ID} header, or null if absent
+     * @return A flux of streaming responses with their event IDs
+     */
+    default Flux<TaskStreamEvent> onResubscribeToTaskEvents(TaskResubscriptionRequest request, String lastEventId) {
+        return onResubscribeToTask(request, TaskStreamEvent.sequenceOf(lastEventId)).map(TaskStreamEvent::of);
+    }
 }
@@ -0,0 +1,316 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.Artifact;
+import org.a2a4j.models.part.Part;
+import org.a2a4j.models.part.TextPart;
+import org.a2a4j.models.streaming.TaskArtifactUpdateEvent;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Merges consecutive chunks of the same artifact of a task into a single streaming event
+ * before it is journaled and published.
+ * <p>
+ * Coalescing happens once per task, upstream of the fan-out to subscribers, so every subscriber
+ * and every resuming client receives the same merged event, encoded once. An artifact chunk is
+ * held back for up to the time window, and a following chunk with {@code append=true} of the same
+ * artifact index is merged into it as long as the merged text stays within the maximum size. A
+ * chunk with {@code lastChunk=true} and any other event flush the held chunk immediately, so they
+ * are never delayed and the order of events is kept. The merged event keeps the {@code append}
+ * flag of its first chunk and takes the {@code lastChunk} flag of its last chunk.
+ * </p>
+ * <p>
+ * A chunk whose window is over is published on a scheduler that may block, since publishing
+ * journals the event. The chunk is only let go once it was published: if that fails, it stays
+ * held back, the next event of the task publishes it first and fails in its caller if it still
+ * cannot, and meanwhile it is retried with a growing delay.
+ * </p>
+ */
+public class ArtifactChunkCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactChunkCoalescer.class);
+
+    /** Longest delay between two attempts to publish a chunk that failed to publish */
+    private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Duration window;
+    private final int maxSize;
+    private final BiConsumer<String, TaskStreamingResult> publisher;
+    private final Scheduler scheduler;
+    /** Map of task IDs to the chunk held back for them */
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new ArtifactChunkCoalescer that publishes chunks whose window is over on {@link Schedulers#boundedElastic()}.
+     *
+     * @param window The time an artifact chunk is held back to be merged with following chunks
+     * @param maxSize The maximum number of text characters in a merged chunk
+     * @param publisher Receives the ID of a task and each of its events, merged or not, in order
+     */
+    public ArtifactChunkCoalescer(Duration window, int maxSize, BiConsumer<String, TaskStreamingResult> publisher) {
+        this(window, maxSize, publisher, Schedulers.boundedElastic());
+    }
+
+    /**
+     * Creates a new ArtifactChunkCoalescer.
+     *
+     * @param window The time an artifact chunk is held back to be merged with following chunks
+     * @param maxSize The maximum number of text characters in a merged chunk
+     * @param publisher Receives the ID of a task and each of its events, merged or not, in order
+     * @param scheduler The scheduler publishing chunks whose window is over, which must allow blocking
+     */
+    public ArtifactChunkCoalescer(Duration window, int maxSize, BiConsumer<String, TaskStreamingResult> publisher,
+                                  Scheduler scheduler) {
+        this.window = window;
+        this.maxSize = maxSize;
+        this.publisher = publisher;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Publishes an event of a task, merging it with the artifact chunk held back for the task if possible.
+     *
+     * @param taskId The ID of the task
+     * @param event The event to publish
+     */
+    public void publish(String taskId, TaskStreamingResult event) {
+        TaskArtifactUpdateEvent update = artifactUpdate(event);
+        while (true) {
+            Pending current = update != null
+                ? pending.computeIfAbsent(taskId, Pending::new)
+                : pending.get(taskId);
+            if (current == null) {
+                publisher.accept(taskId, event);
+                return;
+            }
+            synchronized (current) {
+                if (current.discarded) {
+                    // Flushed and removed in the meantime
+                    continue;
+                }
+                if (current.chunk != null && current.chunk.accepts(update, maxSize)) {
+                    current.chunk.add(update);
+                    if (Boolean.TRUE.equals(current.chunk.lastChunk)) {
+                        flush(current);
+                    }
+                    return;
+                }
+                if (current.chunk != null) {
+                    // Fails before the chunk is let go, so the timer keeps retrying it
+                    publisher.accept(taskId, current.chunk.toEvent());
+                    current.chunk = null;
+                    current.timer.dispose();
+                    current.failures = 0;
+                }
+                if (update != null && !Boolean.TRUE.equals(update.getArtifact().getLastChunk())) {
+                    current.chunk = new Chunk(update);
+                    current.timer = scheduler.schedule(() -> flushOnTimer(current),
+                        window.toNanos(), TimeUnit.NANOSECONDS);
+                    return;
+                }
+                try {
+                    publisher.accept(taskId, event);
+                } finally {
+                    discard(current);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tasks with an artifact chunk held back.
+     *
+     * @return The number of pending tasks
+     */
+    public int getPendingTaskCount() {
+        return pending.size();
+    }
+
+    /**
+     * Publishes the chunk held back for a task once its window is over, retrying later if that fails.
+     * The monitor stays held while publishing, so that the next event of the task cannot overtake the chunk.
+     */
+    private void flushOnTimer(Pending current) {
+        synchronized (current) {
+            if (current.discarded) {
+                return;
+            }
+            try {
+                flush(current);
+            } catch (RuntimeException e) {
+                current.failures++;
+                long delay = Math.min(window.toNanos() << Math.min(current.failures, 20), MAX_RETRY_DELAY_NANOS);
+                log.error("Failed to publish coalesced artifact chunk of task {} ({} attempts), retrying in {} ms",
+                    current.taskId, current.failures, TimeUnit.NANOSECONDS.toMillis(delay), e);
+                current.timer = scheduler.schedule(() -> flushOnTimer(current), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Publishes the held chunk and lets it go; the caller holds the monitor.
+     */
+    private void flush(Pending current) {
+        if (current.chunk != null) {
+            publisher.accept(current.taskId, current.chunk.toEvent());
+        }
+        discard(current);
+    }
+
+    private void discard(Pending current) {
+        current.discarded = true;
+        current.chunk = null;
+        if (current.timer != null) {
+            current.timer.dispose();
+        }
+        pending.remove(current.taskId, current);
+    }
+
+    /**
+     * Gets the artifact update carried by an event.
+     *
+     * @return The artifact update, or null if the event is not an artifact update
+     */
+    private static TaskArtifactUpdateEvent artifactUpdate(TaskStreamingResult event) {
+        if (!(event instanceof TaskArtifactUpdateEvent)) {
+            return null;
+        }
+        TaskArtifactUpdateEvent update = (TaskArtifactUpdateEvent) event;
+        return update.getArtifact() != null ? update : null;
+    }
+
+    private static int textSize(Artifact artifact) {
+        int size = 0;
+        if (artifact.getParts() != null) {
+            for (Part part : artifact.getParts()) {
+                if (part instanceof TextPart && ((TextPart) part).getText() != null) {
+                    size += ((TextPart) part).getText().length();
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The artifact chunk held back for a task; all access is guarded by its monitor.
+     * A discarded instance has been removed from the map and must not be used again.
+     */
+    private static final class Pending {
+        private final String taskId;
+        private Chunk chunk;
+        private Disposable timer;
+        private int failures;
+        private boolean discarded;
+
+        private Pending(String taskId) {
+            this.taskId = taskId;
+        }
+    }
+
+    /**
+     * A chunk being merged from one or more consecutive artifact updates.
+     */
+    private static final class Chunk {
+        private final TaskArtifactUpdateEvent firstUpdate;
+        private final List<Part> parts = new ArrayList<>();
+        private StringBuilder trailingText;
+        private TextPart trailingTextPart;
+        private Boolean lastChunk;
+        private int size;
+        private int chunks;
+
+        private Chunk(TaskArtifactUpdateEvent update) {
+            this.firstUpdate = update;
+            add(update);
+        }
+
+        private boolean accepts(TaskArtifactUpdateEvent update, int maxSize) {
+            return update != null
+                && Objects.equals(update.getId(), firstUpdate.getId())
+                && Objects.equals(update.getArtifact().getIndex(), firstUpdate.getArtifact().getIndex())
+                && Boolean.TRUE.equals(update.getArtifact().getAppend())
+                && !Boolean.TRUE.equals(lastChunk)
+                && size + textSize(update.getArtifact()) <= maxSize;
+        }
+
+        private void add(TaskArtifactUpdateEvent update) {
+            Artifact artifact = update.getArtifact();
+            if (artifact.getParts() != null) {
+                for (Part part : artifact.getParts()) {
+                    addPart(part);
+                }
+            }
+            lastChunk = artifact.getLastChunk();
+            size += textSize(artifact);
+            chunks++;
+        }
+
+        /**
+         * Adds a part, joining adjacent text parts with the same metadata into one.
+         */
+        private void addPart(Part part) {
+            if (part instanceof TextPart && trailingTextPart != null
+                    && Objects.equals(((TextPart) part).getMetadata(), trailingTextPart.getMetadata())) {
+                trailingText.append(Objects.toString(((TextPart) part).getText(), ""));
+                return;
+            }
+            flushText();
+            if (part instanceof TextPart) {
+                trailingTextPart = (TextPart) part;
+                trailingText = new StringBuilder(Objects.toString(trailingTextPart.getText(), ""));
+            } else {
+                parts.add(part);
+            }
+        }
+
+        private void flushText() {
+            if (trailingTextPart != null) {
+                parts.add(TextPart.builder()
+                    .type(trailingTextPart.getType())
+                    .text(trailingText.toString())
+                    .metadata(trailingTextPart.getMetadata())
+                    .build());
+                trailingTextPart = null;
+                trailingText = null;
+            }
+        }
+
+        private TaskArtifactUpdateEvent toEvent() {
+            if (chunks == 1) {
+                return firstUpdate;
+            }
+            flushText();
+            Artifact firstArtifact = firstUpdate.getArtifact();
+            Artifact artifact = Artifact.builder()
+                .name(firstArtifact.getName())
+                .description(firstArtifact.getDescription())
+                .parts(parts)
+                .metadata(firstArtifact.getMetadata())
+                .index(firstArtifact.getIndex())
+                .append(firstArtifact.getAppend())
+                .lastChunk(lastChunk)
+                .build();
+            return TaskArtifactUpdateEvent.builder()
+                .id(firstUpdate.getId())
+                .artifact(artifact)
+                .metadata(firstUpdate.getMetadata())
+                .build();
+        }
+    }
+}
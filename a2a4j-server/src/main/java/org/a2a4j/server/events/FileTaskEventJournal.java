@@ -0,0 +1,421 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File-based implementation of the TaskEventJournal interface.
+ * <p>
+ * Every task gets its own append-only file of JSON lines in the journal directory, one line
+ * per event holding its sequence and the serialized event. Events are never removed from the
+ * files, so they also serve as a durable audit log of everything that was streamed for a task.
+ * </p>
+ * <p>
+ * The journal keeps an index of the byte offset of every event of the tasks it has recently
+ * used, so that resuming a stream only reads and parses the events after the given sequence.
+ * The index is rebuilt from the file on first use after a restart or after the task has been
+ * dropped from the index to make room for others. A torn last line left behind by a crash is
+ * cut off at that point, so that the next event starts on a line of its own.
+ * </p>
+ */
+public class FileTaskEventJournal implements TaskEventJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTaskEventJournal.class);
+    private static final String FILE_SUFFIX = ".jsonl";
+
+    /** Default number of tasks whose offset index is kept in memory */
+    public static final int DEFAULT_MAX_INDEXED_TASKS = 4096;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final StandardOpenOption[] appendOptions;
+    private final int maxIndexedTasks;
+
+    /** Number of tasks to keep after an eviction, so that evictions don't run on every new task */
+    private final int evictionTarget;
+
+    /** Map of task IDs to the offset index of their journal files */
+    private final ConcurrentHashMap<String, FileState> states = new ConcurrentHashMap<>();
+
+    private final AtomicLong accessClock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * Creates a new FileTaskEventJournal that does not force writes to the storage device.
+     *
+     * @param directory The directory to write journal files to, created if it does not exist
+     */
+    public FileTaskEventJournal(Path directory) {
+        this(directory, new ObjectMapper(), false);
+    }
+
+    /**
+     * Creates a new FileTaskEventJournal indexing up to {@link #DEFAULT_MAX_INDEXED_TASKS} tasks.
+     *
+     * @param directory The directory to write journal files to, created if it does not exist
+     * @param objectMapper The object mapper for JSON serialization
+     * @param sync Whether every append should be written synchronously to the storage device
+     */
+    public FileTaskEventJournal(Path directory, ObjectMapper objectMapper, boolean sync) {
+        this(directory, objectMapper, sync, DEFAULT_MAX_INDEXED_TASKS);
+    }
+
+    /**
+     * Creates a new FileTaskEventJournal.
+     *
+     * @param directory The directory to write journal files to, created if it does not exist
+     * @param objectMapper The object mapper for JSON serialization
+     * @param sync Whether every append should be written synchronously to the storage device
+     * @param maxIndexedTasks The maximum number of tasks whose offset index is kept in memory
+     * @throws IllegalArgumentException if the maximum number of indexed tasks is not positive
+     */
+    public FileTaskEventJournal(Path directory, ObjectMapper objectMapper, boolean sync, int maxIndexedTasks) {
+        if (maxIndexedTasks <= 0) {
+            throw new IllegalArgumentException("Maximum indexed tasks must be positive: " + maxIndexedTasks);
+        }
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.appendOptions = sync
+            ? new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC}
+            : new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.APPEND};
+        this.maxIndexedTasks = maxIndexedTasks;
+        this.evictionTarget = maxIndexedTasks - maxIndexedTasks / 10;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal directory " + directory, e);
+        }
+        log.info("FileTaskEventJournal initialized in {}", directory);
+    }
+
+    @Override
+    public TaskEventRecord append(String taskId, TaskStreamingResult event) {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.set("event", objectMapper.valueToTree(event));
+        TaskEventRecord record = null;
+        try {
+            while (record == null) {
+                FileState state = states.computeIfAbsent(taskId, this::load);
+                synchronized (state) {
+                    // A state evicted meanwhile is replaced by a new one loaded from the file
+                    if (!state.discarded) {
+                        record = new TaskEventRecord(taskId, state.lastSequence + 1, event);
+                        line.put("sequence", record.getSequence());
+                        byte[] bytes = (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+                        try {
+                            Files.write(state.path, bytes, appendOptions);
+                        } catch (IOException e) {
+                            // Part of the line may have been written, so the index is rebuilt from the file on next use
+                            state.discarded = true;
+                            states.remove(taskId, state);
+                            throw e;
+                        }
+                        state.add(record.getSequence(), bytes.length, accessClock.incrementAndGet());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to append event for task {}", taskId, e);
+            throw new UncheckedIOException("Failed to append event for task " + taskId, e);
+        }
+        evictIfFull();
+        return record;
+    }
+
+    @Override
+    public List<TaskEventRecord> readAfter(String taskId, long afterSequence) {
+        long from;
+        long to;
+        Path path;
+        while (true) {
+            FileState state = existingStateOf(taskId);
+            if (state == null) {
+                return Collections.emptyList();
+            }
+            synchronized (state) {
+                if (state.discarded) {
+                    continue;
+                }
+                state.lastAccess = accessClock.incrementAndGet();
+                int first = state.indexAfter(afterSequence);
+                if (first == state.count) {
+                    return Collections.emptyList();
+                }
+                from = state.offsets[first];
+                to = state.size;
+                path = state.path;
+                break;
+            }
+        }
+
+        // Bytes before the indexed size are never written again, so they can be read without the lock
+        List<TaskEventRecord> records = new ArrayList<>();
+        readLines(path, from, to, (offset, line, length, terminated) -> {
+            JsonNode node = parse(path, line, length);
+            if (node != null) {
+                long sequence = node.get("sequence").asLong();
+                if (sequence > afterSequence) {
+                    records.add(new TaskEventRecord(taskId, sequence, toEvent(taskId, node)));
+                }
+            }
+        });
+        return records;
+    }
+
+    @Override
+    public long lastSequence(String taskId) {
+        while (true) {
+            FileState state = existingStateOf(taskId);
+            if (state == null) {
+                return 0;
+            }
+            synchronized (state) {
+                if (!state.discarded) {
+                    state.lastAccess = accessClock.incrementAndGet();
+                    return state.lastSequence;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tasks whose offset index is currently kept in memory.
+     *
+     * @return The number of indexed tasks
+     */
+    public int getIndexedTaskCount() {
+        return states.size();
+    }
+
+    /**
+     * Gets the state of a task that has a journal file. Task IDs are client supplied, so
+     * looking up a task without a file must not leave anything behind.
+     */
+    private FileState existingStateOf(String taskId) {
+        FileState state = states.get(taskId);
+        if (state != null) {
+            return state;
+        }
+        if (!Files.exists(directory.resolve(fileNameOf(taskId)))) {
+            return null;
+        }
+        state = states.computeIfAbsent(taskId, this::load);
+        evictIfFull();
+        return state;
+    }
+
+    /**
+     * Builds the offset index of a task from its journal file, cutting off a torn last line.
+     */
+    private FileState load(String taskId) {
+        Path path = directory.resolve(fileNameOf(taskId));
+        FileState state = new FileState(taskId, path, accessClock.incrementAndGet());
+        if (!Files.exists(path)) {
+            return state;
+        }
+        long[] end = new long[1];
+        readLines(path, 0, Long.MAX_VALUE, (offset, line, length, terminated) -> {
+            if (!terminated) {
+                return;
+            }
+            end[0] = offset + length + 1;
+            JsonNode node = parse(path, line, length);
+            if (node != null) {
+                state.size = offset;
+                state.add(node.get("sequence").asLong(), length + 1, state.lastAccess);
+            }
+        });
+        state.size = end[0];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            if (channel.size() > state.size) {
+                log.warn("Truncating torn last line of journal file {} at offset {}", path, state.size);
+                channel.truncate(state.size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to truncate journal file " + path, e);
+        }
+        return state;
+    }
+
+    /**
+     * Drops the least recently used tasks from the index until it is back under the eviction
+     * target. Their files are kept and indexed again when they are used next. Only one thread
+     * evicts at a time.
+     */
+    private void evictIfFull() {
+        if (states.size() <= maxIndexedTasks || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // Snapshot the access times, since they keep changing while sorting
+            List<Map.Entry<Long, FileState>> snapshot = new ArrayList<>(states.size());
+            for (FileState state : states.values()) {
+                snapshot.add(Map.entry(state.lastAccess, state));
+            }
+            snapshot.sort(Map.Entry.comparingByKey());
+
+            for (Map.Entry<Long, FileState> entry : snapshot) {
+                if (states.size() <= evictionTarget) {
+                    break;
+                }
+                FileState state = entry.getValue();
+                synchronized (state) {
+                    state.discarded = true;
+                }
+                states.remove(state.taskId, state);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Reads the lines between two byte offsets of a journal file. The last line is passed
+     * as not terminated if the range ends before its newline.
+     */
+    private static void readLines(Path path, long from, long to, LineConsumer consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             InputStream in = Channels.newInputStream(channel.position(from))) {
+            byte[] buffer = new byte[8192];
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            long offset = from;
+            long position = from;
+            int read;
+            while (position < to && (read = in.read(buffer, 0, (int) Math.min(buffer.length, to - position))) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        line.write(buffer, start, i - start);
+                        consumer.accept(offset, line.toByteArray(), line.size(), true);
+                        line.reset();
+                        offset = position + i + 1;
+                        start = i + 1;
+                    }
+                }
+                line.write(buffer, start, read - start);
+                position += read;
+            }
+            if (line.size() > 0) {
+                consumer.accept(offset, line.toByteArray(), line.size(), false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read journal file " + path, e);
+        }
+    }
+
+    private JsonNode parse(Path path, byte[] line, int length) {
+        if (length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(line, 0, length);
+        } catch (IOException e) {
+            // A line damaged by an earlier crash must not make the whole journal unreadable
+            log.warn("Skipping unreadable journal line in {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private TaskStreamingResult toEvent(String taskId, JsonNode line) {
+        try {
+            return objectMapper.treeToValue(line.get("event"), TaskStreamingResult.class);
+        } catch (IOException e) {
+            log.error("Failed to deserialize event for task {}", taskId, e);
+            throw new UncheckedIOException("Failed to deserialize event for task " + taskId, e);
+        }
+    }
+
+    /**
+     * Task IDs are client supplied, so they are encoded to keep file names portable and
+     * to prevent them from escaping the journal directory.
+     */
+    private static String fileNameOf(String taskId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(taskId.getBytes(StandardCharsets.UTF_8)) + FILE_SUFFIX;
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(long offset, byte[] line, int length, boolean terminated);
+    }
+
+    /**
+     * Offset index of the journal file of a single task: the sequence of every readable line
+     * and the byte offset it starts at, in file order. A discarded state is no longer in the
+     * journal and must not be used. All access is guarded by the state's monitor.
+     */
+    private static final class FileState {
+        private final String taskId;
+        private final Path path;
+        private long[] sequences = new long[16];
+        private long[] offsets = new long[16];
+        private int count;
+        private long size;
+        private long lastSequence;
+        private boolean discarded;
+        private volatile long lastAccess;
+
+        private FileState(String taskId, Path path, long clock) {
+            this.taskId = taskId;
+            this.path = path;
+            this.lastAccess = clock;
+        }
+
+        private void add(long sequence, int length, long clock) {
+            if (count == sequences.length) {
+                sequences = Arrays.copyOf(sequences, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            sequences[count] = sequence;
+            offsets[count] = size;
+            count++;
+            size += length;
+            lastSequence = Math.max(lastSequence, sequence);
+            lastAccess = clock;
+        }
+
+        /**
+         * @return The index of the first line with a sequence after the given one, or the count if there is none
+         */
+        private int indexAfter(long afterSequence) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sequences[mid] <= afterSequence) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
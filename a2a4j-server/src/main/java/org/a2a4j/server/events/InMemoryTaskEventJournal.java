@@ -0,0 +1,243 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory implementation of the TaskEventJournal interface.
+ * Keeps the most recent events of every task in a fixed-size ring buffer, so memory
+ * per task is bounded and older events are overwritten first. The total number of
+ * retained events is bounded as well: when it is exceeded, the tasks that have been
+ * idle the longest are discarded together with their events. A single watermark of the
+ * highest discarded sequence is kept instead, which is reported as the last sequence of
+ * unknown tasks and continued from when such a task appends again. Sequences of a task
+ * are therefore never reused, and subscribers that resume after discarded events receive
+ * the current status instead.
+ * This implementation is thread-safe but does not persist events across application restarts.
+ */
+public class InMemoryTaskEventJournal implements TaskEventJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryTaskEventJournal.class);
+
+    /** Default number of events retained per task */
+    public static final int DEFAULT_CAPACITY_PER_TASK = 256;
+
+    /** Default number of events retained over all tasks */
+    public static final long DEFAULT_MAX_TOTAL_EVENTS = 65_536;
+
+    private final int capacityPerTask;
+    private final long maxTotalEvents;
+
+    /** Number of events to keep after an eviction, so that evictions don't run on every append */
+    private final long evictionTarget;
+
+    /** Map of task IDs to their ring buffers */
+    private final ConcurrentHashMap<String, Ring> journals = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalEvents = new AtomicLong();
+    private final AtomicLong discardedWatermark = new AtomicLong();
+    private final AtomicLong appendClock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * Creates a new InMemoryTaskEventJournal retaining {@link #DEFAULT_CAPACITY_PER_TASK} events per task
+     * and {@link #DEFAULT_MAX_TOTAL_EVENTS} events in total.
+     */
+    public InMemoryTaskEventJournal() {
+        this(DEFAULT_CAPACITY_PER_TASK);
+    }
+
+    /**
+     * Creates a new InMemoryTaskEventJournal retaining {@link #DEFAULT_MAX_TOTAL_EVENTS} events in total.
+     *
+     * @param capacityPerTask The maximum number of events retained per task
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public InMemoryTaskEventJournal(int capacityPerTask) {
+        this(capacityPerTask, Math.max(DEFAULT_MAX_TOTAL_EVENTS, capacityPerTask));
+    }
+
+    /**
+     * Creates a new InMemoryTaskEventJournal.
+     *
+     * @param capacityPerTask The maximum number of events retained per task
+     * @param maxTotalEvents The maximum number of events retained over all tasks
+     * @throws IllegalArgumentException if a capacity is not positive or the total is below the capacity per task
+     */
+    public InMemoryTaskEventJournal(int capacityPerTask, long maxTotalEvents) {
+        if (capacityPerTask <= 0) {
+            throw new IllegalArgumentException("Capacity per task must be positive: " + capacityPerTask);
+        }
+        if (maxTotalEvents < capacityPerTask) {
+            throw new IllegalArgumentException("Maximum total events must be at least the capacity per task: " + maxTotalEvents);
+        }
+        this.capacityPerTask = capacityPerTask;
+        this.maxTotalEvents = maxTotalEvents;
+        this.evictionTarget = maxTotalEvents - maxTotalEvents / 10;
+    }
+
+    @Override
+    public TaskEventRecord append(String taskId, TaskStreamingResult event) {
+        TaskEventRecord record = null;
+        while (record == null) {
+            Ring ring = journals.computeIfAbsent(taskId, k -> new Ring(k, capacityPerTask, discardedWatermark.get()));
+            synchronized (ring) {
+                // A ring discarded meanwhile is replaced by a new one continuing after the watermark
+                if (!ring.discarded) {
+                    record = new TaskEventRecord(taskId, ring.lastSequence + 1, event);
+                    if (ring.add(record, appendClock.incrementAndGet())) {
+                        totalEvents.incrementAndGet();
+                    }
+                }
+            }
+        }
+        if (totalEvents.get() > maxTotalEvents) {
+            evictIdleTasks();
+        }
+        return record;
+    }
+
+    @Override
+    public List<TaskEventRecord> readAfter(String taskId, long afterSequence) {
+        Ring ring = journals.get(taskId);
+        if (ring == null) {
+            return Collections.emptyList();
+        }
+        synchronized (ring) {
+            return ring.readAfter(afterSequence);
+        }
+    }
+
+    @Override
+    public long lastSequence(String taskId) {
+        Ring ring = journals.get(taskId);
+        if (ring == null) {
+            return discardedWatermark.get();
+        }
+        synchronized (ring) {
+            return ring.lastSequence;
+        }
+    }
+
+    /**
+     * Gets the number of tasks whose events are currently retained.
+     *
+     * @return The number of tasks
+     */
+    public int getTaskCount() {
+        return journals.size();
+    }
+
+    /**
+     * Gets the number of events currently retained over all tasks.
+     *
+     * @return The number of retained events
+     */
+    public long getTotalEvents() {
+        return totalEvents.get();
+    }
+
+    /**
+     * Discards the least recently appended tasks until the total is back under the eviction
+     * target. Only one thread evicts at a time; others keep appending meanwhile.
+     */
+    private void evictIdleTasks() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // Snapshot the append times, since they keep changing while sorting
+            List<Map.Entry<Long, Ring>> rings = new ArrayList<>(journals.size());
+            for (Ring ring : journals.values()) {
+                rings.add(Map.entry(ring.lastAppend, ring));
+            }
+            rings.sort(Map.Entry.comparingByKey());
+
+            int evicted = 0;
+            for (Map.Entry<Long, Ring> entry : rings) {
+                if (totalEvents.get() <= evictionTarget) {
+                    break;
+                }
+                Ring ring = entry.getValue();
+                synchronized (ring) {
+                    // Raise the watermark before the ring disappears, so the task's last sequence never decreases
+                    discardedWatermark.accumulateAndGet(ring.lastSequence, Math::max);
+                    ring.discarded = true;
+                    totalEvents.addAndGet(-ring.size);
+                }
+                journals.remove(ring.taskId, ring);
+                evicted++;
+            }
+            log.debug("Discarded the events of {} idle tasks, {} events retained", evicted, totalEvents.get());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Fixed-size ring buffer of the events of a single task.
+     * The event with sequence {@code s} lives in slot {@code (s - 1) % capacity}.
+     * The slots are allocated on first use. A discarded ring is no longer in the journal
+     * and must not be appended to. All access is guarded by the ring's monitor.
+     */
+    private static final class Ring {
+        private final String taskId;
+        private final int capacity;
+        private TaskEventRecord[] slots;
+        private long lastSequence;
+        private int size;
+        private boolean discarded;
+        private volatile long lastAppend;
+
+        private Ring(String taskId, int capacity, long firstSequence) {
+            this.taskId = taskId;
+            this.capacity = capacity;
+            this.lastSequence = firstSequence;
+        }
+
+        /**
+         * @return true if the record took a free slot rather than overwriting the oldest one
+         */
+        private boolean add(TaskEventRecord record, long clock) {
+            if (slots == null) {
+                slots = new TaskEventRecord[capacity];
+            }
+            slots[slotOf(record.getSequence())] = record;
+            lastSequence = record.getSequence();
+            lastAppend = clock;
+            if (size < capacity) {
+                size++;
+                return true;
+            }
+            return false;
+        }
+
+        private List<TaskEventRecord> readAfter(long afterSequence) {
+            long first = Math.max(afterSequence + 1, lastSequence - size + 1);
+            if (first > lastSequence) {
+                return Collections.emptyList();
+            }
+            List<TaskEventRecord> records = new ArrayList<>((int) (lastSequence - first + 1));
+            for (long sequence = first; sequence <= lastSequence; sequence++) {
+                records.add(slots[slotOf(sequence)]);
+            }
+            return records;
+        }
+
+        private int slotOf(long sequence) {
+            return (int) ((sequence - 1) % capacity);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process implementation of the TaskEventBus interface.
+ * Events only reach subscribers in the same JVM, so resubscribing clients must
+ * be routed to the node that runs the task.
+ * <p>
+ * Every watched task has a single multicast sink that all of its subscribers share,
+ * so an event is emitted once no matter how many clients follow the task. The sink
+ * keeps its subscribers in a copy-on-write array that is updated with compare-and-set,
+ * and the channel of a task is reference counted without locks.
+ * </p>
+ */
+public class InProcessTaskEventBus implements TaskEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessTaskEventBus.class);
+
+    /** How long concurrent publishers for the same task spin before an event is dropped */
+    private static final Duration EMIT_CONTENTION_TIMEOUT = Duration.ofMillis(100);
+
+    /** Map of task IDs to their channels */
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(TaskEventRecord record) {
+        String taskId = record.getTaskId();
+        Channel channel = channels.get(taskId);
+        if (channel == null) {
+            log.debug("No subscribers found for task {} when trying to send event #{}", taskId, record.getSequence());
+            return;
+        }
+        log.debug("Sending event #{} to {} subscribers for task {}",
+            record.getSequence(), channel.sink.currentSubscriberCount(), taskId);
+        try {
+            channel.sink.emitNext(record, Sinks.EmitFailureHandler.busyLooping(EMIT_CONTENTION_TIMEOUT));
+        } catch (Sinks.EmissionException e) {
+            log.warn("Failed to send event to subscribers for task {}: {}", taskId, e.getReason());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The subscriber is registered when the returned flux is subscribed to.
+     */
+    @Override
+    public Flux<TaskEventRecord> subscribe(String taskId) {
+        return Flux.defer(() -> {
+            Channel channel = acquire(taskId);
+            return channel.sink.asFlux()
+                .doFinally(signalType -> {
+                    // Release the channel when the flux is cancelled, completes or errors
+                    release(taskId, channel);
+                });
+        });
+    }
+
+    /**
+     * Gets the channel of a task and registers a subscriber on it, creating the channel if needed.
+     *
+     * @param taskId The ID of the task to subscribe to
+     * @return The channel of the task
+     */
+    private Channel acquire(String taskId) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(taskId, k -> new Channel());
+            if (channel.retain()) {
+                log.debug("Added subscriber for task {}", taskId);
+                return channel;
+            }
+            // The channel was closed by its last subscriber in the meantime
+            channels.remove(taskId, channel);
+        }
+    }
+
+    /**
+     * Unregisters a subscriber from the channel of a task, removing the channel once it has no subscribers left.
+     *
+     * @param taskId The ID of the task
+     * @param channel The channel to release
+     */
+    private void release(String taskId, Channel channel) {
+        log.debug("Removed subscriber for task {}", taskId);
+        if (channel.release() && channels.remove(taskId, channel)) {
+            log.debug("Removed channel for task {} as it has no subscribers left", taskId);
+        }
+    }
+
+    /**
+     * The shared sink of a task together with its subscriber count.
+     * A count of -1 marks a closed channel that must not be reused.
+     */
+    private static final class Channel {
+        // Subscribers request unbounded demand, so best effort never drops for them
+        private final Sinks.Many<TaskEventRecord> sink = Sinks.many().multicast().directBestEffort();
+        private final AtomicInteger subscribers = new AtomicInteger();
+
+        private boolean retain() {
+            while (true) {
+                int count = subscribers.get();
+                if (count < 0) {
+                    return false;
+                }
+                if (subscribers.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * @return true if this was the last subscriber and the channel is now closed
+         */
+        private boolean release() {
+            return subscribers.decrementAndGet() == 0 && subscribers.compareAndSet(0, -1);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import java.time.Duration;
+
+/**
+ * Limits for the events buffered for a single streaming subscriber.
+ * <p>
+ * Optionally, consecutive chunks of the same artifact that arrive within a coalescing window
+ * are merged into a single event before they are buffered.
+ * </p>
+ */
+public class SubscriberBufferSettings {
+
+    /** Default number of events buffered per subscriber */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** Default time a subscriber may go without taking an event while events are pending */
+    public static final Duration DEFAULT_MAX_STALL = Duration.ofSeconds(30);
+
+    /** Default maximum number of text characters in a coalesced artifact chunk */
+    public static final int DEFAULT_COALESCE_MAX_SIZE = 16 * 1024;
+
+    /** Default settings: {@link #DEFAULT_CAPACITY} events, disconnect on overflow, {@link #DEFAULT_MAX_STALL}, no coalescing */
+    public static final SubscriberBufferSettings DEFAULT = new SubscriberBufferSettings(
+        DEFAULT_CAPACITY, SubscriberOverflowPolicy.DISCONNECT, DEFAULT_MAX_STALL);
+
+    private final int capacity;
+    private final SubscriberOverflowPolicy overflowPolicy;
+    private final Duration maxStall;
+    private final Duration coalesceWindow;
+    private final int coalesceMaxSize;
+
+    /**
+     * Creates new SubscriberBufferSettings without artifact chunk coalescing.
+     *
+     * @param capacity The maximum number of events buffered per subscriber
+     * @param overflowPolicy What to do when the buffer is full
+     * @param maxStall The time a subscriber may go without taking an event while events are pending
+     *                 before it is evicted, or null to never evict stalled subscribers
+     * @throws IllegalArgumentException if the capacity is not positive or the policy is missing
+     */
+    public SubscriberBufferSettings(int capacity, SubscriberOverflowPolicy overflowPolicy, Duration maxStall) {
+        this(capacity, overflowPolicy, maxStall, null, DEFAULT_COALESCE_MAX_SIZE);
+    }
+
+    /**
+     * Creates new SubscriberBufferSettings.
+     *
+     * @param capacity The maximum number of events buffered per subscriber
+     * @param overflowPolicy What to do when the buffer is full
+     * @param maxStall The time a subscriber may go without taking an event while events are pending
+     *                 before it is evicted, or null to never evict stalled subscribers
+     * @param coalesceWindow The time artifact chunks are held back to be merged with following chunks,
+     *                       once per task before they are journaled, or null to send every chunk as it arrives
+     * @param coalesceMaxSize The maximum number of text characters in a merged artifact chunk
+     * @throws IllegalArgumentException if the capacity or maximum size is not positive or the policy is missing
+     */
+    public SubscriberBufferSettings(int capacity, SubscriberOverflowPolicy overflowPolicy, Duration maxStall,
+                                    Duration coalesceWindow, int coalesceMaxSize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+        if (coalesceMaxSize <= 0) {
+            throw new IllegalArgumentException("Coalesce max size must be positive: " + coalesceMaxSize);
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.maxStall = maxStall != null && !maxStall.isZero() && !maxStall.isNegative() ? maxStall : null;
+        this.coalesceWindow = coalesceWindow != null && !coalesceWindow.isZero() && !coalesceWindow.isNegative()
+            ? coalesceWindow : null;
+        this.coalesceMaxSize = coalesceMaxSize;
+    }
+
+    /**
+     * Gets the maximum number of events buffered per subscriber.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets what to do when the buffer is full.
+     *
+     * @return The overflow policy
+     */
+    public SubscriberOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Gets the time a subscriber may go without taking an event while events are pending.
+     *
+     * @return The maximum stall, or null if stalled subscribers are never evicted
+     */
+    public Duration getMaxStall() {
+        return maxStall;
+    }
+
+    /**
+     * Gets the time artifact chunks are held back to be merged with following chunks.
+     *
+     * @return The coalescing window, or null if chunks are not coalesced
+     */
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    /**
+     * Gets the maximum number of text characters in a merged artifact chunk.
+     *
+     * @return The maximum size of a merged chunk
+     */
+    public int getCoalesceMaxSize() {
+        return coalesceMaxSize;
+    }
+}
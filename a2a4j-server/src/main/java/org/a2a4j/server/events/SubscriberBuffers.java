@@ -0,0 +1,401 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.jsonrpc.SendTaskStreamingResponse;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts a bounded buffer between the events of a task and a streaming subscriber.
+ * <p>
+ * Events are handed to the subscriber on the delivery scheduler, so a slow client only
+ * fills its own buffer instead of blocking the publisher. The default scheduler is a bounded
+ * pool of daemon threads that only holds a thread while events are being delivered; idle
+ * subscribers hold none. When the buffer is full the {@link SubscriberOverflowPolicy} applies,
+ * and a subscriber that takes no event for longer than the maximum stall is evicted by a
+ * periodic check, whether or not further events arrive. Eviction cancels the subscription to
+ * the task's events right away, and evicted subscribers receive a terminal internal error whose
+ * data carries the reason and the last event ID they received, so they can resubscribe from
+ * there. A subscriber that is still stuck writing an event one maximum stall after its eviction
+ * is cancelled, which interrupts its delivery thread and completes the stream.
+ * </p>
+ */
+public class SubscriberBuffers implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriberBuffers.class);
+
+    /** Shortest interval between two checks for stalled subscribers */
+    private static final long MIN_STALL_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Seconds an idle delivery thread of the default scheduler is kept */
+    private static final int DELIVERY_THREAD_TTL_SECONDS = 60;
+
+    private final SubscriberBufferSettings settings;
+    private final SubscriberMonitor monitor;
+    private final Scheduler deliveryScheduler;
+    /** Whether the delivery scheduler was created here and is disposed on close */
+    private final boolean ownsDeliveryScheduler;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /** The periodic stall check, running while there are subscribers; guarded by this */
+    private Disposable stallCheck;
+
+    /**
+     * Creates new SubscriberBuffers with the default settings.
+     */
+    public SubscriberBuffers() {
+        this(SubscriberBufferSettings.DEFAULT, new SubscriberMonitor());
+    }
+
+    /**
+     * Creates new SubscriberBuffers delivering on a bounded pool of up to
+     * {@link Schedulers#DEFAULT_BOUNDED_ELASTIC_SIZE} daemon threads, which is disposed on {@link #close()}.
+     *
+     * @param settings The limits of every subscriber buffer
+     * @param monitor The monitor tracking the subscribers
+     */
+    public SubscriberBuffers(SubscriberBufferSettings settings, SubscriberMonitor monitor) {
+        this(settings, monitor, Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "a2a-subscriber", DELIVERY_THREAD_TTL_SECONDS, true), true);
+    }
+
+    /**
+     * Creates new SubscriberBuffers.
+     * Subscribers may block the delivery thread while they write an event, so the scheduler should
+     * not be shared with work that must not wait for them.
+     *
+     * @param settings The limits of every subscriber buffer
+     * @param monitor The monitor tracking the subscribers
+     * @param deliveryScheduler The scheduler handing events to the subscribers
+     */
+    public SubscriberBuffers(SubscriberBufferSettings settings, SubscriberMonitor monitor, Scheduler deliveryScheduler) {
+        this(settings, monitor, deliveryScheduler, false);
+    }
+
+    private SubscriberBuffers(SubscriberBufferSettings settings, SubscriberMonitor monitor, Scheduler deliveryScheduler,
+                              boolean ownsDeliveryScheduler) {
+        this.settings = settings;
+        this.monitor = monitor;
+        this.deliveryScheduler = deliveryScheduler;
+        this.ownsDeliveryScheduler = ownsDeliveryScheduler;
+    }
+
+    /**
+     * Gets the limits of every subscriber buffer.
+     *
+     * @return The subscriber buffer settings
+     */
+    public SubscriberBufferSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Gets the monitor tracking the subscribers.
+     *
+     * @return The subscriber monitor
+     */
+    public SubscriberMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Buffers the events of a task for a single subscriber.
+     *
+     * @param taskId The ID of the task
+     * @param requestId The ID of the streaming request, used for the eviction error
+     * @param events The events of the task
+     * @return The buffered events
+     */
+    public Flux<TaskStreamEvent> bound(String taskId, String requestId, Flux<TaskStreamEvent> events) {
+        return Flux.defer(() -> {
+            Subscriber subscriber = new Subscriber(taskId, requestId, monitor.register(taskId));
+
+            subscriber.upstream.update(events.subscribe(subscriber::offer, subscriber::error, subscriber::complete));
+            track(subscriber);
+
+            return subscriber.sink.asFlux()
+                .publishOn(deliveryScheduler, 1)
+                // Cancelling the delivery disposes its worker, which interrupts a thread blocked in a write
+                .takeUntilOther(subscriber.cancelled.asMono())
+                .doOnNext(subscriber.stats::delivered)
+                .doFinally(signalType -> {
+                    subscriber.upstream.dispose();
+                    untrack(subscriber);
+                    monitor.unregister(subscriber.stats);
+                });
+        });
+    }
+
+    /**
+     * Stops the stall check and disposes the default delivery scheduler.
+     * A delivery scheduler passed to the constructor is left to its owner.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (stallCheck != null) {
+                stallCheck.dispose();
+                stallCheck = null;
+            }
+        }
+        if (ownsDeliveryScheduler) {
+            deliveryScheduler.dispose();
+        }
+    }
+
+    /**
+     * Adds a subscriber to the stall check, starting the check for the first subscriber.
+     */
+    private void track(Subscriber subscriber) {
+        Duration maxStall = settings.getMaxStall();
+        if (maxStall == null) {
+            return;
+        }
+        subscribers.add(subscriber);
+        synchronized (this) {
+            if (stallCheck == null) {
+                long period = Math.max(maxStall.toNanos() / 4, MIN_STALL_CHECK_NANOS);
+                stallCheck = Schedulers.parallel().schedulePeriodically(this::evictStalledSubscribers,
+                    period, period, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Removes a subscriber from the stall check, stopping the check after the last subscriber.
+     */
+    private void untrack(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        synchronized (this) {
+            if (subscribers.isEmpty() && stallCheck != null) {
+                stallCheck.dispose();
+                stallCheck = null;
+            }
+        }
+    }
+
+    /**
+     * Evicts every subscriber that has buffered events but took none of them for longer than the maximum stall,
+     * and cancels the delivery to evicted subscribers that did not take their eviction error within another one.
+     */
+    private void evictStalledSubscribers() {
+        long maxStallNanos = settings.getMaxStall().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            long nanosSinceEviction = subscriber.getNanosSinceEviction();
+            if (nanosSinceEviction >= 0) {
+                if (nanosSinceEviction > maxStallNanos) {
+                    subscriber.cancelDelivery();
+                }
+            } else if (subscriber.stats.getLag() > 0 && subscriber.stats.getNanosSinceLastDelivery() > maxStallNanos) {
+                subscriber.evict("stalled");
+            }
+        }
+    }
+
+    /**
+     * A single subscriber and its buffer.
+     * Events are offered and the subscriber is evicted from different threads, so the sink is only
+     * signalled under the subscriber's monitor; none of these signals block.
+     */
+    private final class Subscriber {
+        private final String taskId;
+        private final String requestId;
+        private final SubscriberStats stats;
+        private final BoundedQueue queue;
+        private final Sinks.Many<TaskStreamEvent> sink;
+        /** The subscription to the events of the task */
+        private final Disposable.Swap upstream = Disposables.swap();
+        /** Emits once to cancel the delivery to an evicted subscriber that is stuck */
+        private final Sinks.One<Boolean> cancelled = Sinks.one();
+        /** When the subscriber was evicted, or -1 while it was not; guarded by this */
+        private long evictedAt = -1;
+
+        private Subscriber(String taskId, String requestId, SubscriberStats stats) {
+            this.taskId = taskId;
+            this.requestId = requestId;
+            this.stats = stats;
+            this.queue = new BoundedQueue(stats);
+            this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+        }
+
+        /**
+         * Offers an event to the buffer, evicting the subscriber if the buffer overflows.
+         */
+        private synchronized void offer(TaskStreamEvent event) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                evict("overflow");
+            } else if (result.isFailure()) {
+                log.debug("Failed to buffer event for subscriber of task {}: {}", taskId, result);
+            }
+        }
+
+        private synchronized void error(Throwable error) {
+            sink.tryEmitError(error);
+        }
+
+        private synchronized void complete() {
+            sink.tryEmitComplete();
+        }
+
+        /**
+         * Cancels the subscription to the events of the task, replaces the buffered events with
+         * a terminal error and completes the stream.
+         */
+        private synchronized void evict(String reason) {
+            if (evictedAt >= 0) {
+                return;
+            }
+            evictedAt = System.nanoTime();
+            upstream.dispose();
+            log.warn("Evicting slow subscriber of task {} ({}) with {} buffered events", taskId, reason, stats.getLag());
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("reason", "slow_consumer_" + reason);
+            if (stats.getLastDeliveredId() != null) {
+                data.put("lastEventId", stats.getLastDeliveredId());
+            }
+            queue.close(TaskStreamEvent.of(SendTaskStreamingResponse.builder()
+                .id(requestId)
+                .error(new org.a2a4j.models.jsonrpc.errors.InternalError(data))
+                .build()));
+            monitor.evicted();
+            sink.tryEmitComplete();
+        }
+
+        /**
+         * @return The nanoseconds since the subscriber was evicted, or -1 if it was not
+         */
+        private synchronized long getNanosSinceEviction() {
+            return evictedAt < 0 ? -1 : System.nanoTime() - evictedAt;
+        }
+
+        private void cancelDelivery() {
+            if (cancelled.tryEmitValue(Boolean.TRUE).isSuccess()) {
+                log.warn("Cancelling delivery to evicted subscriber of task {} that is still blocked", taskId);
+            }
+        }
+    }
+
+    /**
+     * Bounded queue of the events of a single subscriber that applies the overflow policy on offer.
+     * The sink polls it from another thread, so all access is guarded by the queue's monitor.
+     */
+    private final class BoundedQueue extends AbstractQueue<TaskStreamEvent> {
+        private final ArrayDeque<TaskStreamEvent> events = new ArrayDeque<>();
+        private final SubscriberStats stats;
+        private boolean closed;
+
+        private BoundedQueue(SubscriberStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public synchronized boolean offer(TaskStreamEvent event) {
+            if (closed) {
+                return false;
+            }
+            if (events.size() >= settings.getCapacity() && !makeRoom(event)) {
+                return false;
+            }
+            events.add(event);
+            stats.enqueued();
+            return true;
+        }
+
+        @Override
+        public synchronized TaskStreamEvent poll() {
+            return events.poll();
+        }
+
+        @Override
+        public synchronized TaskStreamEvent peek() {
+            return events.peek();
+        }
+
+        @Override
+        public synchronized int size() {
+            return events.size();
+        }
+
+        @Override
+        public synchronized Iterator<TaskStreamEvent> iterator() {
+            return new ArrayList<>(events).iterator();
+        }
+
+        /**
+         * Discards the buffered events, leaving only a final event, and rejects further offers.
+         */
+        private synchronized void close(TaskStreamEvent finalEvent) {
+            stats.dropped(events.size());
+            events.clear();
+            events.add(finalEvent);
+            stats.enqueued();
+            closed = true;
+        }
+
+        private boolean makeRoom(TaskStreamEvent incoming) {
+            switch (settings.getOverflowPolicy()) {
+                case DROP_OLDEST:
+                    events.poll();
+                    stats.dropped(1);
+                    return true;
+                case COALESCE:
+                    return discardSupersededStatusUpdates(incoming);
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * Discards non-final status updates that are followed by a newer status update,
+         * either in the buffer or as the incoming event.
+         *
+         * @return true if any event was discarded
+         */
+        private boolean discardSupersededStatusUpdates(TaskStreamEvent incoming) {
+            boolean superseded = isStatusUpdate(incoming);
+            int discarded = 0;
+            for (Iterator<TaskStreamEvent> it = events.descendingIterator(); it.hasNext(); ) {
+                TaskStreamEvent event = it.next();
+                if (!isStatusUpdate(event)) {
+                    continue;
+                }
+                if (superseded && !Boolean.TRUE.equals(((TaskStatusUpdateEvent) event.getRecord().getEvent()).getFinalFlag())) {
+                    it.remove();
+                    discarded++;
+                } else {
+                    superseded = true;
+                }
+            }
+            stats.dropped(discarded);
+            return discarded > 0;
+        }
+
+        private boolean isStatusUpdate(TaskStreamEvent event) {
+            return event.getRecord() != null && event.getRecord().getEvent() instanceof TaskStatusUpdateEvent;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the active streaming subscribers and their lag, for reporting as metrics.
+ */
+public class SubscriberMonitor {
+
+    private final Set<SubscriberStats> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong evictedSubscribers = new AtomicLong();
+
+    /**
+     * Gets the statistics of all active subscribers.
+     *
+     * @return A snapshot of the active subscribers
+     */
+    public List<SubscriberStats> getSubscribers() {
+        return new ArrayList<>(subscribers);
+    }
+
+    /**
+     * Gets the number of active subscribers.
+     *
+     * @return The number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Gets the largest lag of any active subscriber.
+     *
+     * @return The maximum lag in events
+     */
+    public long getMaxLag() {
+        long max = 0;
+        for (SubscriberStats stats : subscribers) {
+            max = Math.max(max, stats.getLag());
+        }
+        return max;
+    }
+
+    /**
+     * Gets the lag of all active subscribers combined, i.e. the number of buffered events.
+     *
+     * @return The total lag in events
+     */
+    public long getTotalLag() {
+        long total = 0;
+        for (SubscriberStats stats : subscribers) {
+            total += stats.getLag();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of events discarded from subscriber buffers since startup.
+     *
+     * @return The dropped events
+     */
+    public long getDroppedEvents() {
+        long dropped = droppedEvents.get();
+        for (SubscriberStats stats : subscribers) {
+            dropped += stats.getDropped();
+        }
+        return dropped;
+    }
+
+    /**
+     * Gets the number of subscribers evicted for being too slow since startup.
+     *
+     * @return The evicted subscribers
+     */
+    public long getEvictedSubscribers() {
+        return evictedSubscribers.get();
+    }
+
+    SubscriberStats register(String taskId) {
+        SubscriberStats stats = new SubscriberStats(taskId);
+        subscribers.add(stats);
+        return stats;
+    }
+
+    void unregister(SubscriberStats stats) {
+        if (subscribers.remove(stats)) {
+            droppedEvents.addAndGet(stats.getDropped());
+        }
+    }
+
+    void evicted() {
+        evictedSubscribers.incrementAndGet();
+    }
+}
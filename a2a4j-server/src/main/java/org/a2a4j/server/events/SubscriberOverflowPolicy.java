@@ -0,0 +1,27 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+/**
+ * What to do when the buffer of a streaming subscriber is full.
+ */
+public enum SubscriberOverflowPolicy {
+
+    /**
+     * Discard the oldest buffered event. The subscriber notices the gap in the event IDs
+     * and can resubscribe from the last event it received.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard buffered status updates that a newer status update supersedes.
+     * If that frees no space, the subscriber is evicted.
+     */
+    COALESCE,
+
+    /**
+     * Evict the subscriber with a terminal error event.
+     */
+    DISCONNECT
+}
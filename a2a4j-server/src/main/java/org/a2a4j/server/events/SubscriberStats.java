@@ -0,0 +1,93 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery statistics of a single streaming subscriber.
+ */
+public class SubscriberStats {
+
+    private final String taskId;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long lastDeliveryNanos = System.nanoTime();
+    private volatile String lastDeliveredId;
+
+    SubscriberStats(String taskId) {
+        this.taskId = taskId;
+    }
+
+    /**
+     * Gets the ID of the task the subscriber follows.
+     *
+     * @return The task ID
+     */
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Gets the number of events waiting in the subscriber's buffer.
+     *
+     * @return The lag in events
+     */
+    public long getLag() {
+        return enqueued.get() - delivered.get() - dropped.get();
+    }
+
+    /**
+     * Gets the number of events delivered to the subscriber.
+     *
+     * @return The delivered events
+     */
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    /**
+     * Gets the number of events discarded from the subscriber's buffer.
+     *
+     * @return The dropped events
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Gets the ID of the last event delivered to the subscriber.
+     *
+     * @return The event ID, or null if none was delivered or it had no ID
+     */
+    public String getLastDeliveredId() {
+        return lastDeliveredId;
+    }
+
+    /**
+     * Gets the time since the subscriber last took an event, or since it subscribed.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getNanosSinceLastDelivery() {
+        return System.nanoTime() - lastDeliveryNanos;
+    }
+
+    void enqueued() {
+        enqueued.incrementAndGet();
+    }
+
+    void dropped(long count) {
+        dropped.addAndGet(count);
+    }
+
+    void delivered(TaskStreamEvent event) {
+        delivered.incrementAndGet();
+        lastDeliveryNanos = System.nanoTime();
+        if (event.getId() != null) {
+            lastDeliveredId = event.getId();
+        }
+    }
+}
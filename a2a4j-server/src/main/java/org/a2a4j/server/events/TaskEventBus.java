@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Interface for delivering journaled task events to their subscribers.
+ * <p>
+ * The task manager records every event in the {@link TaskEventJournal} and then publishes
+ * the record on the bus. Implementations decide how far events travel: within the current
+ * process, or to subscribers on every node of a cluster. A bus is allowed to reorder or lose
+ * records, since subscribers fill gaps from the journal by sequence; a cluster-wide bus
+ * therefore needs a journal that is shared by all nodes.
+ * </p>
+ */
+public interface TaskEventBus {
+
+    /**
+     * Publishes a journaled event to the subscribers of its task.
+     *
+     * @param record The journaled event
+     */
+    void publish(TaskEventRecord record);
+
+    /**
+     * Subscribes to the events of a task.
+     * Implementations must be receiving events by the time the subscription call returns,
+     * so that callers can read the journal afterwards without missing anything in between.
+     *
+     * @param taskId The ID of the task
+     * @return A flux of the events published after subscribing; it does not complete on its own
+     */
+    Flux<TaskEventRecord> subscribe(String taskId);
+}
@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Utility class for loading TaskEventBus implementations.
+ */
+public class TaskEventBusLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskEventBusLoader.class);
+
+    private TaskEventBusLoader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Loads the default TaskEventBus implementation.
+     * Uses the Java ServiceLoader mechanism to discover available TaskEventBusProvider implementations.
+     * If no provider is found, returns an InProcessTaskEventBus instance as a fallback.
+     *
+     * @return A configured TaskEventBus implementation
+     */
+    public static TaskEventBus loadTaskEventBus() {
+        LOG.info("Loading task event bus implementation");
+
+        ServiceLoader<TaskEventBusProvider> loader = ServiceLoader.load(TaskEventBusProvider.class);
+        Iterator<TaskEventBusProvider> providerIterator = loader.iterator();
+
+        while (providerIterator.hasNext()) {
+            TaskEventBusProvider provider = providerIterator.next();
+            TaskEventBus bus = provider.provide();
+
+            if (bus != null) {
+                LOG.info("Using task event bus implementation: {}", bus.getClass().getName());
+                return bus;
+            }
+        }
+
+        LOG.info("No task event bus provider found, using in-process event bus");
+        return new InProcessTaskEventBus();
+    }
+}
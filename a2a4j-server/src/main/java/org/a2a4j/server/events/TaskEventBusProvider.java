@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+/**
+ * Factory interface for providing TaskEventBus implementations.
+ * Implementations are discovered through the Java ServiceLoader mechanism,
+ * in the same way as {@link TaskEventJournalProvider}.
+ */
+public interface TaskEventBusProvider {
+
+    /**
+     * Provides an implementation of TaskEventBus.
+     *
+     * @return A configured TaskEventBus implementation ready for use or null.
+     */
+    TaskEventBus provide();
+}
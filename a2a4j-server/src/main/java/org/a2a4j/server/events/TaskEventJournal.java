@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.streaming.TaskStreamingResult;
+
+import java.util.List;
+
+/**
+ * Interface for recording the status and artifact events of tasks.
+ * <p>
+ * Every event appended to the journal is assigned a sequence that increases monotonically
+ * per task. Subscribers that lost their connection can read the events they missed instead
+ * of rebuilding state from the full task document, and the journal doubles as an audit
+ * trail of what was streamed for a task.
+ * </p>
+ * Implementations may bound the number of events they retain per task, in which case the
+ * oldest events are dropped first. Implementations should provide thread-safe operations.
+ */
+public interface TaskEventJournal {
+
+    /**
+     * Appends an event to the journal of a task.
+     *
+     * @param taskId The ID of the task the event belongs to
+     * @param event The status or artifact update event
+     * @return The journaled event, carrying its assigned sequence
+     */
+    TaskEventRecord append(String taskId, TaskStreamingResult event);
+
+    /**
+     * Reads the retained events of a task with a sequence greater than the given one.
+     * If events after the given sequence have already been dropped by the implementation,
+     * the result starts at the oldest retained event.
+     *
+     * @param taskId The ID of the task
+     * @param afterSequence The last sequence the caller has seen, or 0 to read all retained events
+     * @return The events in ascending sequence order, or an empty list if there are none
+     */
+    List<TaskEventRecord> readAfter(String taskId, long afterSequence);
+
+    /**
+     * Gets the sequence of the last event appended for a task.
+     *
+     * @param taskId The ID of the task
+     * @return The last sequence, or 0 if no event was recorded for the task. Implementations that discard
+     *         tasks may report a higher sequence for unknown tasks, as long as later events of the task
+     *         are assigned greater sequences
+     */
+    long lastSequence(String taskId);
+}
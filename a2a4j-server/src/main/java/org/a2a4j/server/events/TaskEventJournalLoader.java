@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Utility class for loading TaskEventJournal implementations.
+ */
+public class TaskEventJournalLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskEventJournalLoader.class);
+
+    private TaskEventJournalLoader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Loads the default TaskEventJournal implementation.
+     * Uses the Java ServiceLoader mechanism to discover available TaskEventJournalProvider implementations.
+     * If no provider is found, returns an InMemoryTaskEventJournal instance as a fallback.
+     *
+     * @return A configured TaskEventJournal implementation
+     */
+    public static TaskEventJournal loadTaskEventJournal() {
+        LOG.info("Loading task event journal implementation");
+
+        ServiceLoader<TaskEventJournalProvider> loader = ServiceLoader.load(TaskEventJournalProvider.class);
+        Iterator<TaskEventJournalProvider> providerIterator = loader.iterator();
+
+        while (providerIterator.hasNext()) {
+            TaskEventJournalProvider provider = providerIterator.next();
+            TaskEventJournal journal = provider.provide();
+
+            if (journal != null) {
+                LOG.info("Using task event journal implementation: {}", journal.getClass().getName());
+                return journal;
+            }
+        }
+
+        LOG.info("No task event journal provider found, using in-memory journal");
+        return new InMemoryTaskEventJournal();
+    }
+}
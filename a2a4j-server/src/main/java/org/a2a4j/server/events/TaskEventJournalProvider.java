@@ -0,0 +1,19 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+/**
+ * Factory interface for providing TaskEventJournal implementations.
+ * Implementations are discovered through the Java ServiceLoader mechanism,
+ * in the same way as {@link org.a2a4j.server.storage.TaskStorageProvider}.
+ */
+public interface TaskEventJournalProvider {
+
+    /**
+     * Provides an implementation of TaskEventJournal.
+     *
+     * @return A configured TaskEventJournal implementation ready for use or null.
+     */
+    TaskEventJournal provide();
+}
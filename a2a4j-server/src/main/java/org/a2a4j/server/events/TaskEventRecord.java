@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+
+/**
+ * A streaming event of a task together with its position in the task's event journal.
+ * <p>
+ * Sequences are assigned by a {@link TaskEventJournal}, start at 1 and increase
+ * monotonically per task, so a subscriber can resume from the last sequence it has seen.
+ * </p>
+ * <p>
+ * A record is shared by every subscriber of the task, so its JSON encoding is computed
+ * once and then reused for each of them.
+ * </p>
+ */
+public class TaskEventRecord {
+
+    private final String taskId;
+    private final long sequence;
+    private final TaskStreamingResult event;
+    private volatile byte[] encodedEvent;
+
+    /**
+     * Creates a new TaskEventRecord.
+     *
+     * @param taskId The ID of the task the event belongs to
+     * @param sequence The sequence of the event within the task's journal
+     * @param event The status or artifact update event
+     */
+    public TaskEventRecord(String taskId, long sequence, TaskStreamingResult event) {
+        this.taskId = taskId;
+        this.sequence = sequence;
+        this.event = event;
+    }
+
+    /**
+     * Gets the ID of the task the event belongs to.
+     *
+     * @return The task ID
+     */
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Gets the sequence of the event within the task's journal.
+     *
+     * @return The sequence, starting at 1
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the status or artifact update event.
+     *
+     * @return The event
+     */
+    public TaskStreamingResult getEvent() {
+        return event;
+    }
+
+    /**
+     * Gets the JSON encoding of the event, encoding it on first use.
+     * Concurrent first calls may both encode the event, but they produce the same bytes.
+     *
+     * @param objectMapper The object mapper to encode the event with
+     * @return The JSON encoding of the event, which must not be modified
+     * @throws JsonProcessingException If the event cannot be encoded
+     */
+    public byte[] getEncodedEvent(ObjectMapper objectMapper) throws JsonProcessingException {
+        byte[] encoded = encodedEvent;
+        if (encoded == null) {
+            encoded = objectMapper.writeValueAsBytes(event);
+            encodedEvent = encoded;
+        }
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskEventRecord{taskId=" + taskId + ", sequence=" + sequence
+            + ", event=" + event.getClass().getSimpleName() + "}";
+    }
+}
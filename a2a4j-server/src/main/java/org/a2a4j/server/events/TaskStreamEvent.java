@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.jsonrpc.SendTaskStreamingResponse;
+
+/**
+ * A streaming response together with the ID to send as the SSE event ID.
+ * <p>
+ * The ID is the sequence of the event in the task event journal. A client that reconnects
+ * sends the last ID it has seen as the {@code Last-Event-ID} header, so that only the
+ * events it missed are replayed.
+ * </p>
+ * <p>
+ * Events of the journal keep a reference to their shared {@link TaskEventRecord}, and the
+ * response is only built when asked for, so that a writer can send the pre-encoded event
+ * with the request ID spliced in instead of serializing a response per subscriber.
+ * </p>
+ */
+public class TaskStreamEvent {
+
+    private final String id;
+    private final String requestId;
+    private final TaskEventRecord record;
+    private SendTaskStreamingResponse response;
+
+    /**
+     * Creates a new TaskStreamEvent.
+     *
+     * @param id The SSE event ID, or null if the response has no position in the journal
+     * @param response The streaming response
+     */
+    public TaskStreamEvent(String id, SendTaskStreamingResponse response) {
+        this.id = id;
+        this.requestId = response.getId();
+        this.record = null;
+        this.response = response;
+    }
+
+    private TaskStreamEvent(String requestId, TaskEventRecord record) {
+        this.id = record.getSequence() > 0 ? Long.toString(record.getSequence()) : null;
+        this.requestId = requestId;
+        this.record = record;
+    }
+
+    /**
+     * Creates a TaskStreamEvent for a journaled event, identified by its sequence.
+     *
+     * @param requestId The ID of the streaming request
+     * @param record The journaled event
+     * @return The event with its sequence as ID, or without ID if the record was not journaled
+     */
+    public static TaskStreamEvent of(String requestId, TaskEventRecord record) {
+        return new TaskStreamEvent(requestId, record);
+    }
+
+    /**
+     * Creates a TaskStreamEvent for a response without a position in the journal, such as an error.
+     *
+     * @param response The streaming response
+     * @return The event without ID
+     */
+    public static TaskStreamEvent of(SendTaskStreamingResponse response) {
+        return new TaskStreamEvent(null, response);
+    }
+
+    /**
+     * Parses an SSE event ID into a journal sequence.
+     *
+     * @param id The event ID, typically from the {@code Last-Event-ID} header
+     * @return The sequence, or null if the ID is missing or was not issued by this server
+     */
+    public static Long sequenceOf(String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(id.trim());
+            return sequence >= 0 ? sequence : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the SSE event ID.
+     *
+     * @return The event ID, or null if the response has no position in the journal
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the ID of the streaming request.
+     *
+     * @return The request ID
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Gets the journaled event this response carries.
+     *
+     * @return The shared event record, or null if the response does not carry a journaled event
+     */
+    public TaskEventRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Gets the streaming response.
+     *
+     * @return The streaming response
+     */
+    public SendTaskStreamingResponse getResponse() {
+        SendTaskStreamingResponse built = response;
+        if (built == null) {
+            built = SendTaskStreamingResponse.builder()
+                .id(requestId)
+                .result(record.getEvent())
+                .build();
+            response = built;
+        }
+        return built;
+    }
+}
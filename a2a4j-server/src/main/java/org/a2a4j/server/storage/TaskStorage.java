@@ -6,6 +6,10 @@ package org.a2a4j.server.storage;
 import org.a2a4j.models.Task;
 import org.a2a4j.models.notification.PushNotificationConfig;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Interface for storing and retrieving tasks and their associated push notification configurations.
  * Implementations of this interface should provide thread-safe operations and handle the persistence
@@ -29,6 +33,38 @@ public interface TaskStorage {
      */
     Task fetch(String taskId);
 
+    /**
+     * Retrieves a task by its ID in order to modify and store it again, or to check that it exists.
+     * Unlike {@link #fetch(String)}, the result must reflect every task stored before the call.
+     * The default implementation calls {@link #fetch(String)}; implementations that may serve
+     * fetches from a lagging copy, such as a replica, must read the authoritative copy instead.
+     *
+     * @param taskId The ID of the task to retrieve
+     * @return The task if found, null otherwise
+     */
+    default Task fetchForUpdate(String taskId) {
+        return fetch(taskId);
+    }
+
+    /**
+     * Retrieves several tasks by their IDs from the storage.
+     * The default implementation calls {@link #fetch(String)} for every ID;
+     * implementations should override it to fetch all tasks in as few round trips as possible.
+     *
+     * @param taskIds The IDs of the tasks to retrieve
+     * @return A map of task IDs to the tasks that were found; IDs without a task are absent
+     */
+    default Map<String, Task> fetchAll(Collection<String> taskIds) {
+        Map<String, Task> tasks = new LinkedHashMap<>();
+        for (String taskId : taskIds) {
+            Task task = fetch(taskId);
+            if (task != null) {
+                tasks.put(taskId, task);
+            }
+        }
+        return tasks;
+    }
+
     /**
      * Stores a push notification configuration for a task.
      * If a configuration for the same task ID already exists, implementations should overwrite it.
@@ -41,6 +77,7 @@ public interface TaskStorage {
 
     /**
      * Retrieves a push notification configuration for a task by its ID.
+     * The result must reflect every configuration stored before the call.
      *
      * @param taskId The ID of the task whose configuration to retrieve
      * @return The push notification configuration if found, null otherwise
@@ -0,0 +1,141 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server;
+
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.SendTaskRequest;
+import org.a2a4j.models.jsonrpc.TaskResubscriptionRequest;
+import org.a2a4j.models.params.TaskQueryParams;
+import org.a2a4j.models.params.TaskSendParams;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.a2a4j.server.events.InMemoryTaskEventJournal;
+import org.a2a4j.server.events.InProcessTaskEventBus;
+import org.a2a4j.server.events.TaskEventJournal;
+import org.a2a4j.server.events.TaskEventRecord;
+import org.a2a4j.server.events.TaskStreamEvent;
+import org.a2a4j.server.notifications.BasicNotificationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BasicTaskManagerTest {
+
+    private InMemoryTaskStorage taskStorage;
+    private TaskEventJournal taskEventJournal;
+    private InProcessTaskEventBus taskEventBus;
+    private BasicTaskManager taskManager;
+
+    @BeforeEach
+    void setUp() {
+        taskStorage = new InMemoryTaskStorage();
+        taskEventJournal = new InMemoryTaskEventJournal();
+        taskEventBus = new InProcessTaskEventBus();
+        taskManager = new BasicTaskManager(task -> task, taskStorage, new BasicNotificationPublisher(),
+                taskEventJournal, taskEventBus);
+    }
+
+    @Test
+    void resubscribe_shouldReplayEventsAfterLastEventId() {
+        // Given
+        taskStorage.store(task(TaskState.WORKING));
+        publish(TaskState.WORKING, false);
+        publish(TaskState.WORKING, false);
+
+        // When
+        Flux<TaskStreamEvent> events = taskManager.onResubscribeToTaskEvents(resubscription(), "1");
+        publish(TaskState.COMPLETED, true);
+
+        // Then
+        List<TaskStreamEvent> received = events.collectList().block(Duration.ofSeconds(5));
+        assertEquals(List.of("2", "3"), received.stream().map(TaskStreamEvent::getId).toList());
+    }
+
+    @Test
+    void resubscribe_shouldSendStatusForLastEventIdUnknownToJournal() {
+        // Given: the client saw event 5 before a restart that lost the in-memory journal
+        taskStorage.store(task(TaskState.WORKING));
+
+        // When
+        Flux<TaskStreamEvent> events = taskManager.onResubscribeToTaskEvents(resubscription(), "5");
+        publish(TaskState.WORKING, false);
+        publish(TaskState.COMPLETED, true);
+
+        // Then: the current status comes first, and no new event is mistaken for one already seen
+        List<TaskStreamEvent> received = events.collectList().block(Duration.ofSeconds(5));
+        assertEquals(3, received.size());
+        assertNull(received.get(0).getId());
+        assertEquals(TaskState.WORKING,
+                ((TaskStatusUpdateEvent) received.get(0).getResponse().getResult()).getStatus().getState());
+        assertEquals("1", received.get(1).getId());
+        assertEquals("2", received.get(2).getId());
+    }
+
+    @Test
+    void resubscribe_shouldSendStatusWithoutIdForLastEventIdAheadOfJournal() {
+        // Given: the client saw event 5 before a restart, and the new journal has only reached event 2
+        taskStorage.store(task(TaskState.WORKING));
+        publish(TaskState.WORKING, false);
+        publish(TaskState.WORKING, false);
+
+        // When
+        Flux<TaskStreamEvent> events = taskManager.onResubscribeToTaskEvents(resubscription(), "5");
+        publish(TaskState.COMPLETED, true);
+
+        // Then: the status marks the gap, so the client does not skip event 3 as already seen
+        List<TaskStreamEvent> received = events.collectList().block(Duration.ofSeconds(5));
+        assertEquals(2, received.size());
+        assertNull(received.get(0).getId());
+        assertEquals("3", received.get(1).getId());
+    }
+
+    @Test
+    void sendTask_shouldNotMarkStatusOfUnfinishedTaskAsFinal() {
+        // Given
+        taskStorage.store(task(TaskState.INPUT_REQUIRED));
+
+        // When
+        taskManager.onSendTask(SendTaskRequest.builder()
+                .id("request-1")
+                .params(TaskSendParams.builder().id("task-1").build())
+                .build());
+
+        // Then: a stream following the task is not ended by a send that leaves it open
+        List<TaskEventRecord> records = taskEventJournal.readAfter("task-1", 0);
+        assertEquals(1, records.size());
+        TaskStatusUpdateEvent status = (TaskStatusUpdateEvent) records.get(0).getEvent();
+        assertEquals(TaskState.INPUT_REQUIRED, status.getStatus().getState());
+        assertFalse(status.getFinalFlag());
+    }
+
+    private void publish(TaskState state, boolean finalFlag) {
+        taskEventBus.publish(taskEventJournal.append("task-1", TaskStatusUpdateEvent.builder()
+                .id("task-1")
+                .status(TaskStatus.builder().state(state).build())
+                .finalFlag(finalFlag)
+                .build()));
+    }
+
+    private static Task task(TaskState state) {
+        return Task.builder()
+                .id("task-1")
+                .status(TaskStatus.builder().state(state).build())
+                .build();
+    }
+
+    private static TaskResubscriptionRequest resubscription() {
+        return TaskResubscriptionRequest.builder()
+                .id("request-1")
+                .params(TaskQueryParams.builder().id("task-1").build())
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.Message;
+import org.a2a4j.models.Role;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.notification.PushNotificationConfig;
+import org.a2a4j.models.part.TextPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapTaskStorageTest {
+
+    private static final int SLAB_SIZE = 4096;
+
+    private OffHeapTaskStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        storage = new OffHeapTaskStorage(objectMapper, SLAB_SIZE, 0.5);
+    }
+
+    @Test
+    void fetch_shouldReturnCopyOfStoredTask() {
+        // Given
+        Task task = task("task-1", TaskState.WORKING, "Hello");
+        storage.store(task);
+
+        // When
+        Task fetched = storage.fetch("task-1");
+
+        // Then
+        assertEquals(task, fetched);
+        assertNotSame(fetched, storage.fetch("task-1"));
+        assertNull(storage.fetch("task-2"));
+    }
+
+    @Test
+    void store_shouldOverwriteExistingTask() {
+        // Given
+        storage.store(task("task-1", TaskState.WORKING, "Hello"));
+
+        // When
+        storage.store(task("task-1", TaskState.COMPLETED, "Done"));
+
+        // Then
+        assertEquals(1, storage.getTaskCount());
+        assertEquals(TaskState.COMPLETED, storage.fetch("task-1").getStatus().getState());
+    }
+
+    @Test
+    void remove_shouldDeleteTaskAndNotificationConfig() {
+        // Given
+        storage.store(task("task-1", TaskState.WORKING, "Hello"));
+        storage.storeNotificationConfig("task-1", PushNotificationConfig.builder().url("http://localhost/hook").build());
+
+        // When
+        boolean removed = storage.remove("task-1");
+
+        // Then
+        assertTrue(removed);
+        assertNull(storage.fetch("task-1"));
+        assertNull(storage.fetchNotificationConfig("task-1"));
+        assertFalse(storage.remove("task-1"));
+        assertThrows(IllegalArgumentException.class, () -> storage.storeNotificationConfig("task-1",
+                PushNotificationConfig.builder().url("http://localhost/hook").build()));
+    }
+
+    @Test
+    void store_shouldRelocateLiveTasksWhenCompacting() {
+        // Given: enough tasks to fill several slabs
+        for (int i = 0; i < 100; i++) {
+            storage.store(task("task-" + i, TaskState.WORKING, "Hello " + i));
+        }
+        long allocatedBefore = storage.getAllocatedBytes();
+
+        // When: the even tasks are updated repeatedly, turning their old versions into garbage
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 100; i += 2) {
+                storage.store(task("task-" + i, TaskState.WORKING, "Update " + round));
+            }
+        }
+        storage.compact();
+
+        // Then: every task survived the relocation, and the garbage was reclaimed
+        for (int i = 0; i < 100; i++) {
+            String expected = i % 2 == 0 ? "Update 19" : "Hello " + i;
+            assertEquals(expected, text(storage.fetch("task-" + i)));
+        }
+        assertTrue(storage.getAllocatedBytes() <= 2 * allocatedBefore);
+    }
+
+    @Test
+    void remove_shouldKeepOtherTasksReachableAfterIndexGrows() {
+        // Given: more tasks than the initial index slots
+        for (int i = 0; i < 5000; i++) {
+            storage.store(task("task-" + i, TaskState.WORKING, "Hello " + i));
+        }
+
+        // When
+        for (int i = 0; i < 5000; i += 3) {
+            assertTrue(storage.remove("task-" + i));
+        }
+
+        // Then
+        for (int i = 0; i < 5000; i++) {
+            Task fetched = storage.fetch("task-" + i);
+            if (i % 3 == 0) {
+                assertNull(fetched);
+            } else {
+                assertEquals("Hello " + i, text(fetched));
+            }
+        }
+        assertEquals(5000 - 1667, storage.getTaskCount());
+    }
+
+    @Test
+    void store_shouldSupportConcurrentAccess() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When: every thread updates its own tasks while reading the others
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < 200; round++) {
+                    for (int i = 0; i < 10; i++) {
+                        storage.store(task("task-" + thread + "-" + i, TaskState.WORKING, "Round " + round));
+                        Task other = storage.fetch("task-" + ((thread + 1) % 4) + "-" + i);
+                        if (other != null) {
+                            assertTrue(text(other).startsWith("Round "));
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(40, storage.getTaskCount());
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 10; i++) {
+                Task fetched = storage.fetch("task-" + t + "-" + i);
+                assertNotNull(fetched);
+                assertEquals("Round 199", text(fetched));
+            }
+        }
+    }
+
+    private static Task task(String taskId, TaskState state, String text) {
+        return Task.builder()
+                .id(taskId)
+                .sessionId("session-1")
+                .status(TaskStatus.builder().state(state).build())
+                .history(List.of(new Message(Role.USER, List.of(TextPart.builder().text(text).build()),
+                        Collections.emptyMap())))
+                .build();
+    }
+
+    private static String text(Task task) {
+        return ((TextPart) task.getHistory().get(0).getParts().get(0)).getText();
+    }
+}
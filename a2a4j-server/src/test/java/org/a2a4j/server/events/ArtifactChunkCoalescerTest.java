@@ -0,0 +1,170 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.Artifact;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.part.TextPart;
+import org.a2a4j.models.streaming.TaskArtifactUpdateEvent;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ArtifactChunkCoalescerTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    private final List<TaskStreamingResult> published = new CopyOnWriteArrayList<>();
+
+    @Test
+    void publish_shouldMergeAppendedChunksUntilLastChunk() {
+        // Given
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(LONG_WINDOW, 1024, this::record);
+
+        // When
+        coalescer.publish("task-1", chunk(0, "Hel", false, false));
+        coalescer.publish("task-1", chunk(0, "lo ", true, false));
+        coalescer.publish("task-1", chunk(0, "world", true, true));
+
+        // Then: the last chunk is published right away, without waiting for the window
+        assertEquals(1, published.size());
+        Artifact artifact = ((TaskArtifactUpdateEvent) published.get(0)).getArtifact();
+        assertEquals("Hello world", text(artifact));
+        assertEquals(Boolean.FALSE, artifact.getAppend());
+        assertEquals(Boolean.TRUE, artifact.getLastChunk());
+        assertEquals(0, coalescer.getPendingTaskCount());
+    }
+
+    @Test
+    void publish_shouldFlushHeldChunkBeforeOtherEvents() {
+        // Given
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(LONG_WINDOW, 1024, this::record);
+        TaskArtifactUpdateEvent first = chunk(0, "Hello", false, false);
+        TaskStatusUpdateEvent status = TaskStatusUpdateEvent.builder()
+                .id("task-1")
+                .status(TaskStatus.builder().state(TaskState.COMPLETED).build())
+                .finalFlag(true)
+                .build();
+
+        // When
+        coalescer.publish("task-1", first);
+        coalescer.publish("task-1", status);
+
+        // Then: both are published immediately and in order, the single chunk unchanged
+        assertEquals(2, published.size());
+        assertSame(first, published.get(0));
+        assertSame(status, published.get(1));
+        assertEquals(0, coalescer.getPendingTaskCount());
+    }
+
+    @Test
+    void publish_shouldKeepChunksOfDifferentArtifactsApartAndInOrder() {
+        // Given
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(LONG_WINDOW, 1024, this::record);
+
+        // When
+        coalescer.publish("task-1", chunk(0, "a", false, false));
+        coalescer.publish("task-1", chunk(0, "b", true, false));
+        coalescer.publish("task-1", chunk(1, "c", true, false));
+        coalescer.publish("task-1", chunk(1, "d", true, true));
+
+        // Then
+        assertEquals(2, published.size());
+        assertEquals("ab", text(((TaskArtifactUpdateEvent) published.get(0)).getArtifact()));
+        assertEquals("cd", text(((TaskArtifactUpdateEvent) published.get(1)).getArtifact()));
+    }
+
+    @Test
+    void publish_shouldStartNewChunkAboveMaxSize() {
+        // Given
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(LONG_WINDOW, 4, this::record);
+
+        // When
+        coalescer.publish("task-1", chunk(0, "abc", false, false));
+        coalescer.publish("task-1", chunk(0, "de", true, false));
+        coalescer.publish("task-1", chunk(0, "f", true, true));
+
+        // Then
+        assertEquals(2, published.size());
+        assertEquals("abc", text(((TaskArtifactUpdateEvent) published.get(0)).getArtifact()));
+        assertEquals("def", text(((TaskArtifactUpdateEvent) published.get(1)).getArtifact()));
+    }
+
+    @Test
+    void publish_shouldFlushHeldChunkAfterWindow() throws Exception {
+        // Given
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(Duration.ofMillis(20), 1024, this::record);
+
+        // When
+        coalescer.publish("task-1", chunk(0, "Hel", false, false));
+        coalescer.publish("task-1", chunk(0, "lo", true, false));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (published.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals(1, published.size());
+        assertEquals("Hello", text(((TaskArtifactUpdateEvent) published.get(0)).getArtifact()));
+    }
+
+    @Test
+    void publish_shouldRetryHeldChunkThatFailedToPublish() throws Exception {
+        // Given: a publisher that fails once
+        AtomicInteger attempts = new AtomicInteger();
+        ArtifactChunkCoalescer coalescer = new ArtifactChunkCoalescer(Duration.ofMillis(20), 1024, (taskId, event) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("journal unavailable");
+            }
+            record(taskId, event);
+        });
+
+        // When
+        coalescer.publish("task-1", chunk(0, "Hel", false, false));
+        coalescer.publish("task-1", chunk(0, "lo", true, false));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (published.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then: the chunk was kept and published on the next attempt
+        assertEquals(2, attempts.get());
+        assertEquals(1, published.size());
+        assertEquals("Hello", text(((TaskArtifactUpdateEvent) published.get(0)).getArtifact()));
+        assertEquals(0, coalescer.getPendingTaskCount());
+    }
+
+    private void record(String taskId, TaskStreamingResult event) {
+        assertEquals("task-1", taskId);
+        published.add(event);
+    }
+
+    private static TaskArtifactUpdateEvent chunk(int index, String text, boolean append, boolean lastChunk) {
+        return TaskArtifactUpdateEvent.builder()
+                .id("task-1")
+                .artifact(Artifact.builder()
+                        .parts(List.of(TextPart.builder().text(text).build()))
+                        .index(index)
+                        .append(append)
+                        .lastChunk(lastChunk)
+                        .build())
+                .build();
+    }
+
+    private static String text(Artifact artifact) {
+        StringBuilder text = new StringBuilder();
+        artifact.getParts().forEach(part -> text.append(((TextPart) part).getText()));
+        return text.toString();
+    }
+}
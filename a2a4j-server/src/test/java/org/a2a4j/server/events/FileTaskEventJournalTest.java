@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileTaskEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readAfter_shouldReturnEventsAfterSequenceOnceReopened() {
+        // Given
+        FileTaskEventJournal journal = new FileTaskEventJournal(directory);
+        for (int i = 0; i < 5; i++) {
+            journal.append("task-1", statusUpdate("task-1"));
+        }
+
+        // When: a new journal rebuilds its index from the file
+        FileTaskEventJournal reopened = new FileTaskEventJournal(directory);
+        List<TaskEventRecord> records = reopened.readAfter("task-1", 3);
+
+        // Then
+        assertEquals(5, reopened.lastSequence("task-1"));
+        assertEquals(List.of(4L, 5L), records.stream().map(TaskEventRecord::getSequence).toList());
+        assertEquals("task-1", ((TaskStatusUpdateEvent) records.get(0).getEvent()).getId());
+    }
+
+    @Test
+    void append_shouldStartNewLineAfterTornLastLine() throws Exception {
+        // Given: a crash left half a line at the end of the file
+        FileTaskEventJournal journal = new FileTaskEventJournal(directory);
+        journal.append("task-1", statusUpdate("task-1"));
+        journal.append("task-1", statusUpdate("task-1"));
+        Path file;
+        try (var files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+        Files.write(file, "{\"sequence\":3,\"ev".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // When
+        FileTaskEventJournal reopened = new FileTaskEventJournal(directory);
+        TaskEventRecord appended = reopened.append("task-1", statusUpdate("task-1"));
+
+        // Then: the torn line is gone and every line is readable again
+        assertEquals(3, appended.getSequence());
+        assertEquals(List.of(1L, 2L, 3L),
+                new FileTaskEventJournal(directory).readAfter("task-1", 0).stream().map(TaskEventRecord::getSequence).toList());
+    }
+
+    @Test
+    void lastSequence_shouldNotIndexUnknownTasks() {
+        // Given
+        FileTaskEventJournal journal = new FileTaskEventJournal(directory);
+
+        // When
+        long lastSequence = journal.lastSequence("unknown");
+        List<TaskEventRecord> records = journal.readAfter("unknown", 0);
+
+        // Then
+        assertEquals(0, lastSequence);
+        assertTrue(records.isEmpty());
+        assertEquals(0, journal.getIndexedTaskCount());
+    }
+
+    @Test
+    void append_shouldKeepSequencesOfTasksDroppedFromIndex() {
+        // Given
+        FileTaskEventJournal journal = new FileTaskEventJournal(directory, new ObjectMapper(), false, 2);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            journal.append("task-" + i, statusUpdate("task-" + i));
+            journal.append("task-" + i, statusUpdate("task-" + i));
+        }
+
+        // Then: the index stays bounded, and a dropped task continues from its file
+        assertTrue(journal.getIndexedTaskCount() <= 2);
+        assertEquals(3, journal.append("task-0", statusUpdate("task-0")).getSequence());
+        assertEquals(List.of(2L, 3L),
+                journal.readAfter("task-0", 1).stream().map(TaskEventRecord::getSequence).toList());
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(String taskId) {
+        return TaskStatusUpdateEvent.builder()
+                .id(taskId)
+                .status(TaskStatus.builder().state(TaskState.WORKING).build())
+                .finalFlag(false)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryTaskEventJournalTest {
+
+    @Test
+    void readAfter_shouldReturnRetainedEventsInOrder() {
+        // Given
+        InMemoryTaskEventJournal journal = new InMemoryTaskEventJournal(3);
+        for (int i = 0; i < 5; i++) {
+            journal.append("task-1", statusUpdate("task-1"));
+        }
+
+        // When
+        List<TaskEventRecord> records = journal.readAfter("task-1", 1);
+
+        // Then: the two oldest events were overwritten
+        assertEquals(5, journal.lastSequence("task-1"));
+        assertEquals(List.of(3L, 4L, 5L), records.stream().map(TaskEventRecord::getSequence).toList());
+    }
+
+    @Test
+    void append_shouldDiscardIdleTasksWithoutReusingTheirSequences() {
+        // Given
+        InMemoryTaskEventJournal journal = new InMemoryTaskEventJournal(2, 4);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            journal.append("task-" + i, statusUpdate("task-" + i));
+            journal.append("task-" + i, statusUpdate("task-" + i));
+        }
+
+        // Then: the idle tasks are gone, but their last sequences are still covered
+        assertTrue(journal.getTaskCount() <= 2);
+        assertTrue(journal.getTotalEvents() <= 4);
+        assertTrue(journal.readAfter("task-0", 0).isEmpty());
+        long watermark = journal.lastSequence("task-0");
+        assertTrue(watermark >= 2);
+        assertEquals(watermark + 1, journal.append("task-0", statusUpdate("task-0")).getSequence());
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(String taskId) {
+        return TaskStatusUpdateEvent.builder()
+                .id(taskId)
+                .status(TaskStatus.builder().state(TaskState.WORKING).build())
+                .finalFlag(false)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.events;
+
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubscriberBuffersTest {
+
+    @Test
+    void bound_shouldEvictStalledSubscriberOfQuietTask() throws Exception {
+        // Given: a subscriber that takes nothing, and a task that publishes two events and then stays quiet
+        SubscriberBuffers buffers = new SubscriberBuffers(
+                new SubscriberBufferSettings(16, SubscriberOverflowPolicy.DISCONNECT, Duration.ofMillis(50)),
+                new SubscriberMonitor());
+        InMemoryTaskEventJournal journal = new InMemoryTaskEventJournal();
+        Flux<TaskStreamEvent> events = Flux.just(
+                        TaskStreamEvent.of("request-1", journal.append("task-1", statusUpdate("task-1"))),
+                        TaskStreamEvent.of("request-1", journal.append("task-1", statusUpdate("task-1"))))
+                .concatWith(Flux.never());
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        // When
+        buffers.bound("task-1", "request-1", events).subscribe(subscriber);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (buffers.getMonitor().getEvictedSubscribers() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        subscriber.request(Long.MAX_VALUE);
+
+        // Then: the event prefetched by the delivery worker is followed by the eviction error
+        assertEquals(1, buffers.getMonitor().getEvictedSubscribers());
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, subscriber.received.size());
+        assertEquals("1", subscriber.received.get(0).getId());
+        assertNotNull(subscriber.received.get(1).getResponse().getError());
+        assertEquals(1, buffers.getMonitor().getDroppedEvents());
+    }
+
+    @Test
+    void bound_shouldCancelUpstreamAndInterruptDeliveryOfBlockedSubscriber() throws Exception {
+        // Given: a subscriber that blocks while writing the first event
+        SubscriberBuffers buffers = new SubscriberBuffers(
+                new SubscriberBufferSettings(16, SubscriberOverflowPolicy.DISCONNECT, Duration.ofMillis(50)),
+                new SubscriberMonitor());
+        InMemoryTaskEventJournal journal = new InMemoryTaskEventJournal();
+        CountDownLatch upstreamCancelled = new CountDownLatch(1);
+        Flux<TaskStreamEvent> events = Flux.just(
+                        TaskStreamEvent.of("request-1", journal.append("task-1", statusUpdate("task-1"))),
+                        TaskStreamEvent.of("request-1", journal.append("task-1", statusUpdate("task-1"))))
+                .concatWith(Flux.never())
+                .doOnCancel(upstreamCancelled::countDown);
+        BlockingSubscriber subscriber = new BlockingSubscriber();
+
+        // When
+        buffers.bound("task-1", "request-1", events).subscribe(subscriber);
+
+        // Then: the subscription to the task ends with the eviction, and the blocked write is interrupted later
+        try {
+            assertTrue(upstreamCancelled.await(5, TimeUnit.SECONDS));
+            assertTrue(subscriber.interrupted.await(5, TimeUnit.SECONDS));
+            assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+            assertEquals(1, buffers.getMonitor().getEvictedSubscribers());
+        } finally {
+            buffers.close();
+        }
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(String taskId) {
+        return TaskStatusUpdateEvent.builder()
+                .id(taskId)
+                .status(TaskStatus.builder().state(TaskState.WORKING).build())
+                .finalFlag(false)
+                .build();
+    }
+
+    /**
+     * Blocks on the first event until interrupted.
+     */
+    private static class BlockingSubscriber extends BaseSubscriber<TaskStreamEvent> {
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        @Override
+        protected void hookOnNext(TaskStreamEvent event) {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        }
+
+        @Override
+        protected void hookFinally(SignalType type) {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Records events, requesting none until told to.
+     */
+    private static class RecordingSubscriber extends BaseSubscriber<TaskStreamEvent> {
+        private final List<TaskStreamEvent> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(TaskStreamEvent event) {
+            received.add(event);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed.countDown();
+        }
+    }
+}
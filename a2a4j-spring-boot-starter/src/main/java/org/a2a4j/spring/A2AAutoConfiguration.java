@@ -1,15 +1,27 @@
 package org.a2a4j.spring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.a2a4j.models.AgentCard;
 import org.a2a4j.server.BasicTaskManager;
 import org.a2a4j.server.InMemoryTaskStorage;
 import org.a2a4j.server.TaskHandler;
 import org.a2a4j.server.TaskManager;
+import org.a2a4j.server.events.InMemoryTaskEventJournal;
+import org.a2a4j.server.events.InProcessTaskEventBus;
+import org.a2a4j.server.events.SubscriberBufferSettings;
+import org.a2a4j.server.events.SubscriberBuffers;
+import org.a2a4j.server.events.SubscriberMonitor;
+import org.a2a4j.server.events.TaskEventBus;
+import org.a2a4j.server.events.TaskEventJournal;
 import org.a2a4j.server.notifications.BasicNotificationPublisher;
 import org.a2a4j.server.notifications.NotificationPublisher;
 import org.a2a4j.server.storage.TaskStorage;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -49,18 +61,62 @@ public class A2AAutoConfiguration {
         return new BasicNotificationPublisher();
     }
 
+    /**
+     * Creates a default TaskEventJournal bean if none is provided.
+     *
+     * @return An in-memory TaskEventJournal implementation
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskEventJournal taskEventJournal() {
+        return new InMemoryTaskEventJournal();
+    }
+
+    /**
+     * Creates a default TaskEventBus bean if none is provided.
+     *
+     * @return An in-process TaskEventBus implementation
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskEventBus taskEventBus() {
+        return new InProcessTaskEventBus();
+    }
+
+    /**
+     * Creates default SubscriberBuffers if none are provided.
+     *
+     * @param properties The A2A properties
+     * @return SubscriberBuffers configured from the a2a.server.subscriber properties
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SubscriberBuffers subscriberBuffers(A2AProperties properties) {
+        A2AProperties.Subscriber subscriber = properties.getServer().getSubscriber();
+        SubscriberBufferSettings settings = new SubscriberBufferSettings(
+                subscriber.getBufferSize(), subscriber.getOverflowPolicy(), subscriber.getMaxStall(),
+                subscriber.getCoalesceWindow(), subscriber.getCoalesceMaxSize());
+        return new SubscriberBuffers(settings, new SubscriberMonitor());
+    }
+
     /**
      * Creates a default TaskManager bean if none is provided.
      *
      * @param taskStorage The task storage to use
      * @param taskHandler The task handler to use
      * @param notificationPublisher The notification publisher to use
+     * @param taskEventJournal The task event journal to use
+     * @param taskEventBus The task event bus to use
+     * @param subscriberBuffers The subscriber buffers to use
      * @return A BasicTaskManager implementation
      */
     @Bean
     @ConditionalOnMissingBean
-    public TaskManager taskManager(TaskStorage taskStorage, TaskHandler taskHandler, NotificationPublisher notificationPublisher) {
-        return new BasicTaskManager(taskHandler, taskStorage, notificationPublisher);
+    public TaskManager taskManager(TaskStorage taskStorage, TaskHandler taskHandler,
+                                   NotificationPublisher notificationPublisher, TaskEventJournal taskEventJournal,
+                                   TaskEventBus taskEventBus, SubscriberBuffers subscriberBuffers) {
+        return new BasicTaskManager(taskHandler, taskStorage, notificationPublisher, taskEventJournal, taskEventBus,
+                subscriberBuffers);
     }
 
     /**
@@ -69,12 +125,14 @@ public class A2AAutoConfiguration {
      * @param objectMapper The ObjectMapper to use for JSON serialization/deserialization
      * @param taskManager The task manager to use
      * @param agentCard The agent card to expose
+     * @param properties The A2A properties
      * @return An A2AController implementation
      */
     @Bean
     @ConditionalOnMissingBean
-    public A2AController a2aController(ObjectMapper objectMapper, TaskManager taskManager, AgentCard agentCard) {
-        return new A2AController(objectMapper, taskManager, agentCard);
+    public A2AController a2aController(ObjectMapper objectMapper, TaskManager taskManager, AgentCard agentCard,
+                                       A2AProperties properties) {
+        return new A2AController(objectMapper, taskManager, agentCard, properties.getServer());
     }
 
     /**
@@ -135,6 +193,42 @@ public class A2AAutoConfiguration {
         }
     }
 
+    /**
+     * Configuration exposing streaming subscriber metrics when Micrometer is present.
+     */
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    public static class SubscriberMetricsConfiguration {
+
+        /**
+         * Creates a binder registering gauges and counters for the streaming subscribers.
+         *
+         * @param subscriberBuffers The subscriber buffers to observe
+         * @return A MeterBinder for the subscriber metrics
+         */
+        @Bean
+        public MeterBinder a2aSubscriberMetrics(SubscriberBuffers subscriberBuffers) {
+            SubscriberMonitor monitor = subscriberBuffers.getMonitor();
+            return registry -> {
+                Gauge.builder("a2a.subscribers.active", monitor, SubscriberMonitor::getSubscriberCount)
+                        .description("Number of connected streaming subscribers")
+                        .register(registry);
+                Gauge.builder("a2a.subscribers.lag.max", monitor, SubscriberMonitor::getMaxLag)
+                        .description("Largest number of events buffered for a single subscriber")
+                        .register(registry);
+                Gauge.builder("a2a.subscribers.lag.total", monitor, SubscriberMonitor::getTotalLag)
+                        .description("Number of events buffered for all subscribers")
+                        .register(registry);
+                FunctionCounter.builder("a2a.subscribers.dropped", monitor, SubscriberMonitor::getDroppedEvents)
+                        .description("Number of events dropped from subscriber buffers")
+                        .register(registry);
+                FunctionCounter.builder("a2a.subscribers.evicted", monitor, SubscriberMonitor::getEvictedSubscribers)
+                        .description("Number of subscribers evicted as slow consumers")
+                        .register(registry);
+            };
+        }
+    }
+
     /**
      * Helper class that starts the A2A server on startup.
      */
@@ -1,24 +1,43 @@
 package org.a2a4j.spring;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.a2a4j.models.AgentCard;
 
 import org.a2a4j.models.jsonrpc.*;
 import org.a2a4j.models.jsonrpc.errors.*;
+import org.a2a4j.models.params.TaskQueryParams;
 import org.a2a4j.server.TaskManager;
+import org.a2a4j.server.events.TaskEventRecord;
+import org.a2a4j.server.events.TaskStreamEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 
 /**
  * REST controller that handles A2A protocol requests.
@@ -28,77 +47,260 @@ import java.util.concurrent.ScheduledExecutorService;
  * retrieving the agent's metadata (agent card).
  */
 @RestController
-public class A2AController {
+public class A2AController implements DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger(A2AController.class);
+
+    /** Fixed parts of a streaming response around the request ID and the pre-encoded event */
+    private static final byte[] RESPONSE_ID = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESPONSE_RESULT = ",\"result\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESPONSE_RESULT_ONLY = "{\"result\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESPONSE_END = "}".getBytes(StandardCharsets.UTF_8);
+
+    /** Time a waiting tasks/get request is given on top of its wait time to read the task and respond */
+    private static final long WAIT_RESPONSE_MARGIN_MILLIS = 5000;
+
+    /** Seconds an idle thread of the stream scheduler is kept */
+    private static final int STREAM_THREAD_TTL_SECONDS = 60;
+
     private final ObjectMapper objectMapper;
     private final TaskManager taskManager;
-    private final AgentCard agentCard;
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final A2AProperties.Stream stream;
+    private final A2AProperties.Batch batch;
+    private final Duration maxTaskWait;
+    private final byte[] agentCardBytes;
+    private final String agentCardETag;
+    private final CacheControl agentCardCacheControl;
+    /**
+     * Starts streams and sends heartbeats, which block while a client does not read. A bounded pool of daemon
+     * threads that only holds a thread while working, disposed with the controller.
+     */
+    private final Scheduler streamScheduler = Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+        Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "a2a-stream", STREAM_THREAD_TTL_SECONDS, true);
 
     /**
-     * Creates a new A2AController instance.
+     * Creates a new A2AController instance with the default server settings.
      *
      * @param objectMapper JSON mapper
      * @param taskManager Task manager
      * @param agentCard Agent card
      */
     public A2AController(ObjectMapper objectMapper, TaskManager taskManager, AgentCard agentCard) {
+        this(objectMapper, taskManager, agentCard, new A2AProperties.Server());
+    }
+
+    /**
+     * Creates a new A2AController instance.
+     * The agent card is serialized once, and served with a strong ETag derived from its bytes.
+     *
+     * @param objectMapper JSON mapper
+     * @param taskManager Task manager
+     * @param agentCard Agent card
+     * @param server Server settings: stream heartbeats and timeouts, batch limits, agent card caching
+     *               and the longest time a tasks/get request may wait
+     */
+    public A2AController(ObjectMapper objectMapper, TaskManager taskManager, AgentCard agentCard,
+                         A2AProperties.Server server) {
+        Duration agentCardMaxAge = server.getAgentCardMaxAge();
         this.objectMapper = objectMapper;
         this.taskManager = taskManager;
-        this.agentCard = agentCard;
+        this.stream = server.getStream();
+        this.batch = server.getBatch();
+        this.maxTaskWait = server.getMaxTaskWait();
+        try {
+            this.agentCardBytes = objectMapper.writeValueAsBytes(agentCard);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize agent card", e);
+        }
+        this.agentCardETag = computeETag(agentCardBytes);
+        this.agentCardCacheControl = isEnabled(agentCardMaxAge)
+            ? CacheControl.maxAge(agentCardMaxAge).cachePublic()
+            : CacheControl.noCache();
+    }
+
+    /**
+     * Disposes the stream scheduler when the controller is destroyed.
+     */
+    @Override
+    public void destroy() {
+        streamScheduler.dispose();
     }
 
     /**
      * Handles POST requests to the main endpoint.
      * This endpoint processes various JSON-RPC requests and returns the appropriate response.
+     * A JSON array of requests is processed as a batch and answered with an array of responses.
+     * A tasks/get request with a wait time is parked without holding a servlet thread until the task changes,
+     * or until its wait time, capped at the configured maximum, is up.
      *
      * @param endpoint The endpoint path
      * @param jsonRpcRequestBody The JSON-RPC request body
-     * @return The JSON-RPC response
+     * @return The JSON-RPC response, set once the request completes
      */
     @PostMapping("${a2a.server.endpoint:}")
-    public ResponseEntity<String> handleJsonRpcRequest(
+    public DeferredResult<ResponseEntity<String>> handleJsonRpcRequest(
             @PathVariable(required = false) String endpoint,
             @RequestBody String jsonRpcRequestBody) {
+        DeferredResult<ResponseEntity<String>> deferredResult =
+            new DeferredResult<>(maxTaskWait.toMillis() + WAIT_RESPONSE_MARGIN_MILLIS);
+
+        if (isBatch(jsonRpcRequestBody)) {
+            deferredResult.setResult(handleBatchRequest(jsonRpcRequestBody));
+            return deferredResult;
+        }
 
         try {
             // Parse the JSON-RPC request
             JsonRpcRequest jsonRpcRequest = parseJsonRpcRequest(jsonRpcRequestBody);
+            GetTaskRequest waitingRequest = toWaitingRequest(jsonRpcRequest);
+            if (waitingRequest == null) {
+                deferredResult.setResult(toJsonResponse(dispatch(jsonRpcRequest)));
+                return deferredResult;
+            }
 
-            // Process the request based on its type
-            Object result;
-            if (jsonRpcRequest instanceof GetTaskRequest) {
-                result = taskManager.onGetTask((GetTaskRequest) jsonRpcRequest);
-            } else if (jsonRpcRequest instanceof SendTaskRequest) {
-                result = taskManager.onSendTask((SendTaskRequest) jsonRpcRequest);
-            } else if (jsonRpcRequest instanceof SendTaskStreamingRequest) {
-                // For SendTaskStreamingRequest, create a non-streaming response
-                SendTaskStreamingRequest streamingRequest = (SendTaskStreamingRequest) jsonRpcRequest;
-                // Convert to regular SendTaskRequest
-                SendTaskRequest sendTaskRequest = SendTaskRequest.builder()
-                    .id(streamingRequest.getId())
-                    .params(streamingRequest.getParams())
+            Disposable waiting = taskManager.onGetTaskAwait(waitingRequest).subscribe(
+                response -> deferredResult.setResult(toJsonResponse(response)),
+                error -> deferredResult.setResult(handleException(
+                    error instanceof Exception ? (Exception) error : new RuntimeException(error))));
+            // Stops waiting when the client disconnects or the request times out
+            deferredResult.onCompletion(waiting::dispose);
+        } catch (Exception e) {
+            deferredResult.setResult(handleException(e));
+        }
+
+        return deferredResult;
+    }
+
+    /**
+     * Returns the tasks/get request to wait for, with its wait time capped at the configured maximum.
+     * The parsed request is left as it is.
+     *
+     * @param jsonRpcRequest The parsed JSON-RPC request
+     * @return A copy of the request with the capped wait time, or null if the request is not to wait
+     */
+    private GetTaskRequest toWaitingRequest(JsonRpcRequest jsonRpcRequest) {
+        if (!(jsonRpcRequest instanceof GetTaskRequest) || !isEnabled(maxTaskWait)) {
+            return null;
+        }
+        GetTaskRequest getTaskRequest = (GetTaskRequest) jsonRpcRequest;
+        TaskQueryParams<?> params = getTaskRequest.getParams();
+        if (params == null || params.getWaitMillis() == null || params.getWaitMillis() <= 0) {
+            return null;
+        }
+        return GetTaskRequest.builder()
+            .jsonrpc(getTaskRequest.getJsonrpc())
+            .id(getTaskRequest.getId())
+            .params(new TaskQueryParams<>(params.getId(), params.getHistoryLength(),
+                Math.min(params.getWaitMillis(), maxTaskWait.toMillis()), params.getKnownStatusTimestamp(),
+                params.getMetadata()))
+            .build();
+    }
+
+    /**
+     * Serializes a JSON-RPC response.
+     *
+     * @param response The JSON-RPC response
+     * @return The JSON response entity
+     */
+    private ResponseEntity<String> toJsonResponse(Object response) {
+        try {
+            String jsonResponse = objectMapper.writeValueAsString(response);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(jsonResponse);
+        } catch (JsonProcessingException e) {
+            return handleException(e);
+        }
+    }
+
+    /**
+     * Processes a JSON-RPC request based on its type.
+     *
+     * @param jsonRpcRequest The parsed JSON-RPC request
+     * @return The JSON-RPC response
+     */
+    private Object dispatch(JsonRpcRequest jsonRpcRequest) {
+        Object result;
+        if (jsonRpcRequest instanceof GetTaskRequest) {
+            result = taskManager.onGetTask((GetTaskRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof GetTasksRequest) {
+            result = taskManager.onGetTasks((GetTasksRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof SendTaskRequest) {
+            result = taskManager.onSendTask((SendTaskRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof SendTaskStreamingRequest) {
+            // For SendTaskStreamingRequest, create a non-streaming response
+            SendTaskStreamingRequest streamingRequest = (SendTaskStreamingRequest) jsonRpcRequest;
+            // Convert to regular SendTaskRequest
+            SendTaskRequest sendTaskRequest = SendTaskRequest.builder()
+                .id(streamingRequest.getId())
+                .params(streamingRequest.getParams())
+                .build();
+            // Process as a regular send-task request
+            result = taskManager.onSendTask(sendTaskRequest);
+        } else if (jsonRpcRequest instanceof CancelTaskRequest) {
+            result = taskManager.onCancelTask((CancelTaskRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof SetTaskPushNotificationRequest) {
+            result = taskManager.onSetTaskPushNotification((SetTaskPushNotificationRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof GetTaskPushNotificationRequest) {
+            result = taskManager.onGetTaskPushNotification((GetTaskPushNotificationRequest) jsonRpcRequest);
+        } else if (jsonRpcRequest instanceof UnknownMethodRequest) {
+            result = ErrorResponse.builder()
+                    .id(((UnknownMethodRequest) jsonRpcRequest).getId())
+                    .error(new MethodNotFoundError())
                     .build();
-                // Process as a regular send-task request
-                result = taskManager.onSendTask(sendTaskRequest);
-            } else if (jsonRpcRequest instanceof CancelTaskRequest) {
-                result = taskManager.onCancelTask((CancelTaskRequest) jsonRpcRequest);
-            } else if (jsonRpcRequest instanceof SetTaskPushNotificationRequest) {
-                result = taskManager.onSetTaskPushNotification((SetTaskPushNotificationRequest) jsonRpcRequest);
-            } else if (jsonRpcRequest instanceof GetTaskPushNotificationRequest) {
-                result = taskManager.onGetTaskPushNotification((GetTaskPushNotificationRequest) jsonRpcRequest);
-            } else if (jsonRpcRequest instanceof UnknownMethodRequest) {
-                result = ErrorResponse.builder()
-                        .id(((UnknownMethodRequest) jsonRpcRequest).getId())
-                        .error(new MethodNotFoundError())
-                        .build();
-            } else {
-                throw new IllegalArgumentException("Unexpected request type: " + jsonRpcRequest.getClass().getName());
+        } else {
+            throw new IllegalArgumentException("Unexpected request type: " + jsonRpcRequest.getClass().getName());
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether a request body is a JSON-RPC batch, an array of requests.
+     *
+     * @param jsonRpcRequestBody The request body
+     * @return true if the body is a JSON array
+     */
+    private static boolean isBatch(String jsonRpcRequestBody) {
+        for (int i = 0; i < jsonRpcRequestBody.length(); i++) {
+            char c = jsonRpcRequestBody.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '[';
             }
+        }
+        return false;
+    }
 
-            // Convert the result to JSON and return it
-            String jsonResponse = objectMapper.writeValueAsString(result);
+    /**
+     * Handles a JSON-RPC batch.
+     * The requests are independent, so up to the configured number of them are processed in parallel;
+     * the responses are returned in the order of the requests, and a request that fails only fails its
+     * own entry. Notifications, requests without an ID, are processed without a response, and a batch
+     * of only notifications gets no response body at all.
+     *
+     * @param jsonRpcRequestBody The JSON array of requests
+     * @return The JSON array of responses, or no content
+     */
+    private ResponseEntity<String> handleBatchRequest(String jsonRpcRequestBody) {
+        try {
+            JsonNode requests = objectMapper.readTree(jsonRpcRequestBody);
+            if (requests.isEmpty() || requests.size() > batch.getMaxSize()) {
+                throw new IllegalArgumentException("A batch must contain between 1 and " + batch.getMaxSize() + " requests");
+            }
+
+            List<JsonNode> entries = new ArrayList<>(requests.size());
+            requests.forEach(entries::add);
+            List<Object> responses = Flux.fromIterable(entries)
+                .flatMapSequential(entry -> {
+                    // A single entry is processed on the calling thread
+                    Mono<Object> response = Mono.fromCallable(() -> processBatchEntry(entry));
+                    return entries.size() == 1 ? response : response.subscribeOn(Schedulers.boundedElastic());
+                }, batch.getMaxConcurrency())
+                .collectList()
+                .block();
+            if (responses == null || responses.isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+
+            String jsonResponse = objectMapper.writeValueAsString(responses);
             return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(jsonResponse);
 
         } catch (Exception e) {
@@ -106,26 +308,85 @@ public class A2AController {
         }
     }
 
+    /**
+     * Processes one request of a batch, turning any failure into an error response with the request's ID.
+     * A notification, a request object without an ID, gets no response unless it is not a valid request.
+     *
+     * @param entry The JSON of the request
+     * @return The JSON-RPC response, or null for a notification
+     */
+    private Object processBatchEntry(JsonNode entry) {
+        JsonNode idNode = entry.get("id");
+        String id = idNode != null && idNode.isValueNode() && !idNode.isNull() ? idNode.asText() : null;
+        boolean notification = entry.isObject() && idNode == null;
+        JsonRpcRequest request;
+        try {
+            request = objectMapper.treeToValue(entry, JsonRpcRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Invalid request in batch: {}", e.getMessage());
+            return ErrorResponse.builder().id(id).error(new InvalidRequestError()).build();
+        }
+        try {
+            Object response = dispatch(request);
+            return notification ? null : response;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid request in batch: {}", e.getMessage());
+            return notification ? null : ErrorResponse.builder().id(id).error(new InvalidRequestError()).build();
+        } catch (Exception e) {
+            log.error("Unhandled exception in batch: ", e);
+            return notification ? null : ErrorResponse.builder().id(id).error(new org.a2a4j.models.jsonrpc.errors.InternalError()).build();
+        }
+    }
+
+    /**
+     * Handles POST requests to the main endpoint that accept {@code text/event-stream}.
+     * This is where clients send tasks/sendSubscribe and tasks/resubscribe requests; the request
+     * is processed like {@link #handleStreamingRequest(String, String)}.
+     *
+     * @param endpoint The endpoint path
+     * @param jsonRpcRequestBody The JSON-RPC request body
+     * @param lastEventId The ID of the last event the client has received, if reconnecting
+     * @return An SSE emitter that will emit events as the task progresses
+     */
+    @PostMapping(value = "${a2a.server.endpoint:}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter handleStreamingJsonRpcRequest(
+            @PathVariable(required = false) String endpoint,
+            @RequestBody String jsonRpcRequestBody,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return handleStreamingRequest(jsonRpcRequestBody, lastEventId);
+    }
+
     /**
      * Handles streaming requests.
      * This endpoint establishes an SSE connection for long-running tasks.
+     * Every event carries an SSE ID; a client that reconnects with the {@code Last-Event-ID} header
+     * only receives the events it missed, and a repeated send-task-streaming request is turned into
+     * a resubscription so that the task is not sent again.
+     * The stream completes after the final status update of the task, or when its idle timeout or
+     * maximum lifetime expires, and heartbeat comments are sent in between to detect dead peers.
      *
      * @param jsonRpcRequestBody The JSON-RPC request body
+     * @param lastEventId The ID of the last event the client has received, if reconnecting
      * @return An SSE emitter that will emit events as the task progresses
      */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter handleStreamingRequest(@RequestBody String jsonRpcRequestBody) {
-        SseEmitter emitter = new SseEmitter(0L); // No timeout
+    public SseEmitter handleStreamingRequest(
+            @RequestBody String jsonRpcRequestBody,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // The emitter times out at the end of the maximum lifetime, 0 means no timeout
+        SseEmitter emitter = new SseEmitter(isEnabled(stream.getMaxLifetime()) ? stream.getMaxLifetime().toMillis() : 0L);
 
         try {
             // Parse the JSON-RPC request
             JsonRpcRequest jsonRpcRequest = parseJsonRpcRequest(jsonRpcRequestBody);
 
             // Process streaming requests
-            if (jsonRpcRequest instanceof SendTaskStreamingRequest) {
+            if (jsonRpcRequest instanceof SendTaskStreamingRequest && lastEventId != null) {
+                handleTaskResubscription(toResubscription((SendTaskStreamingRequest) jsonRpcRequest), lastEventId, emitter);
+            } else if (jsonRpcRequest instanceof SendTaskStreamingRequest) {
                 handleSendTaskStreaming((SendTaskStreamingRequest) jsonRpcRequest, emitter);
             } else if (jsonRpcRequest instanceof TaskResubscriptionRequest) {
-                handleTaskResubscription((TaskResubscriptionRequest) jsonRpcRequest, emitter);
+                handleTaskResubscription((TaskResubscriptionRequest) jsonRpcRequest, lastEventId, emitter);
             } else {
                 throw new IllegalArgumentException("Unexpected streaming request type: " + jsonRpcRequest.getClass().getName());
             }
@@ -138,12 +399,61 @@ public class A2AController {
 
     /**
      * Returns the agent card.
+     * The card is sent with an ETag and Cache-Control, and a request whose {@code If-None-Match}
+     * header matches the ETag is answered with 304 Not Modified and no body.
      *
-     * @return The agent card
+     * @param ifNoneMatch The ETags the client has cached, if any
+     * @return The serialized agent card, or an empty response if the client's copy is current
      */
     @GetMapping("/.well-known/agent.json")
-    public ResponseEntity<AgentCard> getAgentCard() {
-        return ResponseEntity.ok(agentCard);
+    public ResponseEntity<byte[]> getAgentCard(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null && matchesAgentCardETag(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(agentCardETag)
+                .cacheControl(agentCardCacheControl)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(agentCardETag)
+            .cacheControl(agentCardCacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(agentCardBytes);
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the ETag of the agent card.
+     * If-None-Match uses the weak comparison, so a weak validator with the same value matches too.
+     *
+     * @param ifNoneMatch The header value, a list of ETags or {@code *}
+     * @return true if the client's copy of the agent card is current
+     */
+    private boolean matchesAgentCardETag(String ifNoneMatch) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(agentCardETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes a strong ETag from the SHA-256 digest of the serialized agent card.
+     *
+     * @param bytes The serialized agent card
+     * @return The quoted ETag
+     */
+    private static String computeETag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
@@ -164,26 +474,9 @@ public class A2AController {
      * @param emitter The SSE emitter
      */
     private void handleSendTaskStreaming(SendTaskStreamingRequest request, SseEmitter emitter) {
-        executor.execute(() -> {
+        streamScheduler.schedule(() -> {
             try {
-                Flux<SendTaskStreamingResponse> responseFlux = taskManager.onSendTaskSubscribe(request);
-                responseFlux.subscribe(update -> {
-                    try {
-                        String json = objectMapper.writeValueAsString(update);
-                        emitter.send(SseEmitter.event().data(json, MediaType.APPLICATION_JSON));
-                    } catch (Exception e) {
-                        log.error("Error sending SSE event", e);
-                        emitter.completeWithError(e);
-                    }
-                },
-                error -> {
-                    log.error("Error in stream", error);
-                    emitter.completeWithError(error);
-                },
-                () -> {
-                    log.debug("Stream completed");
-                    emitter.complete();
-                });
+                streamEvents(taskManager.onSendTaskSubscribeEvents(request), emitter);
             } catch (Exception e) {
                 handleStreamingException(emitter, e);
             }
@@ -194,35 +487,152 @@ public class A2AController {
      * Handles streaming task updates for task resubscription requests.
      *
      * @param request The task resubscription request
+     * @param lastEventId The ID of the last event the client has received, or null
      * @param emitter The SSE emitter
      */
-    private void handleTaskResubscription(TaskResubscriptionRequest request, SseEmitter emitter) {
-        executor.execute(() -> {
+    private void handleTaskResubscription(TaskResubscriptionRequest request, String lastEventId, SseEmitter emitter) {
+        streamScheduler.schedule(() -> {
             try {
-                Flux<SendTaskStreamingResponse> responseFlux = taskManager.onResubscribeToTask(request);
-                responseFlux.subscribe(update -> {
-                    try {
-                        String json = objectMapper.writeValueAsString(update);
-                        emitter.send(SseEmitter.event().data(json, MediaType.APPLICATION_JSON));
-                    } catch (Exception e) {
-                        log.error("Error sending SSE event", e);
-                        emitter.completeWithError(e);
-                    }
-                },
-                error -> {
-                    log.error("Error in stream", error);
-                    emitter.completeWithError(error);
-                },
-                () -> {
-                    log.debug("Stream completed");
-                    emitter.complete();
-                });
+                streamEvents(taskManager.onResubscribeToTaskEvents(request, lastEventId), emitter);
             } catch (Exception e) {
                 handleStreamingException(emitter, e);
             }
         });
     }
 
+    /**
+     * Sends streaming task updates to an SSE emitter, using their event IDs as SSE IDs.
+     * The subscription and the heartbeats are released as soon as the emitter completes, times out or fails.
+     *
+     * @param events The streaming task updates
+     * @param emitter The SSE emitter
+     */
+    private void streamEvents(Flux<TaskStreamEvent> events, SseEmitter emitter) {
+        Disposable.Composite resources = Disposables.composite();
+        emitter.onCompletion(resources::dispose);
+        emitter.onError(error -> resources.dispose());
+        emitter.onTimeout(() -> {
+            log.debug("Stream reached its maximum lifetime");
+            resources.dispose();
+            emitter.complete();
+        });
+
+        if (isEnabled(stream.getHeartbeatInterval())) {
+            // Ticks are dropped while the previous heartbeat is still being written
+            resources.add(Flux.interval(stream.getHeartbeatInterval())
+                .onBackpressureDrop()
+                .publishOn(streamScheduler, 1)
+                .subscribe(tick -> sendHeartbeat(emitter, resources)));
+        }
+
+        Flux<TaskStreamEvent> streamed = events;
+        if (isEnabled(stream.getIdleTimeout())) {
+            streamed = streamed.timeout(stream.getIdleTimeout(), Flux.defer(() -> {
+                log.debug("Stream was idle for {}", stream.getIdleTimeout());
+                return Flux.empty();
+            }));
+        }
+
+        resources.add(streamed.subscribe(event -> {
+            try {
+                SseEmitter.SseEventBuilder sseEvent = SseEmitter.event().data(encodeEvent(event), MediaType.APPLICATION_JSON);
+                if (event.getId() != null) {
+                    sseEvent.id(event.getId());
+                }
+                emitter.send(sseEvent);
+            } catch (Exception e) {
+                log.error("Error sending SSE event", e);
+                resources.dispose();
+                emitter.completeWithError(e);
+            }
+        },
+        error -> {
+            log.error("Error in stream", error);
+            resources.dispose();
+            emitter.completeWithError(error);
+        },
+        () -> {
+            log.debug("Stream completed");
+            resources.dispose();
+            emitter.complete();
+        }));
+    }
+
+    /**
+     * Sends a heartbeat comment, releasing the stream if the peer is gone.
+     *
+     * @param emitter The SSE emitter
+     * @param resources The resources of the stream
+     */
+    private void sendHeartbeat(SseEmitter emitter, Disposable resources) {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Heartbeat failed, closing stream: {}", e.getMessage());
+            resources.dispose();
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static boolean isEnabled(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
+    /**
+     * Encodes a streaming task update as a JSON-RPC response.
+     * A journaled event is encoded once for all subscribers, and only the request ID is written per subscriber.
+     *
+     * @param event The streaming task update
+     * @return The JSON-RPC response
+     * @throws JsonProcessingException If the update cannot be encoded
+     */
+    private byte[] encodeEvent(TaskStreamEvent event) throws JsonProcessingException {
+        TaskEventRecord record = event.getRecord();
+        if (record == null) {
+            return objectMapper.writeValueAsBytes(event.getResponse());
+        }
+
+        byte[] result = record.getEncodedEvent(objectMapper);
+        byte[] id = event.getRequestId() != null ? objectMapper.writeValueAsBytes(event.getRequestId()) : null;
+        int length = result.length + RESPONSE_END.length
+            + (id != null ? RESPONSE_ID.length + id.length + RESPONSE_RESULT.length : RESPONSE_RESULT_ONLY.length);
+
+        // Same layout as serializing the SendTaskStreamingResponse, which omits null fields
+        byte[] response = new byte[length];
+        int position = 0;
+        if (id != null) {
+            position = append(response, position, RESPONSE_ID);
+            position = append(response, position, id);
+            position = append(response, position, RESPONSE_RESULT);
+        } else {
+            position = append(response, position, RESPONSE_RESULT_ONLY);
+        }
+        position = append(response, position, result);
+        append(response, position, RESPONSE_END);
+        return response;
+    }
+
+    private static int append(byte[] target, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, target, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    /**
+     * Converts a send-task-streaming request repeated by a reconnecting client into a resubscription.
+     *
+     * @param request The send-task-streaming request
+     * @return The resubscription request for the same task
+     */
+    private TaskResubscriptionRequest toResubscription(SendTaskStreamingRequest request) {
+        return TaskResubscriptionRequest.builder()
+            .id(request.getId())
+            .params(TaskQueryParams.builder()
+                .id(request.getParams().getId())
+                .historyLength(request.getParams().getHistoryLength())
+                .build())
+            .build();
+    }
+
     /**
      * Handles exceptions that occur during request processing.
      *
@@ -1,7 +1,11 @@
 package org.a2a4j.spring;
 
+import org.a2a4j.server.events.SubscriberBufferSettings;
+import org.a2a4j.server.events.SubscriberOverflowPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for the A2A server.
  */
@@ -58,6 +62,31 @@ public class A2AProperties {
          */
         private String description = "A Java implementation of the A2A protocol";
 
+        /**
+         * How long clients may cache the agent card before revalidating it, 0 to always revalidate.
+         */
+        private Duration agentCardMaxAge = Duration.ofMinutes(5);
+
+        /**
+         * The longest time a tasks/get request may wait for its task to change, 0 to never wait.
+         */
+        private Duration maxTaskWait = Duration.ofSeconds(30);
+
+        /**
+         * Buffering of events for streaming subscribers.
+         */
+        private final Subscriber subscriber = new Subscriber();
+
+        /**
+         * Keep-alive and timeouts of SSE streams.
+         */
+        private final Stream stream = new Stream();
+
+        /**
+         * Limits of JSON-RPC batches.
+         */
+        private final Batch batch = new Batch();
+
         public boolean isEnabled() {
             return enabled;
         }
@@ -113,6 +142,180 @@ public class A2AProperties {
         public void setDescription(String description) {
             this.description = description;
         }
+
+        public Duration getAgentCardMaxAge() {
+            return agentCardMaxAge;
+        }
+
+        public void setAgentCardMaxAge(Duration agentCardMaxAge) {
+            this.agentCardMaxAge = agentCardMaxAge;
+        }
+
+        public Duration getMaxTaskWait() {
+            return maxTaskWait;
+        }
+
+        public void setMaxTaskWait(Duration maxTaskWait) {
+            this.maxTaskWait = maxTaskWait;
+        }
+
+        public Subscriber getSubscriber() {
+            return subscriber;
+        }
+
+        public Stream getStream() {
+            return stream;
+        }
+
+        public Batch getBatch() {
+            return batch;
+        }
+    }
+
+    /**
+     * Streaming subscriber configuration properties.
+     */
+    public static class Subscriber {
+        /**
+         * The maximum number of events buffered for a single subscriber.
+         */
+        private int bufferSize = SubscriberBufferSettings.DEFAULT_CAPACITY;
+
+        /**
+         * What to do when a subscriber's buffer is full.
+         */
+        private SubscriberOverflowPolicy overflowPolicy = SubscriberOverflowPolicy.DISCONNECT;
+
+        /**
+         * How long a subscriber may go without taking a buffered event before it is evicted.
+         */
+        private Duration maxStall = SubscriberBufferSettings.DEFAULT_MAX_STALL;
+
+        /**
+         * How long artifact chunks are held back to be merged with following chunks of the same artifact.
+         * Zero sends every chunk as it arrives.
+         */
+        private Duration coalesceWindow = Duration.ZERO;
+
+        /**
+         * The maximum number of text characters in a merged artifact chunk.
+         */
+        private int coalesceMaxSize = SubscriberBufferSettings.DEFAULT_COALESCE_MAX_SIZE;
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public SubscriberOverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(SubscriberOverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getMaxStall() {
+            return maxStall;
+        }
+
+        public void setMaxStall(Duration maxStall) {
+            this.maxStall = maxStall;
+        }
+
+        public Duration getCoalesceWindow() {
+            return coalesceWindow;
+        }
+
+        public void setCoalesceWindow(Duration coalesceWindow) {
+            this.coalesceWindow = coalesceWindow;
+        }
+
+        public int getCoalesceMaxSize() {
+            return coalesceMaxSize;
+        }
+
+        public void setCoalesceMaxSize(int coalesceMaxSize) {
+            this.coalesceMaxSize = coalesceMaxSize;
+        }
+    }
+
+    /**
+     * SSE stream configuration properties. A zero duration disables the respective setting.
+     */
+    public static class Stream {
+        /**
+         * How often a heartbeat comment is sent, so that dead peers are detected.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        /**
+         * How long a stream may go without an event before it is completed.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * How long a stream may stay open in total before it is completed.
+         */
+        private Duration maxLifetime = Duration.ofHours(1);
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getMaxLifetime() {
+            return maxLifetime;
+        }
+
+        public void setMaxLifetime(Duration maxLifetime) {
+            this.maxLifetime = maxLifetime;
+        }
+    }
+
+    /**
+     * JSON-RPC batch configuration properties.
+     */
+    public static class Batch {
+        /**
+         * The maximum number of requests in a batch.
+         */
+        private int maxSize = 100;
+
+        /**
+         * The maximum number of requests of a batch processed in parallel.
+         */
+        private int maxConcurrency = 8;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
     }
 
     /**
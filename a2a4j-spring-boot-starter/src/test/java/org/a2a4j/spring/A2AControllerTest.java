@@ -0,0 +1,157 @@
+package org.a2a4j.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.client.A2AClient;
+import org.a2a4j.client.A2AClientImpl;
+import org.a2a4j.models.AgentCard;
+import org.a2a4j.models.Capabilities;
+import org.a2a4j.models.Task;
+import org.a2a4j.models.TaskState;
+import org.a2a4j.models.TaskStatus;
+import org.a2a4j.models.jsonrpc.GetTaskRequest;
+import org.a2a4j.models.jsonrpc.SendTaskStreamingResponse;
+import org.a2a4j.models.jsonrpc.TaskResubscriptionRequest;
+import org.a2a4j.models.params.TaskQueryParams;
+import org.a2a4j.models.streaming.TaskStatusUpdateEvent;
+import org.a2a4j.server.BasicTaskManager;
+import org.a2a4j.server.InMemoryTaskStorage;
+import org.a2a4j.server.events.InMemoryTaskEventJournal;
+import org.a2a4j.server.events.InProcessTaskEventBus;
+import org.a2a4j.server.notifications.BasicNotificationPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.client.MockMvcHttpConnector;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class A2AControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private InMemoryTaskStorage taskStorage;
+    private A2AController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Given: a finished task with two journaled status updates
+        taskStorage = new InMemoryTaskStorage();
+        InMemoryTaskEventJournal taskEventJournal = new InMemoryTaskEventJournal();
+        taskStorage.store(Task.builder()
+                .id("task-1")
+                .status(TaskStatus.builder().state(TaskState.COMPLETED).build())
+                .build());
+        taskEventJournal.append("task-1", statusUpdate(TaskState.WORKING, false));
+        taskEventJournal.append("task-1", statusUpdate(TaskState.COMPLETED, true));
+
+        BasicTaskManager taskManager = new BasicTaskManager(task -> task, taskStorage, new BasicNotificationPublisher(),
+                taskEventJournal, new InProcessTaskEventBus());
+        controller = new A2AController(objectMapper, taskManager, AgentCard.builder()
+                .name("Test Agent")
+                .url("http://localhost/a2a")
+                .version("1.0.0")
+                .capabilities(Capabilities.builder().streaming(true).build())
+                .skills(Collections.emptyList())
+                .build());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addPlaceholderValue("a2a.server.endpoint", "/a2a")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.destroy();
+    }
+
+    @Test
+    void resubscribe_shouldStreamMissedEventsFromJsonRpcEndpoint() throws Exception {
+        // When
+        MvcResult started = mockMvc.perform(post("/a2a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "1")
+                        .content(objectMapper.writeValueAsString(TaskResubscriptionRequest.builder()
+                                .id("request-1")
+                                .params(TaskQueryParams.builder().id("task-1").build())
+                                .build())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+
+        // Then: only the event after the Last-Event-ID is sent
+        assertTrue(body.contains("id:2"), body);
+        assertFalse(body.contains("id:1"), body);
+    }
+
+    @Test
+    void resubscribeTask_shouldReceiveEventsFromController() {
+        // Given
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new MockMvcHttpConnector(mockMvc))
+                .build();
+        A2AClient client = A2AClientImpl.builder()
+                .baseUrl("http://localhost")
+                .endpoint("/a2a")
+                .webClient(webClient)
+                .build();
+
+        // When
+        List<SendTaskStreamingResponse> responses = client.resubscribeTask("task-1")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Then: the client reads the stream the controller sends for its request
+        assertEquals(1, responses.size());
+        TaskStatusUpdateEvent status = (TaskStatusUpdateEvent) responses.get(0).getResult();
+        assertEquals(TaskState.COMPLETED, status.getStatus().getState());
+        assertTrue(status.getFinalFlag());
+    }
+
+    @Test
+    void getTask_shouldWaitForTaskWithoutPreferHeader() throws Exception {
+        // Given
+        taskStorage.store(Task.builder()
+                .id("task-2")
+                .status(TaskStatus.builder().state(TaskState.WORKING).build())
+                .build());
+        long startedAt = System.nanoTime();
+
+        // When: the task does not change while the request waits
+        MvcResult started = mockMvc.perform(post("/a2a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(GetTaskRequest.builder()
+                                .id("request-1")
+                                .params(TaskQueryParams.builder().id("task-2").waitMillis(200L).build())
+                                .build())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+
+        // Then: the task is returned once the wait is up
+        assertTrue(System.nanoTime() - startedAt >= Duration.ofMillis(200).toNanos(), body);
+        assertTrue(body.contains("\"task-2\""), body);
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(TaskState state, boolean finalFlag) {
+        return TaskStatusUpdateEvent.builder()
+                .id("task-1")
+                .status(TaskStatus.builder().state(state).build())
+                .finalFlag(finalFlag)
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.storage.redis;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+import java.time.Duration;
+
+/**
+ * Creates Redis connection factories configured from environment variables or system properties.
+ * Shared by the providers of this module so that they all honor the same configuration.
+ */
+final class EnvRedisConnectionFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvRedisConnectionFactory.class);
+
+    // Configuration property names
+    static final String REDIS_HOST_PROP = "A2A_STORAGE_REDIS_HOST";
+    static final String REDIS_PORT_PROP = "A2A_STORAGE_REDIS_PORT";
+    static final String REDIS_USERNAME_PROP = "A2A_STORAGE_REDIS_USERNAME";
+    static final String REDIS_PASSWORD_PROP = "A2A_STORAGE_REDIS_PASSWORD";
+    static final String REDIS_SSL_PROP = "A2A_STORAGE_REDIS_SSL";
+    static final String REDIS_TLS_PROP = "A2A_STORAGE_REDIS_TLS";
+    static final String REDIS_READ_FROM_PROP = "A2A_STORAGE_REDIS_READ_FROM";
+    static final String REDIS_REPLICAS_PROP = "A2A_STORAGE_REDIS_REPLICAS";
+    static final String REDIS_COMMAND_TIMEOUT_PROP = "A2A_STORAGE_REDIS_COMMAND_TIMEOUT_MS";
+    static final String REDIS_SHARE_NATIVE_CONNECTION_PROP = "A2A_STORAGE_REDIS_SHARE_NATIVE_CONNECTION";
+    static final String REDIS_POOL_SIZE_PROP = "A2A_STORAGE_REDIS_POOL_SIZE";
+    static final String REDIS_IO_THREADS_PROP = "A2A_STORAGE_REDIS_IO_THREADS";
+    static final String REDIS_COMPUTATION_THREADS_PROP = "A2A_STORAGE_REDIS_COMPUTATION_THREADS";
+
+    /** Client resources shared by all factories when thread counts are configured */
+    private static ClientResources sharedClientResources;
+
+    private EnvRedisConnectionFactory() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates and initializes a Lettuce connection factory for the Redis primary from the environment.
+     *
+     * @return an initialized connection factory, or null if no Redis host is configured
+     * @throws RuntimeException if the configuration is invalid
+     */
+    static LettuceConnectionFactory create() {
+        String host = getEnv(REDIS_HOST_PROP);
+        String port = getEnv(REDIS_PORT_PROP, "6379");
+
+        // If no host is specified, we can't create a Redis connection
+        if (host == null || host.isEmpty()) {
+            LOG.info("No Redis host specified");
+            return null;
+        }
+
+        LOG.info("Creating Redis connection to {}:{}", host, port);
+
+        // Configure Redis connection
+        RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration();
+        redisConfig.setHostName(host);
+        redisConfig.setPort(Integer.parseInt(port));
+        configureCredentials(redisConfig);
+
+        return createFactory(redisConfig, null);
+    }
+
+    /**
+     * Creates and initializes a Lettuce connection factory for reads from the environment.
+     * Reads are routed according to {@value #REDIS_READ_FROM_PROP}, a Lettuce ReadFrom policy such as
+     * {@code replicaPreferred}, {@code replica}, {@code nearest} or {@code any}. The replicas are taken
+     * from {@value #REDIS_REPLICAS_PROP}, a comma separated list of {@code host:port}, or discovered
+     * from the primary if not set.
+     *
+     * @return an initialized connection factory, or null if reads should use the primary connection
+     * @throws RuntimeException if the configuration is invalid
+     */
+    static LettuceConnectionFactory createForReads() {
+        String host = getEnv(REDIS_HOST_PROP);
+        String readFromName = getEnv(REDIS_READ_FROM_PROP);
+        if (host == null || host.isEmpty() || readFromName == null) {
+            return null;
+        }
+
+        if ("upstream".equalsIgnoreCase(readFromName) || "master".equalsIgnoreCase(readFromName)) {
+            return null;
+        }
+        ReadFrom readFrom = ReadFrom.valueOf(readFromName);
+
+        int port = Integer.parseInt(getEnv(REDIS_PORT_PROP, "6379"));
+        String replicas = getEnv(REDIS_REPLICAS_PROP);
+        RedisConfiguration redisConfig;
+        if (replicas != null) {
+            RedisStaticMasterReplicaConfiguration replicaConfig = new RedisStaticMasterReplicaConfiguration(host, port);
+            for (String replica : replicas.split(",")) {
+                String[] hostAndPort = replica.trim().split(":");
+                replicaConfig.addNode(hostAndPort[0],
+                    hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1]) : 6379);
+            }
+            configureCredentials(replicaConfig);
+            redisConfig = replicaConfig;
+        } else {
+            RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(host, port);
+            configureCredentials(standaloneConfig);
+            redisConfig = standaloneConfig;
+        }
+
+        LOG.info("Creating Redis read connection to {}:{} with read from {} and replicas {}",
+            host, port, readFromName, replicas != null ? replicas : "discovered from the primary");
+        return createFactory(redisConfig, readFrom);
+    }
+
+    /**
+     * Sets the username and password from the environment on a Redis configuration.
+     */
+    private static void configureCredentials(RedisConfiguration.WithAuthentication redisConfig) {
+        String username = getEnv(REDIS_USERNAME_PROP);
+        String password = getEnv(REDIS_PASSWORD_PROP);
+
+        if (username != null && !username.isEmpty()) {
+            redisConfig.setUsername(username);
+        }
+
+        if (password != null && !password.isEmpty()) {
+            redisConfig.setPassword(RedisPassword.of(password));
+        }
+    }
+
+    /**
+     * Creates and initializes a connection factory with the client options from the environment.
+     *
+     * @param redisConfig the Redis server configuration
+     * @param readFrom the read routing policy, or null to read from the primary
+     * @return an initialized connection factory
+     */
+    private static LettuceConnectionFactory createFactory(RedisConfiguration redisConfig, ReadFrom readFrom) {
+        boolean ssl = Boolean.parseBoolean(getEnv(REDIS_SSL_PROP, "false"));
+        boolean tls = Boolean.parseBoolean(getEnv(REDIS_TLS_PROP, "false"));
+        int poolSize = Integer.parseInt(getEnv(REDIS_POOL_SIZE_PROP, "0"));
+        boolean shareNativeConnection = Boolean.parseBoolean(getEnv(REDIS_SHARE_NATIVE_CONNECTION_PROP, "true"));
+        String commandTimeout = getEnv(REDIS_COMMAND_TIMEOUT_PROP);
+
+        // Pool connections for blocking and transactional operations if requested
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigBuilder;
+        if (poolSize > 0) {
+            GenericObjectPoolConfig<Object> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(poolSize);
+            poolConfig.setMaxIdle(poolSize);
+            clientConfigBuilder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            clientConfigBuilder = LettuceClientConfiguration.builder();
+        }
+
+        // Configure SSL/TLS if needed
+        if (ssl) {
+            clientConfigBuilder.useSsl();
+        }
+
+        // Note: Spring Data Redis doesn't support startTls directly through LettuceClientConfigurationBuilder
+        // If TLS is needed, useSsl() is typically sufficient for most Redis deployments
+        if (tls) {
+            LOG.warn("TLS requested but startTls() is not available in Spring Data Redis LettuceClientConfigurationBuilder");
+            LOG.warn("Using SSL instead which should cover most TLS use cases");
+            clientConfigBuilder.useSsl();
+        }
+
+        if (commandTimeout != null) {
+            clientConfigBuilder.commandTimeout(Duration.ofMillis(Long.parseLong(commandTimeout)));
+        }
+
+        if (readFrom != null) {
+            clientConfigBuilder.readFrom(readFrom);
+        }
+
+        ClientResources clientResources = clientResources();
+        if (clientResources != null) {
+            clientConfigBuilder.clientResources(clientResources);
+        }
+
+        // Create connection factory
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            redisConfig, clientConfigBuilder.build());
+        connectionFactory.setShareNativeConnection(shareNativeConnection);
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+
+    /**
+     * Gets the client resources with the thread counts from the environment, shared by all factories.
+     *
+     * @return the client resources, or null to let Lettuce create default resources
+     */
+    private static synchronized ClientResources clientResources() {
+        String ioThreads = getEnv(REDIS_IO_THREADS_PROP);
+        String computationThreads = getEnv(REDIS_COMPUTATION_THREADS_PROP);
+        if (ioThreads == null && computationThreads == null) {
+            return null;
+        }
+
+        if (sharedClientResources == null) {
+            DefaultClientResources.Builder builder = DefaultClientResources.builder();
+            if (ioThreads != null) {
+                builder.ioThreadPoolSize(Integer.parseInt(ioThreads));
+            }
+            if (computationThreads != null) {
+                builder.computationThreadPoolSize(Integer.parseInt(computationThreads));
+            }
+            sharedClientResources = builder.build();
+            LOG.info("Created Redis client resources with {} I/O and {} computation threads",
+                sharedClientResources.ioThreadPoolSize(), sharedClientResources.computationThreadPoolSize());
+        }
+        return sharedClientResources;
+    }
+
+    /**
+     * Gets an environment variable or system property value.
+     *
+     * @param key the name of the environment variable or system property
+     * @return the value or null if not set
+     */
+    static String getEnv(String key) {
+        return getEnv(key, null);
+    }
+
+    /**
+     * Gets an environment variable or system property value with a default.
+     *
+     * @param key the name of the environment variable or system property
+     * @param defaultValue the default value to return if not set
+     * @return the value or the default if not set
+     */
+    static String getEnv(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isEmpty()) {
+            value = System.getenv(key);
+        }
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
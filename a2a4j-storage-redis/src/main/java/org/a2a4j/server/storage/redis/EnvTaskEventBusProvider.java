@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.storage.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.server.events.TaskEventBus;
+import org.a2a4j.server.events.TaskEventBusProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * A TaskEventBusProvider implementation that creates a RedisTaskEventBus
+ * configured from environment variables or system properties.
+ * <p>
+ * The bus is opt-in: it is only created if {@code A2A_STORAGE_REDIS_EVENT_BUS} is {@code true}
+ * in addition to the connection settings read by {@link EnvRedisConnectionFactory}.
+ * It should be enabled together with the Redis journal ({@code A2A_STORAGE_REDIS_JOURNAL}).
+ * </p>
+ */
+public class EnvTaskEventBusProvider implements TaskEventBusProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvTaskEventBusProvider.class);
+
+    // Configuration property names
+    private static final String REDIS_EVENT_BUS_PROP = "A2A_STORAGE_REDIS_EVENT_BUS";
+
+    /**
+     * Provides a RedisTaskEventBus instance configured from environment variables.
+     * If the bus is not enabled or the required environment variables are not set, returns null.
+     *
+     * @return a configured RedisTaskEventBus or null if configuration is not available
+     */
+    @Override
+    public TaskEventBus provide() {
+        if (!Boolean.parseBoolean(EnvRedisConnectionFactory.getEnv(REDIS_EVENT_BUS_PROP, "false"))) {
+            LOG.info("Redis task event bus not enabled");
+            return null;
+        }
+
+        LOG.info("Attempting to create Redis task event bus from environment");
+
+        try {
+            LettuceConnectionFactory connectionFactory = EnvRedisConnectionFactory.create();
+            if (connectionFactory == null) {
+                LOG.info("No Redis host specified, not creating Redis task event bus");
+                return null;
+            }
+
+            return new RedisTaskEventBus(connectionFactory, new ObjectMapper());
+        } catch (Exception e) {
+            LOG.error("Failed to create Redis task event bus", e);
+            return null;
+        }
+    }
+}
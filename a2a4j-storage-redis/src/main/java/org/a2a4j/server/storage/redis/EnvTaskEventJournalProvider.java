@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.storage.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.server.events.TaskEventJournal;
+import org.a2a4j.server.events.TaskEventJournalProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * A TaskEventJournalProvider implementation that creates a RedisTaskEventJournal
+ * configured from environment variables or system properties.
+ * <p>
+ * The journal is opt-in: it is only created if {@code A2A_STORAGE_REDIS_JOURNAL} is {@code true}
+ * in addition to the connection settings read by {@link EnvRedisConnectionFactory}.
+ * {@code A2A_STORAGE_REDIS_JOURNAL_MAX_LENGTH} bounds the number of events retained per task, and
+ * {@code A2A_STORAGE_REDIS_JOURNAL_TTL_SECONDS} how long they are kept after the last event of a task.
+ * </p>
+ */
+public class EnvTaskEventJournalProvider implements TaskEventJournalProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvTaskEventJournalProvider.class);
+
+    // Configuration property names
+    private static final String REDIS_JOURNAL_PROP = "A2A_STORAGE_REDIS_JOURNAL";
+    private static final String REDIS_JOURNAL_MAX_LENGTH_PROP = "A2A_STORAGE_REDIS_JOURNAL_MAX_LENGTH";
+    private static final String REDIS_JOURNAL_TTL_SECONDS_PROP = "A2A_STORAGE_REDIS_JOURNAL_TTL_SECONDS";
+
+    /**
+     * Provides a RedisTaskEventJournal instance configured from environment variables.
+     * If the journal is not enabled or the required environment variables are not set, returns null.
+     *
+     * @return a configured RedisTaskEventJournal or null if configuration is not available
+     */
+    @Override
+    public TaskEventJournal provide() {
+        if (!Boolean.parseBoolean(EnvRedisConnectionFactory.getEnv(REDIS_JOURNAL_PROP, "false"))) {
+            LOG.info("Redis task event journal not enabled");
+            return null;
+        }
+
+        LOG.info("Attempting to create Redis task event journal from environment");
+
+        try {
+            long maxLength = Long.parseLong(EnvRedisConnectionFactory.getEnv(REDIS_JOURNAL_MAX_LENGTH_PROP,
+                String.valueOf(RedisTaskEventJournal.DEFAULT_MAX_LENGTH_PER_TASK)));
+            Duration timeToLive = Duration.ofSeconds(Long.parseLong(EnvRedisConnectionFactory.getEnv(REDIS_JOURNAL_TTL_SECONDS_PROP,
+                String.valueOf(RedisTaskEventJournal.DEFAULT_TIME_TO_LIVE.getSeconds()))));
+
+            LettuceConnectionFactory connectionFactory = EnvRedisConnectionFactory.create();
+            if (connectionFactory == null) {
+                LOG.info("No Redis host specified, not creating Redis task event journal");
+                return null;
+            }
+
+            return new RedisTaskEventJournal(connectionFactory, new ObjectMapper(), maxLength, timeToLive);
+        } catch (Exception e) {
+            LOG.error("Failed to create Redis task event journal", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.storage.redis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.a2a4j.server.events.TaskEventBus;
+import org.a2a4j.server.events.TaskEventRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub implementation of the TaskEventBus interface.
+ * <p>
+ * Every task has its own channel {@code task-events-bus:<id>}. Events are published to Redis
+ * even for local subscribers, so all nodes deliver them the same way. A node only subscribes
+ * to the channels of tasks that have subscribers on that node.
+ * </p>
+ * Pub/sub delivers at most once, so this bus should be combined with a journal that is shared
+ * by all nodes, such as {@link RedisTaskEventJournal}, from which subscribers fill any gaps.
+ */
+public class RedisTaskEventBus implements TaskEventBus, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisTaskEventBus.class);
+    private static final String CHANNEL_PREFIX = "task-events-bus:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new RedisTaskEventBus with the specified Redis connection factory.
+     *
+     * @param connectionFactory the Redis connection factory
+     */
+    public RedisTaskEventBus(RedisConnectionFactory connectionFactory) {
+        this(connectionFactory, new ObjectMapper());
+    }
+
+    /**
+     * Creates a new RedisTaskEventBus with the specified Redis connection factory and object mapper.
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param objectMapper the object mapper for JSON serialization
+     */
+    public RedisTaskEventBus(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        // Dispatch messages on the subscription thread, which keeps them in publication order
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+
+        LOG.info("RedisTaskEventBus initialized");
+    }
+
+    @Override
+    public void publish(TaskEventRecord record) {
+        try {
+            ObjectNode message = objectMapper.createObjectNode();
+            message.put("sequence", record.getSequence());
+            message.set("event", objectMapper.valueToTree(record.getEvent()));
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + record.getTaskId(), objectMapper.writeValueAsString(message));
+            LOG.debug("Published event #{} for task ID: {}", record.getSequence(), record.getTaskId());
+        } catch (Exception e) {
+            // Subscribers catch up from the journal with the next event
+            LOG.error("Failed to publish event #{} for task: {}", record.getSequence(), record.getTaskId(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The channel of the task is subscribed when the returned flux is subscribed to. The container
+     * waits for Redis to confirm the subscription, so it is active once the subscription call returns.
+     */
+    @Override
+    public Flux<TaskEventRecord> subscribe(String taskId) {
+        ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + taskId);
+        return Flux.create(sink -> {
+            MessageListener listener = (message, pattern) -> {
+                try {
+                    JsonNode node = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+                    TaskStreamingResult event = objectMapper.treeToValue(node.get("event"), TaskStreamingResult.class);
+                    sink.next(new TaskEventRecord(taskId, node.get("sequence").asLong(), event));
+                } catch (Exception e) {
+                    LOG.error("Failed to deserialize event for task: {}", taskId, e);
+                }
+            };
+            sink.onDispose(() -> {
+                listenerContainer.removeMessageListener(listener, topic);
+                LOG.debug("Unsubscribed from events of task ID: {}", taskId);
+            });
+            listenerContainer.addMessageListener(listener, topic);
+            LOG.debug("Subscribed to events of task ID: {}", taskId);
+        });
+    }
+
+    /**
+     * Stops listening for events.
+     * This method should be called when the bus is no longer needed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            listenerContainer.destroy();
+        } catch (Exception e) {
+            throw new IOException("Failed to stop the Redis message listener container", e);
+        }
+        LOG.info("RedisTaskEventBus closed");
+    }
+}
@@ -0,0 +1,183 @@
+// SPDX-FileCopyrightText: 2025
+//
+// SPDX-License-Identifier: Apache-2.0
+package org.a2a4j.server.storage.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.a2a4j.models.streaming.TaskStreamingResult;
+import org.a2a4j.server.events.TaskEventJournal;
+import org.a2a4j.server.events.TaskEventRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis implementation of the TaskEventJournal interface.
+ * <p>
+ * The events of every task are kept in a Redis Stream whose entry IDs are {@code <sequence>-0},
+ * so reading the events after a sequence is a single XRANGE. Sequences are allocated from a
+ * per-task counter in the same Lua script that appends the entry, which keeps them gap-free
+ * and ordered even if several nodes publish events for the same task. Both keys expire once
+ * a task has not appended for the configured time to live, after which a resubscribing client
+ * receives the current status of the task instead.
+ * </p>
+ */
+public class RedisTaskEventJournal implements TaskEventJournal, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisTaskEventJournal.class);
+    private static final String EVENTS_PREFIX = "task-events:";
+    private static final String SEQUENCE_PREFIX = "task-events-seq:";
+    private static final String EVENT_FIELD = "event";
+
+    /** Default number of events retained per task */
+    public static final long DEFAULT_MAX_LENGTH_PER_TASK = 1000;
+
+    /** Default time to live of the events of a task after its last append */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] = stream, KEYS[2] = sequence counter, ARGV[1] = event JSON, ARGV[2] = max length (0 = unbounded),
+     * ARGV[3] = time to live in seconds (0 = never expire)
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+        "local seq = redis.call('INCR', KEYS[2]) "
+            + "if tonumber(ARGV[2]) > 0 then "
+            + "  redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], seq .. '-0', '" + EVENT_FIELD + "', ARGV[1]) "
+            + "else "
+            + "  redis.call('XADD', KEYS[1], seq .. '-0', '" + EVENT_FIELD + "', ARGV[1]) "
+            + "end "
+            + "if tonumber(ARGV[3]) > 0 then "
+            + "  redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "  redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+            + "end "
+            + "return seq",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxLengthPerTask;
+    private final long timeToLiveSeconds;
+
+    /**
+     * Creates a new RedisTaskEventJournal retaining about {@link #DEFAULT_MAX_LENGTH_PER_TASK} events per task
+     * for {@link #DEFAULT_TIME_TO_LIVE}.
+     *
+     * @param connectionFactory the Redis connection factory
+     */
+    public RedisTaskEventJournal(RedisConnectionFactory connectionFactory) {
+        this(connectionFactory, new ObjectMapper(), DEFAULT_MAX_LENGTH_PER_TASK);
+    }
+
+    /**
+     * Creates a new RedisTaskEventJournal retaining events for {@link #DEFAULT_TIME_TO_LIVE}.
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param objectMapper the object mapper for JSON serialization
+     * @param maxLengthPerTask the approximate number of events retained per task, or 0 to retain all events
+     */
+    public RedisTaskEventJournal(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper, long maxLengthPerTask) {
+        this(connectionFactory, objectMapper, maxLengthPerTask, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a new RedisTaskEventJournal.
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param objectMapper the object mapper for JSON serialization
+     * @param maxLengthPerTask the approximate number of events retained per task, or 0 to retain all events
+     * @param timeToLive how long the events of a task are kept after its last append, or zero to keep them forever
+     * @throws IllegalArgumentException if the time to live is negative or shorter than a second
+     */
+    public RedisTaskEventJournal(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper, long maxLengthPerTask,
+                                 Duration timeToLive) {
+        if (timeToLive.isNegative() || (!timeToLive.isZero() && timeToLive.getSeconds() == 0)) {
+            throw new IllegalArgumentException("Time to live must be zero or at least a second: " + timeToLive);
+        }
+        this.objectMapper = objectMapper;
+        this.maxLengthPerTask = maxLengthPerTask;
+        this.timeToLiveSeconds = timeToLive.getSeconds();
+
+        // Configure Redis template
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(new StringRedisSerializer());
+        this.redisTemplate.setValueSerializer(new StringRedisSerializer());
+        this.redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        this.redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        this.redisTemplate.afterPropertiesSet();
+
+        LOG.info("RedisTaskEventJournal initialized");
+    }
+
+    @Override
+    public TaskEventRecord append(String taskId, TaskStreamingResult event) {
+        try {
+            String eventJson = objectMapper.writeValueAsString(event);
+            Long sequence = redisTemplate.execute(APPEND_SCRIPT,
+                List.of(EVENTS_PREFIX + taskId, SEQUENCE_PREFIX + taskId),
+                eventJson, String.valueOf(maxLengthPerTask), String.valueOf(timeToLiveSeconds));
+            if (sequence == null) {
+                throw new IllegalStateException("No sequence returned for task " + taskId);
+            }
+            LOG.debug("Appended event #{} for task ID: {}", sequence, taskId);
+            return new TaskEventRecord(taskId, sequence, event);
+        } catch (JsonProcessingException e) {
+            LOG.error("Failed to serialize event for task: {}", taskId, e);
+            throw new RuntimeException("Failed to serialize event", e);
+        }
+    }
+
+    @Override
+    public List<TaskEventRecord> readAfter(String taskId, long afterSequence) {
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> entries = streamOps.range(EVENTS_PREFIX + taskId,
+            Range.rightUnbounded(Range.Bound.inclusive((afterSequence + 1) + "-0")));
+
+        if (entries == null || entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<TaskEventRecord> records = new ArrayList<>(entries.size());
+        for (MapRecord<String, String, String> entry : entries) {
+            try {
+                TaskStreamingResult event = objectMapper.readValue(entry.getValue().get(EVENT_FIELD), TaskStreamingResult.class);
+                records.add(new TaskEventRecord(taskId, entry.getId().getTimestamp(), event));
+            } catch (JsonProcessingException e) {
+                LOG.error("Failed to deserialize event {} for task: {}", entry.getId(), taskId, e);
+                throw new RuntimeException("Failed to deserialize event", e);
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public long lastSequence(String taskId) {
+        String sequence = redisTemplate.opsForValue().get(SEQUENCE_PREFIX + taskId);
+        return sequence != null ? Long.parseLong(sequence) : 0;
+    }
+
+    /**
+     * Closes the journal.
+     * This method should be called when the journal is no longer needed.
+     */
+    @Override
+    public void close() throws IOException {
+        // RedisTemplate doesn't require explicit closing
+        LOG.info("RedisTaskEventJournal closed");
+    }
+}
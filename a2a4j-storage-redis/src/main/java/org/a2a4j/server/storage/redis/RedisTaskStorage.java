@@ -17,6 +17,13 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Redis implementation of the TaskStorage interface.
@@ -28,8 +35,11 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskStorage.class);
     private static final String TASK_PREFIX = "task:";
     private static final String NOTIFICATION_PREFIX = "notification:";
+    /** Maximum number of keys per MGET, so that huge batches don't block Redis for long */
+    private static final int MGET_BATCH_SIZE = 500;
     
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> readRedisTemplate;
     private final ObjectMapper objectMapper;
     
     /**
@@ -48,18 +58,41 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
      * @param objectMapper the object mapper for JSON serialization
      */
     public RedisTaskStorage(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this(connectionFactory, connectionFactory, objectMapper);
+    }
+
+    /**
+     * Creates a new RedisTaskStorage that sends fetches to a separate connection factory,
+     * typically one that reads from replicas. Writes, and the reads that must see them
+     * ({@link #fetchForUpdate(String)} and notification configurations), always use the
+     * primary connection factory.
+     *
+     * @param connectionFactory the Redis connection factory for the primary
+     * @param readConnectionFactory the Redis connection factory for fetches
+     * @param objectMapper the object mapper for JSON serialization
+     */
+    public RedisTaskStorage(RedisConnectionFactory connectionFactory, RedisConnectionFactory readConnectionFactory,
+                            ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         
-        // Configure Redis template
-        this.redisTemplate = new RedisTemplate<>();
-        this.redisTemplate.setConnectionFactory(connectionFactory);
-        this.redisTemplate.setKeySerializer(new StringRedisSerializer());
-        this.redisTemplate.setValueSerializer(new StringRedisSerializer());
-        this.redisTemplate.afterPropertiesSet();
+        // Configure Redis templates
+        this.redisTemplate = createTemplate(connectionFactory);
+        this.readRedisTemplate = readConnectionFactory == connectionFactory
+            ? redisTemplate
+            : createTemplate(readConnectionFactory);
         
         LOG.info("RedisTaskStorage initialized");
     }
 
+    private static RedisTemplate<String, String> createTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
     /**
      * Stores a task in Redis.
      * If a task with the same ID already exists, it will be overwritten.
@@ -80,15 +113,31 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
     }
 
     /**
-     * Retrieves a task by its ID from Redis.
+     * Retrieves a task by its ID from Redis, reading from a replica if one is configured.
+     * The result may therefore lag behind recent stores.
      *
      * @param taskId The ID of the task to retrieve
      * @return The task if found, null otherwise
      */
     @Override
     public Task fetch(String taskId) {
+        return fetch(readRedisTemplate, taskId);
+    }
+
+    /**
+     * Retrieves a task by its ID from the Redis primary.
+     *
+     * @param taskId The ID of the task to retrieve
+     * @return The task if found, null otherwise
+     */
+    @Override
+    public Task fetchForUpdate(String taskId) {
+        return fetch(redisTemplate, taskId);
+    }
+
+    private Task fetch(RedisTemplate<String, String> template, String taskId) {
         String key = TASK_PREFIX + taskId;
-        String taskJson = redisTemplate.opsForValue().get(key);
+        String taskJson = template.opsForValue().get(key);
         
         if (taskJson == null) {
             LOG.debug("Task not found with ID: {}", taskId);
@@ -105,6 +154,49 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
         }
     }
 
+    /**
+     * Retrieves several tasks by their IDs from Redis.
+     * The tasks are read with MGET, in batches of up to {@value #MGET_BATCH_SIZE} keys.
+     *
+     * @param taskIds The IDs of the tasks to retrieve
+     * @return A map of task IDs to the tasks that were found
+     */
+    @Override
+    public Map<String, Task> fetchAll(Collection<String> taskIds) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        ids.removeIf(Objects::isNull);
+        Map<String, Task> tasks = new LinkedHashMap<>();
+
+        for (int from = 0; from < ids.size(); from += MGET_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + MGET_BATCH_SIZE, ids.size()));
+            List<String> keys = new ArrayList<>(batch.size());
+            for (String taskId : batch) {
+                keys.add(TASK_PREFIX + taskId);
+            }
+
+            List<String> values = readRedisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                continue;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                String taskJson = values.get(i);
+                if (taskJson == null) {
+                    continue;
+                }
+                try {
+                    tasks.put(batch.get(i), objectMapper.readValue(taskJson, Task.class));
+                } catch (JsonProcessingException e) {
+                    LOG.error("Failed to deserialize task: {}", batch.get(i), e);
+                    throw new RuntimeException("Failed to deserialize task", e);
+                }
+            }
+        }
+
+        LOG.debug("Retrieved {} of {} tasks", tasks.size(), ids.size());
+        return tasks;
+    }
+
     /**
      * Stores a push notification configuration for a task in Redis.
      * If a configuration for the same task ID already exists, it will be overwritten.
@@ -115,9 +207,8 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
      */
     @Override
     public void storeNotificationConfig(String taskId, PushNotificationConfig config) {
-        // Check if task exists
-        Task task = fetch(taskId);
-        if (task == null) {
+        // Check if task exists on the primary, a replica may not have seen it yet
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(TASK_PREFIX + taskId))) {
             throw new IllegalArgumentException("Task not found for " + taskId);
         }
         
@@ -133,7 +224,8 @@ public class RedisTaskStorage implements TaskStorage, Closeable {
     }
 
     /**
-     * Retrieves a push notification configuration for a task by its ID from Redis.
+     * Retrieves a push notification configuration for a task by its ID from the Redis primary,
+     * since it is typically read right after it was stored with the task.
      *
      * @param taskId The ID of the task whose configuration to retrieve
      * @return The push notification configuration if found, null otherwise
@@ -6,6 +6,8 @@ package org.a2a4j.server.storage.redis;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+
 import org.a2a4j.server.storage.TaskStorage;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 
 /**
  * Tests for the EnvTaskStorageProvider.
@@ -86,4 +90,61 @@ class EnvTaskStorageProviderTest {
         // Verify the storage is null due to exception
         assertNull(storage, "Task storage should be null when port is invalid");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testProvideWithReplicaReads() {
+        // Mock environment variables for reads from static replicas
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_HOST")).thenReturn("localhost");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_READ_FROM")).thenReturn("replicaPreferred");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_REPLICAS")).thenReturn("localhost:6380, localhost:6381");
+
+        // Call provide method
+        TaskStorage storage = provider.provide();
+
+        // Verify the storage is a RedisTaskStorage
+        assertNotNull(storage, "Task storage should not be null");
+        assertTrue(storage instanceof RedisTaskStorage, "Task storage should be a RedisTaskStorage");
+    }
+
+    @Test
+    void testProvideWithInvalidReadFrom() {
+        // Mock environment variables with an unknown read from policy
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_HOST")).thenReturn("localhost");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_READ_FROM")).thenReturn("somewhere");
+
+        // Call provide method
+        TaskStorage storage = provider.provide();
+
+        // Verify the storage is null due to exception
+        assertNull(storage, "Task storage should be null when the read from policy is invalid");
+    }
+
+    @Test
+    void testReadsUsePrimaryWithoutReadFrom() {
+        // Mock environment variables without a read from policy
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_HOST")).thenReturn("localhost");
+
+        // Verify no separate read connection is created
+        assertNull(EnvRedisConnectionFactory.createForReads(), "Reads should use the primary connection");
+    }
+
+    @Test
+    void testConnectionTuning() {
+        // Mock environment variables for connection tuning
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_HOST")).thenReturn("localhost");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_COMMAND_TIMEOUT_MS")).thenReturn("250");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_SHARE_NATIVE_CONNECTION")).thenReturn("false");
+        mockedSystem.when(() -> System.getenv("A2A_STORAGE_REDIS_POOL_SIZE")).thenReturn("8");
+
+        // Create the connection factory
+        LettuceConnectionFactory connectionFactory = EnvRedisConnectionFactory.create();
+
+        // Verify the options are applied
+        assertNotNull(connectionFactory, "Connection factory should not be null");
+        assertEquals(Duration.ofMillis(250), connectionFactory.getClientConfiguration().getCommandTimeout());
+        assertFalse(connectionFactory.getShareNativeConnection(), "Native connection should not be shared");
+        assertTrue(connectionFactory.getClientConfiguration() instanceof LettucePoolingClientConfiguration,
+            "Connections should be pooled");
+        connectionFactory.destroy();
+    }
+}